@@ -64,6 +64,11 @@
     public static void logSanitized(java.lang.String);
 }
 
+# 平台适配层 - Init.init 之前 Platform 按类名反射加载 Android 实现
+-keep class com.github.catvod.spider.AndroidPlatform {
+    public <init>();
+}
+
 # JavaScript 桥接类
 -keep class com.github.catvod.js.Function { *; }
 
@@ -3,8 +3,10 @@ package com.github.catvod;
 import android.app.Activity;
 import android.os.Bundle;
 
+import com.github.catvod.crawler.InstrumentedSpider;
 import com.github.catvod.crawler.Spider;
 import com.github.catvod.databinding.ActivityMainBinding;
+import com.github.catvod.server.LocalServer;
 import com.github.catvod.spider.Init;
 import com.github.catvod.spider.PTT;
 import com.google.gson.Gson;
@@ -34,11 +36,17 @@ public class MainActivity extends Activity {
         Logger.addLogAdapter(new AndroidLogAdapter());
         executor = Executors.newCachedThreadPool();
         executor.execute(this::initSpider);
-        spider = new PTT();
+        spider = new InstrumentedSpider(new PTT());
         initView();
         initEvent();
     }
 
+    @Override
+    protected void onDestroy() {
+        super.onDestroy();
+        LocalServer.get().stop();
+    }
+
     private void initView() {
         binding = ActivityMainBinding.inflate(getLayoutInflater());
         setContentView(binding.getRoot());
@@ -63,6 +71,10 @@ public class MainActivity extends Activity {
      */
     private void initSpider() {
         try {
+            // Demo 没有宿主 App，启动内嵌代理服务器以支持 proxy() 地址
+            LocalServer.get().start(0);
+            spider.siteKey = "demo";
+            LocalServer.get().register(spider);
             Init.init(getApplicationContext());
             spider.init(this, "");
         } catch (Throwable e) {
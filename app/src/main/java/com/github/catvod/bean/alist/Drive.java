@@ -4,9 +4,10 @@ import android.net.Uri;
 import android.text.TextUtils;
 
 import com.github.catvod.bean.Class;
+import com.github.catvod.bean.Pager;
 import com.github.catvod.net.OkHttp;
+import com.github.catvod.utils.Json;
 import com.github.catvod.utils.Util;
-import com.google.gson.Gson;
 import com.google.gson.annotations.SerializedName;
 import com.google.gson.reflect.TypeToken;
 
@@ -27,19 +28,21 @@ public class Drive {
     @SerializedName("server")
     private String server;
     @SerializedName("version")
-    private int version;
+    private volatile int version;
     @SerializedName("path")
-    private String path;
+    private volatile String path;
     @SerializedName("token")
     private String token;
     @SerializedName("search")
     private Boolean search;
     @SerializedName("hidden")
     private Boolean hidden;
+    @SerializedName("pageSize")
+    private Integer pageSize;
 
     public static List<Drive> arrayFrom(String str) {
         Type listType = new TypeToken<List<Drive>>() {}.getType();
-        return new Gson().fromJson(str, listType);
+        return Json.gson().fromJson(str, listType);
     }
 
     public List<Param> getParams() {
@@ -94,6 +97,13 @@ public class Drive {
         return hidden != null && hidden;
     }
 
+    /**
+     * 每页条目数，未配置时使用 {@link Pager#SIZE}
+     */
+    public int getPageSize() {
+        return Pager.size(pageSize);
+    }
+
     public boolean isNew() {
         return getVersion() == 3;
     }
@@ -132,23 +142,64 @@ public class Drive {
 
     public Drive check() {
         if (path == null) setPath(Uri.parse(getServer()).getPath());
-        if (version == 0) setVersion(OkHttp.string(settingsApi()).contains("v2.") ? 2 : 3);
+        if (version == 0) {
+            int detected = detect();
+            setVersion(detected == 0 ? 3 : detected);
+        }
         return this;
     }
 
+    /**
+     * 通过 /api/public/settings 判断版本
+     *
+     * @return 2 或 3，请求失败时为 0
+     */
+    public int detect() {
+        if (path == null) setPath(Uri.parse(getServer()).getPath());
+        String settings = OkHttp.string(settingsApi());
+        if (TextUtils.isEmpty(settings)) return 0;
+        return settings.contains("v2.") ? 2 : 3;
+    }
+
+    /**
+     * @return 当前探测结果，用于持久化
+     */
+    public Probe toProbe() {
+        return new Probe(getVersion(), getPath());
+    }
+
+    /**
+     * 使用持久化的探测结果，配置中已指定版本时不覆盖
+     */
+    public void apply(Probe probe) {
+        if (version != 0 || probe == null || probe.version == 0) return;
+        if (path == null) setPath(probe.path);
+        setVersion(probe.version);
+    }
+
     public String params(String keyword) {
+        return params(keyword, 1);
+    }
+
+    /**
+     * 搜索参数，只有 v3 支持分页
+     *
+     * @param keyword 关键词
+     * @param page    从 1 开始的页码
+     */
+    public String params(String keyword, int page) {
         if (isNew()) {
             Map<String, Object> params = new HashMap<>();
             params.put("keywords", keyword);
-            params.put("page", 1);
+            params.put("page", page);
             params.put("parent", "/");
             params.put("per_page", 100);
-            return new Gson().toJson(params);
+            return Json.gson().toJson(params);
         } else {
             Map<String, Object> params = new HashMap<>();
             params.put("keyword", keyword);
             params.put("path", "/");
-            return new Gson().toJson(params);
+            return Json.gson().toJson(params);
         }
     }
 
@@ -171,4 +222,37 @@ public class Drive {
         Drive it = (Drive) obj;
         return getName().equals(it.getName());
     }
+
+    /**
+     * 版本和路径的探测结果
+     */
+    public static class Probe {
+
+        @SerializedName("version")
+        private final int version;
+        @SerializedName("path")
+        private final String path;
+        @SerializedName("time")
+        private final long time;
+
+        Probe(int version, String path) {
+            this.version = version;
+            this.path = path;
+            this.time = System.currentTimeMillis();
+        }
+
+        public static Map<String, Probe> mapFrom(String str) {
+            try {
+                Type mapType = new TypeToken<Map<String, Probe>>() {}.getType();
+                Map<String, Probe> map = Json.gson().fromJson(str, mapType);
+                return map == null ? new HashMap<>() : map;
+            } catch (Exception e) {
+                return new HashMap<>();
+            }
+        }
+
+        public long getAge() {
+            return System.currentTimeMillis() - time;
+        }
+    }
 }
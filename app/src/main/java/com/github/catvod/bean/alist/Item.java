@@ -4,8 +4,8 @@ import android.text.TextUtils;
 
 import com.github.catvod.bean.Vod;
 import com.github.catvod.utils.Image;
+import com.github.catvod.utils.Json;
 import com.github.catvod.utils.Util;
-import com.google.gson.Gson;
 import com.google.gson.annotations.SerializedName;
 import com.google.gson.reflect.TypeToken;
 
@@ -33,12 +33,12 @@ public class Item {
     private String modified;
 
     public static Item objectFrom(String str) {
-        return new Gson().fromJson(str, Item.class);
+        return Json.gson().fromJson(str, Item.class);
     }
 
     public static List<Item> arrayFrom(String str) {
         Type listType = new TypeToken<List<Item>>() {}.getType();
-        return new Gson().fromJson(str, listType);
+        return Json.gson().fromJson(str, listType);
     }
 
     public String getName() {
@@ -0,0 +1,22 @@
+package com.github.catvod.bean.alist;
+
+import com.google.gson.annotations.SerializedName;
+
+import java.util.Collections;
+import java.util.List;
+
+public class Page {
+
+    @SerializedName("content")
+    private List<Item> content;
+    @SerializedName("total")
+    private int total;
+
+    public List<Item> getContent() {
+        return content == null ? Collections.emptyList() : content;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+}
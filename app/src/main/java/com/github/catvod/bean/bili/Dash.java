@@ -1,6 +1,6 @@
 package com.github.catvod.bean.bili;
 
-import com.google.gson.Gson;
+import com.github.catvod.utils.Json;
 import com.google.gson.annotations.SerializedName;
 
 import java.util.Collections;
@@ -18,7 +18,7 @@ public class Dash {
     private List<Media> audio;
 
     public static Dash objectFrom(String str) {
-        return new Gson().fromJson(str, Dash.class);
+        return Json.gson().fromJson(str, Dash.class);
     }
 
     public String getDuration() {
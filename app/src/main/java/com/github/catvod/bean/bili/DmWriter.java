@@ -0,0 +1,236 @@
+package com.github.catvod.bean.bili;
+
+import android.util.Xml;
+
+import org.xmlpull.v1.XmlPullParser;
+import org.xmlpull.v1.XmlPullParserException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 弹幕合并输出
+ * <p>
+ * 读取 list.so 的 XML 弹幕和 seg.so 的分段 protobuf 弹幕，按弹幕 id 去重后
+ * 逐条写成 list.so 格式的 XML。XML 用 pull 解析，边读边写，不在内存中保留整个弹幕列表。
+ * </p>
+ *
+ * <h3>使用示例：</h3>
+ * <pre>
+ * try (DmWriter writer = new DmWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), cid)) {
+ *     writer.readXml(xml);
+ *     writer.readSeg(seg);
+ * }
+ * </pre>
+ */
+public final class DmWriter implements Closeable {
+
+    private final Writer writer;
+    private final Set<String> ids;
+
+    public DmWriter(Writer writer, String cid) throws IOException {
+        this.writer = writer;
+        this.ids = new HashSet<>();
+        writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?><i><chatserver>chat.bilibili.com</chatserver><chatid>");
+        writer.write(cid);
+        writer.write("</chatid>\n");
+    }
+
+    /**
+     * @return 已写入的弹幕条数
+     */
+    public int size() {
+        return ids.size();
+    }
+
+    /**
+     * 读取 list.so 返回的 XML（已解压）
+     *
+     * @return 新写入的条数
+     */
+    public int readXml(InputStream in) throws IOException {
+        int count = 0;
+        try {
+            XmlPullParser parser = Xml.newPullParser();
+            parser.setInput(in, StandardCharsets.UTF_8.name());
+            for (int event = parser.next(); event != XmlPullParser.END_DOCUMENT; event = parser.next()) {
+                if (event != XmlPullParser.START_TAG || !"d".equals(parser.getName())) continue;
+                String p = parser.getAttributeValue(null, "p");
+                String text = parser.nextText();
+                if (p != null && add(field(p, 7, p + text), p, text)) count++;
+            }
+        } catch (XmlPullParserException e) {
+            throw new IOException(e);
+        }
+        return count;
+    }
+
+    /**
+     * 读取 seg.so 返回的 protobuf（DmSegMobileReply）
+     *
+     * @return 新写入的条数
+     */
+    public int readSeg(byte[] data) throws IOException {
+        int count = 0;
+        Proto reply = new Proto(data, 0, data.length);
+        while (reply.hasNext()) {
+            int tag = reply.tag();
+            if (tag >>> 3 == 1 && (tag & 7) == 2) {
+                if (readElem(reply.message())) count++;
+            } else {
+                reply.skip(tag);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * DanmakuElem：2 progress（毫秒）、3 mode、4 fontsize、5 color、6 midHash、7 content、8 ctime、9 weight、11 pool、12 idStr
+     */
+    private boolean readElem(Proto elem) throws IOException {
+        long progress = 0;
+        long mode = 1;
+        long fontsize = 25;
+        long color = 16777215;
+        long ctime = 0;
+        long weight = 0;
+        long pool = 0;
+        String midHash = "";
+        String content = "";
+        String id = "";
+        while (elem.hasNext()) {
+            int tag = elem.tag();
+            switch (tag >>> 3) {
+                case 2 -> progress = elem.varint();
+                case 3 -> mode = elem.varint();
+                case 4 -> fontsize = elem.varint();
+                case 5 -> color = elem.varint();
+                case 6 -> midHash = elem.string();
+                case 7 -> content = elem.string();
+                case 8 -> ctime = elem.varint();
+                case 9 -> weight = elem.varint();
+                case 11 -> pool = elem.varint();
+                case 12 -> id = elem.string();
+                default -> elem.skip(tag);
+            }
+        }
+        String time = progress / 1000 + "." + (progress % 1000 + 1000 + "").substring(1);
+        String p = time + "," + mode + "," + fontsize + "," + color + "," + ctime + "," + pool + "," + midHash + "," + id + "," + weight;
+        return add(id.isEmpty() ? p + content : id, p, content);
+    }
+
+    private boolean add(String id, String p, String text) throws IOException {
+        if (!ids.add(id)) return false;
+        writer.write("<d p=\"");
+        escape(p);
+        writer.write("\">");
+        escape(text);
+        writer.write("</d>\n");
+        return true;
+    }
+
+    private void escape(String text) throws IOException {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '&') writer.write("&amp;");
+            else if (c == '<') writer.write("&lt;");
+            else if (c == '>') writer.write("&gt;");
+            else if (c == '"') writer.write("&quot;");
+            else if (c >= 0x20 || c == '\t' || c == '\n' || c == '\r') writer.write(c);
+        }
+    }
+
+    private static String field(String p, int index, String fallback) {
+        int start = 0;
+        for (int i = 0; i < index; i++) {
+            start = p.indexOf(',', start) + 1;
+            if (start == 0) return fallback;
+        }
+        int end = p.indexOf(',', start);
+        return end < 0 ? p.substring(start) : p.substring(start, end);
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            writer.write("</i>");
+        } finally {
+            writer.close();
+        }
+    }
+
+    /**
+     * 只支持本类用到的 protobuf 线格式读取
+     */
+    private static final class Proto {
+
+        private final byte[] data;
+        private final int end;
+        private int pos;
+
+        Proto(byte[] data, int pos, int end) {
+            this.data = data;
+            this.pos = pos;
+            this.end = end;
+        }
+
+        boolean hasNext() {
+            return pos < end;
+        }
+
+        int tag() throws IOException {
+            return (int) varint();
+        }
+
+        long varint() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                if (pos >= end) throw new IOException("Truncated varint");
+                byte b = data[pos++];
+                value |= (long) (b & 0x7f) << shift;
+                if (b >= 0) return value;
+            }
+            throw new IOException("Malformed varint");
+        }
+
+        Proto message() throws IOException {
+            int length = length();
+            Proto proto = new Proto(data, pos, pos + length);
+            pos += length;
+            return proto;
+        }
+
+        String string() throws IOException {
+            int length = length();
+            String value = new String(data, pos, length, StandardCharsets.UTF_8);
+            pos += length;
+            return value;
+        }
+
+        void skip(int tag) throws IOException {
+            switch (tag & 7) {
+                case 0 -> varint();
+                case 1 -> move(8);
+                case 2 -> move(length());
+                case 5 -> move(4);
+                default -> throw new IOException("Unsupported wire type: " + (tag & 7));
+            }
+        }
+
+        private int length() throws IOException {
+            long length = varint();
+            if (length < 0 || length > end - pos) throw new IOException("Truncated message");
+            return (int) length;
+        }
+
+        private void move(int count) throws IOException {
+            if (count > end - pos) throw new IOException("Truncated message");
+            pos += count;
+        }
+    }
+}
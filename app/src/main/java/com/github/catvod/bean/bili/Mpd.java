@@ -0,0 +1,157 @@
+package com.github.catvod.bean.bili;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DASH 清单生成
+ * <p>
+ * 由 playurl 返回的 {@link Dash} 生成 MPD。视频按编码分组，每组一个 AdaptationSet，
+ * 组内包含不高于指定清晰度的全部画质，由播放器自行切换码率；音频只保留已知的三种码率。
+ * 直接拼接到 StringBuilder，不经过 String.format。
+ * </p>
+ * <p>
+ * 传入 {@link BaseUrl} 时可以改写各 Representation 的 BaseURL，例如指向本地代理。
+ * </p>
+ *
+ * <h3>使用示例：</h3>
+ * <pre>
+ * byte[] mpd = Mpd.write(play.getDash(), 80).getBytes();
+ * </pre>
+ */
+public final class Mpd {
+
+    /**
+     * 音频 id 与 sampleRate 属性的对应
+     */
+    private static final Map<String, String> AUDIO;
+
+    static {
+        Map<String, String> audio = new HashMap<>();
+        audio.put("30280", "192000");
+        audio.put("30232", "132000");
+        audio.put("30216", "64000");
+        AUDIO = Collections.unmodifiableMap(audio);
+    }
+
+    private Mpd() {
+    }
+
+    /**
+     * @param dash 播放信息
+     * @param qn   最高清晰度，没有不高于它的画质时保留全部画质
+     * @return MPD 文本
+     */
+    public static String write(Dash dash, int qn) {
+        return write(dash, qn, null);
+    }
+
+    /**
+     * @param dash    播放信息
+     * @param qn      最高清晰度
+     * @param baseUrl BaseURL 改写，为 null 时使用原地址
+     * @return MPD 文本
+     */
+    public static String write(Dash dash, int qn, BaseUrl baseUrl) {
+        StringBuilder sb = new StringBuilder(2048);
+        sb.append("<MPD xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xmlns=\"urn:mpeg:dash:schema:mpd:2011\" xsi:schemaLocation=\"urn:mpeg:dash:schema:mpd:2011 DASH-MPD.xsd\" type=\"static\" mediaPresentationDuration=\"PT").append(dash.getDuration());
+        sb.append("S\" minBufferTime=\"PT").append(dash.getMinBufferTime()).append("S\" profiles=\"urn:mpeg:dash:profile:isoff-on-demand:2011\">\n");
+        sb.append("<Period duration=\"PT").append(dash.getDuration()).append("S\" start=\"PT0S\">\n");
+        for (List<Media> videos : group(dash.getVideo(), qn).values()) writeSet(sb, "video", videos, baseUrl);
+        List<Media> audios = getAudio(dash);
+        if (!audios.isEmpty()) writeSet(sb, "audio", audios, baseUrl);
+        return sb.append("</Period>\n</MPD>").toString();
+    }
+
+    /**
+     * 播放器起播时最可能选中的 Representation：第一组视频中清晰度最高的一个和第一个音频
+     *
+     * @param dash 播放信息
+     * @param qn   最高清晰度
+     * @return 最多两个
+     */
+    public static List<Media> preferred(Dash dash, int qn) {
+        List<Media> medias = new ArrayList<>();
+        for (List<Media> videos : group(dash.getVideo(), qn).values()) {
+            Media best = videos.get(0);
+            for (Media video : videos) if (quality(video) > quality(best)) best = video;
+            medias.add(best);
+            break;
+        }
+        List<Media> audios = getAudio(dash);
+        if (!audios.isEmpty()) medias.add(audios.get(0));
+        return medias;
+    }
+
+    private static List<Media> getAudio(Dash dash) {
+        List<Media> audios = new ArrayList<>();
+        for (Media audio : dash.getAudio()) if (AUDIO.containsKey(audio.getId())) audios.add(audio);
+        return audios;
+    }
+
+    private static Map<String, List<Media>> group(List<Media> videos, int qn) {
+        Map<String, List<Media>> groups = new LinkedHashMap<>();
+        for (Media video : videos) if (quality(video) <= qn) add(groups, video);
+        if (groups.isEmpty()) for (Media video : videos) add(groups, video);
+        return groups;
+    }
+
+    private static void add(Map<String, List<Media>> groups, Media video) {
+        List<Media> list = groups.get(video.getCodecId());
+        if (list == null) groups.put(video.getCodecId(), list = new ArrayList<>());
+        list.add(video);
+    }
+
+    private static int quality(Media media) {
+        try {
+            return Integer.parseInt(media.getId());
+        } catch (NumberFormatException e) {
+            return Integer.MAX_VALUE;
+        }
+    }
+
+    private static void writeSet(StringBuilder sb, String type, List<Media> medias, BaseUrl baseUrl) {
+        sb.append("<AdaptationSet>\n<ContentComponent contentType=\"").append(type).append("\"/>\n");
+        for (Media media : medias) writeRepresentation(sb, media, baseUrl == null ? media.getBaseUrl() : baseUrl.get(media));
+        sb.append("</AdaptationSet>\n");
+    }
+
+    private static void writeRepresentation(StringBuilder sb, Media media, String url) {
+        sb.append("<Representation id=\"").append(media.getId()).append('_').append(media.getCodecId());
+        sb.append("\" bandwidth=\"").append(media.getBandWidth());
+        sb.append("\" codecs=\"").append(media.getCodecs());
+        sb.append("\" mimeType=\"").append(media.getMimeType()).append('"');
+        if (media.getMimeType().startsWith("video")) {
+            sb.append(" height=\"").append(media.getHeight()).append("\" width=\"").append(media.getWidth());
+            sb.append("\" frameRate=\"").append(media.getFrameRate()).append("\" sar=\"").append(media.getSar()).append('"');
+        } else {
+            sb.append(" numChannels=\"2\" sampleRate=\"").append(AUDIO.get(media.getId())).append('"');
+        }
+        sb.append(" startWithSAP=\"").append(media.getStartWithSap()).append("\">\n<BaseURL>");
+        escape(sb, url);
+        sb.append("</BaseURL>\n<SegmentBase indexRange=\"").append(media.getSegmentBase().getIndexRange());
+        sb.append("\">\n<Initialization range=\"").append(media.getSegmentBase().getInitialization()).append("\"/>\n</SegmentBase>\n</Representation>\n");
+    }
+
+    private static void escape(StringBuilder sb, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '&') sb.append("&amp;");
+            else if (c == '<') sb.append("&lt;");
+            else if (c == '>') sb.append("&gt;");
+            else sb.append(c);
+        }
+    }
+
+    /**
+     * BaseURL 改写
+     */
+    public interface BaseUrl {
+
+        String get(Media media);
+    }
+}
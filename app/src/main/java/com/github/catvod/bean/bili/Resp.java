@@ -3,7 +3,7 @@ package com.github.catvod.bean.bili;
 import android.text.TextUtils;
 
 import com.github.catvod.bean.Vod;
-import com.google.gson.Gson;
+import com.github.catvod.utils.Json;
 import com.google.gson.JsonElement;
 import com.google.gson.annotations.SerializedName;
 import com.google.gson.reflect.TypeToken;
@@ -23,7 +23,7 @@ public class Resp {
     private Data data;
 
     public static Resp objectFrom(String str) {
-        return new Gson().fromJson(str, Resp.class);
+        return Json.gson().fromJson(str, Resp.class);
     }
 
     public Data getData() {
@@ -47,7 +47,7 @@ public class Resp {
 
         public static List<Result> arrayFrom(JsonElement str) {
             Type listType = new TypeToken<List<Result>>() {}.getType();
-            return new Gson().fromJson(str, listType);
+            return Json.gson().fromJson(str, listType);
         }
 
         public String getBvId() {
@@ -16,4 +16,22 @@ public class Segment {
     public String getIndexRange() {
         return indexRange;
     }
+
+    /**
+     * 初始化段和索引都位于文件开头，取两个区间中较大的结束位置
+     *
+     * @return 需要预取的最后一个字节，区间无效时为 -1
+     */
+    public long getHeadEnd() {
+        return Math.max(getEnd(initialization), getEnd(indexRange));
+    }
+
+    private static long getEnd(String range) {
+        if (range == null) return -1;
+        try {
+            return Long.parseLong(range.substring(range.indexOf('-') + 1).trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
 }
@@ -4,6 +4,7 @@ import android.net.Uri;
 import android.text.TextUtils;
 
 import com.github.catvod.utils.Crypto;
+import com.github.catvod.utils.Json;
 import com.github.catvod.utils.Util;
 import com.google.gson.annotations.SerializedName;
 
@@ -12,12 +13,25 @@ import java.util.LinkedHashMap;
 
 public class Wbi {
 
-    private final int[] mixinKeyEncTab = new int[]{46, 47, 18, 2, 53, 8, 23, 32, 15, 50, 10, 31, 58, 3, 45, 35, 27, 43, 5, 49, 33, 9, 42, 19, 29, 28, 14, 39, 12, 38, 41, 13, 37, 48, 7, 16, 24, 55, 40, 61, 26, 17, 0, 1, 60, 51, 30, 4, 22, 25, 54, 21, 56, 59, 6, 63, 57, 62, 11, 36, 20, 34, 44, 52};
+    private static final int[] mixinKeyEncTab = new int[]{46, 47, 18, 2, 53, 8, 23, 32, 15, 50, 10, 31, 58, 3, 45, 35, 27, 43, 5, 49, 33, 9, 42, 19, 29, 28, 14, 39, 12, 38, 41, 13, 37, 48, 7, 16, 24, 55, 40, 61, 26, 17, 0, 1, 60, 51, 30, 4, 22, 25, 54, 21, 56, 59, 6, 63, 57, 62, 11, 36, 20, 34, 44, 52};
 
     @SerializedName("img_url")
     private String imgUrl;
     @SerializedName("sub_url")
     private String subUrl;
+    @SerializedName("time")
+    private long time;
+
+    private transient String mixinKey;
+
+    public static Wbi objectFrom(String str) {
+        try {
+            Wbi wbi = Json.gson().fromJson(str, Wbi.class);
+            return wbi == null || wbi.getMixinKey().isEmpty() ? null : wbi;
+        } catch (Exception e) {
+            return null;
+        }
+    }
 
     public String getImgUrl() {
         return TextUtils.isEmpty(imgUrl) ? "" : imgUrl;
@@ -27,21 +41,53 @@ public class Wbi {
         return TextUtils.isEmpty(subUrl) ? "" : subUrl;
     }
 
-    private String getMixinKey(String imgKey, String subKey) {
+    /**
+     * 记录取得密钥的时间，用于判断是否需要刷新
+     *
+     * @return 当前对象
+     */
+    public Wbi stamp() {
+        time = System.currentTimeMillis();
+        return this;
+    }
+
+    /**
+     * @return 距取得密钥的毫秒数
+     */
+    public long getAge() {
+        return System.currentTimeMillis() - time;
+    }
+
+    /**
+     * 混合密钥，首次使用时计算
+     *
+     * @return 32 位密钥，img_url 或 sub_url 无效时为空字符串
+     */
+    public String getMixinKey() {
+        if (mixinKey == null) mixinKey = getMixinKey(getKey(getImgUrl()), getKey(getSubUrl()));
+        return mixinKey;
+    }
+
+    private static String getKey(String url) {
+        String name = Uri.parse(url).getLastPathSegment();
+        return name == null ? "" : name.split("\\.")[0];
+    }
+
+    private static String getMixinKey(String imgKey, String subKey) {
         String s = imgKey + subKey;
+        if (s.length() < 64) return "";
         StringBuilder key = new StringBuilder();
         for (int i = 0; i < 32; i++) key.append(s.charAt(mixinKeyEncTab[i]));
         return key.toString();
     }
 
     public String getQuery(LinkedHashMap<String, Object> params) {
-        String imgKey = Uri.parse(getImgUrl()).getLastPathSegment().split("\\.")[0];
-        String subKey = Uri.parse(getSubUrl()).getLastPathSegment().split("\\.")[0];
-        String mixinKey = getMixinKey(imgKey, subKey);
+        String mixinKey = getMixinKey();
         StringBuilder sb = new StringBuilder();
         params.put("wts", System.currentTimeMillis() / 1000);
         for (String key : params.keySet()) sb.append(key).append("=").append(URLEncoder.encode(params.get(key).toString())).append("&");
         String query = Util.substring(sb.toString());
+        if (mixinKey.isEmpty()) return query;
         String w_rid = Crypto.md5(query + mixinKey);
         return query + "&w_rid=" + w_rid;
     }
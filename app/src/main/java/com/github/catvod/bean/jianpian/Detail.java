@@ -1,6 +1,6 @@
 package com.github.catvod.bean.jianpian;
 
-import com.google.gson.Gson;
+import com.github.catvod.utils.Json;
 import com.google.gson.annotations.SerializedName;
 
 public class Detail {
@@ -9,7 +9,7 @@ public class Detail {
     private Data data;
 
     public static Detail objectFrom(String str) {
-        return new Gson().fromJson(str, Detail.class);
+        return Json.gson().fromJson(str, Detail.class);
     }
 
     public Data getData() {
@@ -1,6 +1,6 @@
 package com.github.catvod.bean.jianpian;
 
-import com.google.gson.Gson;
+import com.github.catvod.utils.Json;
 import com.google.gson.annotations.SerializedName;
 
 import java.util.Collections;
@@ -12,7 +12,7 @@ public class Resp {
     private List<Data> data;
 
     public static Resp objectFrom(String str) {
-        return new Gson().fromJson(str, Resp.class);
+        return Json.gson().fromJson(str, Resp.class);
     }
 
     public List<Data> getData() {
@@ -3,7 +3,7 @@ package com.github.catvod.bean.jianpian;
 import android.text.TextUtils;
 
 import com.github.catvod.bean.Vod;
-import com.google.gson.Gson;
+import com.github.catvod.utils.Json;
 import com.google.gson.annotations.SerializedName;
 
 import java.util.Collections;
@@ -23,7 +23,7 @@ public class Search {
     private String mask;
 
     public static Search objectFrom(String str) {
-        return new Gson().fromJson(str, Search.class);
+        return Json.gson().fromJson(str, Search.class);
     }
 
     public String getId() {
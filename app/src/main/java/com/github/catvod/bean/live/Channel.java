@@ -2,7 +2,7 @@ package com.github.catvod.bean.live;
 
 import android.text.TextUtils;
 
-import com.google.gson.Gson;
+import com.github.catvod.utils.Json;
 import com.google.gson.JsonElement;
 import com.google.gson.annotations.SerializedName;
 
@@ -30,7 +30,7 @@ public class Channel {
     private String referer;
 
     public static Channel objectFrom(JsonElement element) {
-        return new Gson().fromJson(element, Channel.class);
+        return Json.gson().fromJson(element, Channel.class);
     }
 
     public static Channel create(String name) {
@@ -2,7 +2,7 @@ package com.github.catvod.bean.live;
 
 import android.text.TextUtils;
 
-import com.google.gson.Gson;
+import com.github.catvod.utils.Json;
 import com.google.gson.annotations.SerializedName;
 import com.google.gson.reflect.TypeToken;
 
@@ -20,7 +20,7 @@ public class Group {
 
     public static List<Group> arrayFrom(String str) {
         Type listType = new TypeToken<List<Group>>() {}.getType();
-        List<Group> items = new Gson().fromJson(str, listType);
+        List<Group> items = Json.gson().fromJson(str, listType);
         return items == null ? Collections.emptyList() : items;
     }
 
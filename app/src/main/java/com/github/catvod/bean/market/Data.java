@@ -4,7 +4,7 @@ import android.text.TextUtils;
 
 import com.github.catvod.bean.Class;
 import com.github.catvod.bean.Vod;
-import com.google.gson.Gson;
+import com.github.catvod.utils.Json;
 import com.google.gson.annotations.SerializedName;
 import com.google.gson.reflect.TypeToken;
 
@@ -22,7 +22,7 @@ public class Data {
 
     public static List<Data> arrayFrom(String str) {
         Type listType = new TypeToken<ArrayList<Data>>() {}.getType();
-        return new Gson().fromJson(str, listType);
+        return Json.gson().fromJson(str, listType);
     }
 
     public String getName() {
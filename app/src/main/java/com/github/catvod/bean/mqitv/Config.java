@@ -5,7 +5,7 @@ import android.net.Uri;
 import androidx.annotation.Nullable;
 
 import com.github.catvod.net.OkHttp;
-import com.google.gson.Gson;
+import com.github.catvod.utils.Json;
 import com.google.gson.annotations.SerializedName;
 import com.google.gson.reflect.TypeToken;
 
@@ -29,7 +29,7 @@ public class Config {
 
     public static List<Config> arrayFrom(String str) {
         Type listType = new TypeToken<List<Config>>() {}.getType();
-        return new Gson().fromJson(str, listType);
+        return Json.gson().fromJson(str, listType);
     }
 
     public Config(String url) {
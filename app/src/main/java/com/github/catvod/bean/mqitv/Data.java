@@ -1,6 +1,6 @@
 package com.github.catvod.bean.mqitv;
 
-import com.google.gson.Gson;
+import com.github.catvod.utils.Json;
 import com.google.gson.annotations.SerializedName;
 
 import java.util.Collections;
@@ -23,7 +23,7 @@ public class Data {
 
     public static Data objectFrom(String str) {
         try {
-            Data data = new Gson().fromJson(str, Data.class);
+            Data data = Json.gson().fromJson(str, Data.class);
             return data == null ? new Data() : data;
         } catch (Exception e) {
             return new Data();
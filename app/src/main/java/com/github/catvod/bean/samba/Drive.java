@@ -4,7 +4,9 @@ import android.net.Uri;
 import android.text.TextUtils;
 
 import com.github.catvod.bean.Class;
-import com.google.gson.Gson;
+import com.github.catvod.bean.Pager;
+import com.github.catvod.utils.Json;
+import com.github.catvod.utils.Logger;
 import com.google.gson.annotations.SerializedName;
 import com.google.gson.reflect.TypeToken;
 import com.hierynomus.smbj.SMBClient;
@@ -12,7 +14,6 @@ import com.hierynomus.smbj.auth.AuthenticationContext;
 import com.hierynomus.smbj.connection.Connection;
 import com.hierynomus.smbj.session.Session;
 import com.hierynomus.smbj.share.DiskShare;
-import com.orhanobut.logger.Logger;
 
 import java.io.IOException;
 import java.lang.reflect.Type;
@@ -24,6 +25,8 @@ public class Drive {
     private String name;
     @SerializedName("server")
     private String server;
+    @SerializedName("pageSize")
+    private Integer pageSize;
 
     private Connection connection;
     private SMBClient smbClient;
@@ -33,7 +36,7 @@ public class Drive {
 
     public static List<Drive> arrayFrom(String str) {
         Type listType = new TypeToken<List<Drive>>() {}.getType();
-        return new Gson().fromJson(str, listType);
+        return Json.gson().fromJson(str, listType);
     }
 
     public Drive(String name) {
@@ -48,6 +51,13 @@ public class Drive {
         return TextUtils.isEmpty(server) ? "" : server;
     }
 
+    /**
+     * 每页条目数，未配置时使用 {@link Pager#SIZE}
+     */
+    public int getPageSize() {
+        return Pager.size(pageSize);
+    }
+
     public String getSubPath() {
         return TextUtils.isEmpty(subPath) ? "" : subPath;
     }
@@ -4,9 +4,10 @@ import android.net.Uri;
 import android.text.TextUtils;
 
 import com.github.catvod.bean.Class;
+import com.github.catvod.bean.Pager;
 import com.github.catvod.bean.Vod;
+import com.github.catvod.utils.Json;
 import com.github.catvod.utils.Util;
-import com.google.gson.Gson;
 import com.google.gson.annotations.SerializedName;
 import com.google.gson.reflect.TypeToken;
 import com.thegrizzlylabs.sardineandroid.DavResource;
@@ -28,12 +29,14 @@ public class Drive {
     private String pass;
     @SerializedName("path")
     private String path;
+    @SerializedName("pageSize")
+    private Integer pageSize;
 
     private Sardine webdav;
 
     public static List<Drive> arrayFrom(String str) {
         Type listType = new TypeToken<List<Drive>>() {}.getType();
-        return new Gson().fromJson(str, listType);
+        return Json.gson().fromJson(str, listType);
     }
 
     public Drive(String name) {
@@ -56,6 +59,13 @@ public class Drive {
         return TextUtils.isEmpty(pass) ? "" : pass;
     }
 
+    /**
+     * 每页条目数，未配置时使用 {@link Pager#SIZE}
+     */
+    public int getPageSize() {
+        return Pager.size(pageSize);
+    }
+
     public String getPath() {
         return TextUtils.isEmpty(path) ? "" : path;
     }
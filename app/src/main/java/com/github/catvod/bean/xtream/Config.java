@@ -1,6 +1,6 @@
 package com.github.catvod.bean.xtream;
 
-import com.google.gson.Gson;
+import com.github.catvod.utils.Json;
 import com.google.gson.annotations.SerializedName;
 
 import java.util.Arrays;
@@ -22,7 +22,7 @@ public class Config {
     private String pass;
 
     public static Config objectFrom(String str) {
-        Config item = new Gson().fromJson(str, Config.class);
+        Config item = Json.gson().fromJson(str, Config.class);
         return item == null ? new Config() : item;
     }
 
@@ -2,7 +2,7 @@ package com.github.catvod.bean.xtream;
 
 import android.text.TextUtils;
 
-import com.google.gson.Gson;
+import com.github.catvod.utils.Json;
 import com.google.gson.annotations.SerializedName;
 import com.google.gson.reflect.TypeToken;
 
@@ -19,7 +19,7 @@ public class XCategory {
 
     public static List<XCategory> arrayFrom(String str) {
         Type listType = new TypeToken<List<XCategory>>() {}.getType();
-        List<XCategory> items = new Gson().fromJson(str, listType);
+        List<XCategory> items = Json.gson().fromJson(str, listType);
         return items == null ? Collections.emptyList() : items;
     }
 
@@ -2,7 +2,7 @@ package com.github.catvod.bean.xtream;
 
 import android.text.TextUtils;
 
-import com.google.gson.Gson;
+import com.github.catvod.utils.Json;
 import com.google.gson.annotations.SerializedName;
 import com.google.gson.reflect.TypeToken;
 
@@ -32,7 +32,7 @@ public class XStream {
 
     public static List<XStream> arrayFrom(String str) {
         Type listType = new TypeToken<List<XStream>>() {}.getType();
-        List<XStream> items = new Gson().fromJson(str, listType);
+        List<XStream> items = Json.gson().fromJson(str, listType);
         return items == null ? Collections.emptyList() : items;
     }
 
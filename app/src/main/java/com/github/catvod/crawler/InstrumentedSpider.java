@@ -0,0 +1,139 @@
+package com.github.catvod.crawler;
+
+import android.content.Context;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 带统计的爬虫包装
+ * <p>
+ * 把调用转发给被包装的爬虫，并按 siteKey 记录每个方法的耗时、返回字符串长度、
+ * 抛出的异常和空结果到 {@link SpiderStats}。异常照常抛出，不改变原爬虫的行为。
+ * 宿主自己创建爬虫实例时（如 Demo 的 MainActivity，以及 {@link com.github.catvod.server.LocalServer} 的其它调用方）可用本类包装。
+ * </p>
+ *
+ * <h3>使用示例：</h3>
+ * <pre>
+ * Spider spider = new InstrumentedSpider(new Bili());
+ * spider.siteKey = "bili";
+ * spider.init(context, extend);
+ * String stats = spider.action("stats");
+ * </pre>
+ */
+public class InstrumentedSpider extends Spider {
+
+    private final Spider spider;
+
+    public InstrumentedSpider(Spider spider) {
+        this.spider = spider;
+    }
+
+    private SpiderStats stats() {
+        return SpiderStats.get(siteKey != null ? siteKey : spider.siteKey);
+    }
+
+    /**
+     * 调用被包装的爬虫并记录耗时；字符串结果按长度计，其它非 null 结果计 1
+     */
+    private <T> T time(String method, Call<T> call) throws Exception {
+        long start = System.nanoTime();
+        try {
+            T result = call.call();
+            stats().record(method, start, result == null ? 0 : result instanceof String ? ((String) result).length() : 1);
+            return result;
+        } catch (Exception e) {
+            stats().error(method, start);
+            throw e;
+        }
+    }
+
+    @Override
+    public void init(Context context) throws Exception {
+        if (siteKey != null) spider.siteKey = siteKey;
+        time("init", () -> {
+            spider.init(context);
+            return Boolean.TRUE;
+        });
+    }
+
+    @Override
+    public void init(Context context, String extend) throws Exception {
+        if (siteKey != null) spider.siteKey = siteKey;
+        time("init", () -> {
+            spider.init(context, extend);
+            return Boolean.TRUE;
+        });
+    }
+
+    @Override
+    public String homeContent(boolean filter) throws Exception {
+        return time("home", () -> spider.homeContent(filter));
+    }
+
+    @Override
+    public String homeVideoContent() throws Exception {
+        return time("homeVideo", spider::homeVideoContent);
+    }
+
+    @Override
+    public String categoryContent(String tid, String pg, boolean filter, HashMap<String, String> extend) throws Exception {
+        return time("category", () -> spider.categoryContent(tid, pg, filter, extend));
+    }
+
+    @Override
+    public String detailContent(List<String> ids) throws Exception {
+        return time("detail", () -> spider.detailContent(ids));
+    }
+
+    @Override
+    public String searchContent(String key, boolean quick) throws Exception {
+        return time("search", () -> spider.searchContent(key, quick));
+    }
+
+    @Override
+    public String searchContent(String key, boolean quick, String pg) throws Exception {
+        return time("search", () -> spider.searchContent(key, quick, pg));
+    }
+
+    @Override
+    public String playerContent(String flag, String id, List<String> vipFlags) throws Exception {
+        return time("player", () -> spider.playerContent(flag, id, vipFlags));
+    }
+
+    @Override
+    public String liveContent(String url) throws Exception {
+        return time("live", () -> spider.liveContent(url));
+    }
+
+    @Override
+    public Object[] proxy(Map<String, String> params) throws Exception {
+        return time("proxy", () -> spider.proxy(params));
+    }
+
+    @Override
+    public String action(String action) throws Exception {
+        return spider.action(action);
+    }
+
+    @Override
+    public boolean manualVideoCheck() throws Exception {
+        return spider.manualVideoCheck();
+    }
+
+    @Override
+    public boolean isVideoFormat(String url) throws Exception {
+        return spider.isVideoFormat(url);
+    }
+
+    @Override
+    public void destroy() {
+        spider.destroy();
+    }
+
+    private interface Call<T> {
+
+        T call() throws Exception;
+    }
+}
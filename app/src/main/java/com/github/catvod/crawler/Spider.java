@@ -3,6 +3,7 @@ package com.github.catvod.crawler;
 import android.content.Context;
 
 import com.github.catvod.api.contract.ISpider;
+import com.github.catvod.utils.Logger;
 
 import java.util.HashMap;
 import java.util.List;
@@ -311,12 +312,16 @@ public abstract class Spider implements ISpider {
      * 自定义操作
      * <p>
      * 处理自定义的操作指令，扩展功能用。
+     * 内置指令：{@code "log"} 返回 {@link Logger} 缓冲区中最近的日志，
+     * {@code "stats"} 返回各站点的 {@link SpiderStats} 快照（JSON）。子类重写时请交给父类处理。
      * </p>
      *
      * @param action 操作指令
      * @return 操作结果
      */
     public String action(String action) throws Exception {
+        if ("log".equals(action)) return Logger.dump();
+        if ("stats".equals(action)) return SpiderStats.snapshot();
         return null;
     }
 
@@ -0,0 +1,129 @@
+package com.github.catvod.net;
+
+import com.github.catvod.utils.Crypto;
+import com.github.catvod.utils.Json;
+import com.google.gson.Gson;
+import com.google.gson.annotations.SerializedName;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * HTTP 录制样本（一次请求/响应）
+ * <p>
+ * 由 {@link FixtureRecorder} 写入样本目录，每个样本包含两个文件：
+ * <ul>
+ *   <li>{@code <key>.json} - 请求、响应头和耗时等元数据（本类）</li>
+ *   <li>{@code <key>.body} - 原始响应体字节</li>
+ * </ul>
+ * 其中 key 由请求方法、URL 和请求体计算（见 {@link #key(String, String, String)}），
+ * 回放时用同样的规则查找样本。
+ * </p>
+ *
+ * @see FixtureRecorder
+ */
+public class Fixture {
+
+    private static final Gson PRETTY = Json.gson().newBuilder().setPrettyPrinting().create();
+
+    @SerializedName("method")
+    private String method;
+    @SerializedName("url")
+    private String url;
+    @SerializedName("requestHeaders")
+    private Map<String, List<String>> requestHeaders;
+    @SerializedName("requestBody")
+    private String requestBody;
+    @SerializedName("code")
+    private int code;
+    @SerializedName("headers")
+    private Map<String, List<String>> headers;
+    @SerializedName("size")
+    private long size;
+    @SerializedName("took")
+    private long took;
+    @SerializedName("duration")
+    private long duration;
+
+    public static Fixture objectFrom(String str) {
+        return Json.gson().fromJson(str, Fixture.class);
+    }
+
+    /**
+     * 计算样本键
+     *
+     * @param method 请求方法
+     * @param url    完整 URL（含查询参数）
+     * @param body   请求体，GET 请求为空
+     * @return 32 位 MD5
+     */
+    public static String key(String method, String url, String body) {
+        return Crypto.md5(method + " " + url + "\n" + (body == null ? "" : body));
+    }
+
+    public Fixture(String method, String url, Map<String, List<String>> requestHeaders, String requestBody) {
+        this.method = method;
+        this.url = url;
+        this.requestHeaders = requestHeaders;
+        this.requestBody = requestBody;
+    }
+
+    public String getKey() {
+        return key(getMethod(), getUrl(), getRequestBody());
+    }
+
+    public String getMethod() {
+        return method == null ? OkHttp.GET : method;
+    }
+
+    public String getUrl() {
+        return url == null ? "" : url;
+    }
+
+    public String getRequestBody() {
+        return requestBody == null ? "" : requestBody;
+    }
+
+    public int getCode() {
+        return code;
+    }
+
+    public Map<String, List<String>> getHeaders() {
+        return headers == null ? Collections.emptyMap() : headers;
+    }
+
+    /**
+     * 响应体大小（字节）
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * 从发出请求到收到响应头的耗时（毫秒）
+     */
+    public long getTook() {
+        return took;
+    }
+
+    /**
+     * 从发出请求到读完响应体的耗时（毫秒）
+     */
+    public long getDuration() {
+        return duration;
+    }
+
+    public void setResponse(int code, Map<String, List<String>> headers, long size, long took, long duration) {
+        this.code = code;
+        this.headers = headers;
+        this.size = size;
+        this.took = took;
+        this.duration = duration;
+    }
+
+    @Override
+    public String toString() {
+        return PRETTY.toJson(this);
+    }
+}
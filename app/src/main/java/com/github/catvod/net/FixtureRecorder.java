@@ -0,0 +1,76 @@
+package com.github.catvod.net;
+
+import com.github.catvod.crawler.SpiderDebug;
+import com.github.catvod.utils.Path;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+
+/**
+ * HTTP 录制拦截器
+ * <p>
+ * 把经过的每个请求/响应（请求头、请求体、响应头、响应体和耗时）写入样本目录，
+ * 用于离线回放和爬虫性能基准测试。录制不改变响应内容，响应体通过
+ * {@link Response#peekBody(long)} 复制，超过 {@link #MAX_BODY_SIZE} 的部分不录制。
+ * </p>
+ *
+ * <h3>使用示例：</h3>
+ * <pre>
+ * OkHttp.startRecording(new File("/sdcard/TV/fixtures/bili"));
+ * spider.homeVideoContent();
+ * spider.detailContent(ids);
+ * OkHttp.stopRecording();
+ * </pre>
+ *
+ * @see Fixture
+ * @see OkHttp#startRecording(File)
+ */
+public class FixtureRecorder implements Interceptor {
+
+    /**
+     * 单个响应体最大录制大小（10MB）
+     */
+    private static final long MAX_BODY_SIZE = 10 * 1024 * 1024;
+
+    private final File dir;
+
+    public FixtureRecorder(File dir) {
+        this.dir = dir;
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        Request request = chain.request();
+        long start = System.currentTimeMillis();
+        Response response = chain.proceed(request);
+        long took = System.currentTimeMillis() - start;
+        ResponseBody peek = response.peekBody(MAX_BODY_SIZE);
+        byte[] bytes = peek.bytes();
+        long duration = System.currentTimeMillis() - start;
+        try {
+            Fixture fixture = new Fixture(request.method(), request.url().toString(), request.headers().toMultimap(), readBody(request.body()));
+            fixture.setResponse(response.code(), response.headers().toMultimap(), bytes.length, took, duration);
+            Path.write(new File(dir, fixture.getKey() + ".body"), bytes);
+            Path.write(new File(dir, fixture.getKey() + ".json"), fixture.toString().getBytes(StandardCharsets.UTF_8));
+        } catch (Exception e) {
+            // 录制失败不影响正常请求
+            SpiderDebug.log(e);
+        }
+        return response;
+    }
+
+    private static String readBody(RequestBody body) throws IOException {
+        if (body == null) return "";
+        Buffer buffer = new Buffer();
+        body.writeTo(buffer);
+        return buffer.readUtf8();
+    }
+}
@@ -4,8 +4,9 @@ import android.annotation.SuppressLint;
 
 import com.github.catvod.BuildConfig;
 import com.github.catvod.crawler.Spider;
-import com.orhanobut.logger.Logger;
+import com.github.catvod.utils.Logger;
 
+import java.io.File;
 import java.io.IOException;
 import java.security.SecureRandom;
 import java.security.cert.X509Certificate;
@@ -216,6 +217,27 @@ public class OkHttp {
         Logger.i("Custom OkHttpClient reset, using default singleton");
     }
 
+    /**
+     * 开始录制 HTTP 请求（用于离线回放和基准测试）
+     * <p>
+     * 在当前客户端上追加 {@link FixtureRecorder}，并通过 {@link #setCustomClient(OkHttpClient)} 注入，
+     * 之后所有请求/响应都会写入样本目录。
+     * </p>
+     *
+     * @param dir 样本目录
+     * @see Fixture
+     */
+    public static void startRecording(File dir) {
+        setCustomClient(client().newBuilder().addInterceptor(new FixtureRecorder(dir)).build());
+    }
+
+    /**
+     * 停止录制，恢复默认客户端
+     */
+    public static void stopRecording() {
+        resetCustomClient();
+    }
+
     /**
      * 发送请求并返回 Response 对象
      * <p>
@@ -231,6 +253,21 @@ public class OkHttp {
         return client().newCall(new Request.Builder().url(url).tag(tag).build()).execute();
     }
 
+    /**
+     * 发送带请求头的 GET 请求并返回 Response 对象
+     * <p>
+     * 用于需要按流读取响应体的场景，调用方负责关闭 Response。
+     * </p>
+     *
+     * @param url    请求URL
+     * @param header 请求头
+     * @return Response 对象
+     * @throws IOException 请求失败时抛出
+     */
+    public static Response newCall(String url, Map<String, String> header) throws IOException {
+        return client().newCall(new Request.Builder().url(url).headers(Headers.of(header)).build()).execute();
+    }
+
     /**
      * 简单 GET 请求（无请求头）
      *
@@ -299,6 +336,20 @@ public class OkHttp {
         return new OkRequest(GET, url, params, header).execute(client(timeout)).getBody();
     }
 
+    /**
+     * GET 请求，返回状态码和响应头
+     * <p>
+     * 用于条件请求（If-None-Match / If-Modified-Since）等需要判断 304 的场景。
+     * </p>
+     *
+     * @param url 请求URL
+     * @param header 请求头
+     * @return 响应结果
+     */
+    public static OkResult get(String url, Map<String, String> header) {
+        return new OkRequest(GET, url, (Map<String, String>) null, header).execute(client());
+    }
+
     /**
      * POST 请求（表单数据）
      *
@@ -724,10 +775,7 @@ public class OkHttp {
                         body.close();
 
                         // 记录警告日志
-                        Logger.w(String.format(
-                                "Response size (%d bytes) exceeds limit (%d bytes) for URL: %s",
-                                contentLength, MAX_RESPONSE_SIZE, request.url()
-                        ));
+                        Logger.w("Response size ({} bytes) exceeds limit ({} bytes) for URL: {}", contentLength, MAX_RESPONSE_SIZE, request.url());
 
                         // 抛出异常
                         throw new IOException(String.format(
@@ -736,10 +784,9 @@ public class OkHttp {
                         ));
                     }
 
-                    // 未知大小的响应打印警告（可能导致 OOM）
+                    // 未知大小的响应打印警告（可能导致 OOM），分块传输很常见，限流避免刷屏
                     if (contentLength == -1) {
-                        Logger.w("Response size unknown (no Content-Length header) for URL: " + request.url());
-                        Logger.w("Risk of OOM if response is too large. Consider using streaming.");
+                        Logger.wThrottled("Response size unknown (no Content-Length header), risk of OOM if too large. URL: {}", request.url());
                     }
                 }
 
@@ -3,8 +3,9 @@ package com.github.catvod.net;
 import android.text.TextUtils;
 
 import com.github.catvod.crawler.SpiderDebug;
+import com.github.catvod.crawler.SpiderStats;
+import com.github.catvod.utils.Logger;
 import com.github.catvod.utils.Util;
-import com.orhanobut.logger.Logger;
 
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
@@ -21,6 +22,11 @@ import okhttp3.ResponseBody;
 
 class OkRequest {
 
+    /**
+     * 网络请求统计，按请求方法分组记录到 {@link SpiderStats}
+     */
+    private static final String STATS = "okhttp";
+
     private final Map<String, String> header;
     private final Map<String, String> params;
     private final String method;
@@ -89,7 +95,7 @@ class OkRequest {
                 sb.append(encodedKey).append("=").append(encodedValue);
             } catch (UnsupportedEncodingException e) {
                 // UTF-8 是标准编码，理论上不会抛出此异常
-                Logger.e("Failed to encode URL parameter: " + entry.getKey(), e);
+                Logger.e("Failed to encode URL parameter: {}", entry.getKey(), e);
                 // 降级处理：不编码直接拼接（可能导致 URL 错误，但至少不会崩溃）
                 sb.append(entry.getKey()).append("=").append(entry.getValue() != null ? entry.getValue() : "");
             }
@@ -99,19 +105,25 @@ class OkRequest {
     }
 
     public OkResult execute(OkHttpClient client) {
+        long start = System.nanoTime();
         try (Response res = client.newCall(request).execute()) {
             ResponseBody body = res.body();
             if (body == null) {
-                Logger.e("Response body is null for URL: " + url);
+                Logger.e("Response body is null for URL: {}", url);
+                SpiderStats.get(STATS).record(method, start, 0);
                 return new OkResult(res.code(), "", res.headers().toMultimap());
             }
-            return new OkResult(res.code(), body.string(), res.headers().toMultimap());
+            String string = body.string();
+            SpiderStats.get(STATS).record(method, start, string.length());
+            return new OkResult(res.code(), string, res.headers().toMultimap());
         } catch (IOException e) {
-            Logger.e("Network request failed for URL: " + url, e);
+            Logger.e("Network request failed for URL: {}", url, e);
             SpiderDebug.log(e);
+            SpiderStats.get(STATS).error(method, start);
             return new OkResult();
         } catch (Exception e) {
-            Logger.e("Unexpected error during request for URL: " + url, e);
+            Logger.e("Unexpected error during request for URL: {}", url, e);
+            SpiderStats.get(STATS).error(method, start);
             return new OkResult();
         }
     }
@@ -0,0 +1,157 @@
+package com.github.catvod.server;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 本地代理服务器的请求头解析结果
+ * <p>
+ * 只解析请求行和请求头，不读取请求体（代理接口只处理 GET/HEAD）。
+ * 请求头名称统一转为小写，与宿主 App 传给 {@code proxy()} 的参数保持一致。
+ * </p>
+ *
+ * @see LocalServer
+ */
+class HttpRequest {
+
+    /**
+     * 请求头最大长度，超出视为非法请求
+     */
+    static final int MAX_HEAD_SIZE = 16 * 1024;
+
+    private final String method;
+    private final String path;
+    private final String version;
+    private final Map<String, String> headers;
+    private final Map<String, String> params;
+
+    private HttpRequest(String method, String path, String version, Map<String, String> headers, Map<String, String> params) {
+        this.method = method;
+        this.path = path;
+        this.version = version;
+        this.headers = headers;
+        this.params = params;
+    }
+
+    /**
+     * 从缓冲区中取出一个完整的请求头
+     * <p>
+     * 缓冲区处于写模式（read 之后未 flip）。找到 {@code \r\n\r\n} 时消费对应字节并返回解析结果，
+     * 剩余字节（管线化的下一个请求）保留在缓冲区中；请求头不完整时返回 null，缓冲区不变。
+     * </p>
+     *
+     * @param buffer 连接的读缓冲区
+     * @return 解析后的请求，数据不足返回 null
+     * @throws IllegalArgumentException 请求行格式错误
+     */
+    static HttpRequest poll(ByteBuffer buffer) {
+        int end = indexOfHeadEnd(buffer);
+        if (end < 0) return null;
+        byte[] head = new byte[end];
+        buffer.flip();
+        buffer.get(head);
+        buffer.position(buffer.position() + 4);
+        buffer.compact();
+        return parse(new String(head, StandardCharsets.ISO_8859_1));
+    }
+
+    private static int indexOfHeadEnd(ByteBuffer buffer) {
+        for (int i = 3; i < buffer.position(); i++) {
+            if (buffer.get(i - 3) == '\r' && buffer.get(i - 2) == '\n' && buffer.get(i - 1) == '\r' && buffer.get(i) == '\n') return i - 3;
+        }
+        return -1;
+    }
+
+    private static HttpRequest parse(String head) {
+        String[] lines = head.split("\r\n");
+        String[] line = lines[0].split(" ");
+        if (line.length != 3) throw new IllegalArgumentException("Bad request line: " + lines[0]);
+        Map<String, String> headers = new HashMap<>();
+        for (int i = 1; i < lines.length; i++) {
+            int index = lines[i].indexOf(':');
+            if (index <= 0) continue;
+            headers.put(lines[i].substring(0, index).trim().toLowerCase(), lines[i].substring(index + 1).trim());
+        }
+        String target = line[1];
+        int index = target.indexOf('?');
+        String path = index < 0 ? target : target.substring(0, index);
+        Map<String, String> params = new HashMap<>(headers);
+        if (index >= 0) parseQuery(target.substring(index + 1), params);
+        return new HttpRequest(line[0].toUpperCase(), path, line[2].toUpperCase(), headers, params);
+    }
+
+    private static void parseQuery(String query, Map<String, String> params) {
+        for (String pair : query.split("&")) {
+            if (pair.isEmpty()) continue;
+            int index = pair.indexOf('=');
+            String key = decode(index < 0 ? pair : pair.substring(0, index));
+            String value = index < 0 ? "" : decode(pair.substring(index + 1));
+            params.put(key, value);
+        }
+    }
+
+    private static String decode(String text) {
+        try {
+            return URLDecoder.decode(text, "UTF-8");
+        } catch (UnsupportedEncodingException | IllegalArgumentException e) {
+            return text;
+        }
+    }
+
+    String getMethod() {
+        return method;
+    }
+
+    String getPath() {
+        return path;
+    }
+
+    /**
+     * 获取请求头（名称不区分大小写）
+     *
+     * @param name 请求头名称
+     * @return 请求头值，不存在返回 null
+     */
+    String getHeader(String name) {
+        return headers.get(name.toLowerCase());
+    }
+
+    /**
+     * 获取传给 {@code proxy()} 的参数
+     * <p>
+     * 包含所有小写请求头和查询参数，同名时查询参数优先。
+     * </p>
+     *
+     * @return 参数 Map
+     */
+    Map<String, String> getParams() {
+        return params;
+    }
+
+    boolean isHead() {
+        return "HEAD".equals(method);
+    }
+
+    boolean isHttp11() {
+        return "HTTP/1.1".equals(version);
+    }
+
+    /**
+     * 是否保持连接
+     * <p>
+     * HTTP/1.1 默认保持连接，除非声明 {@code Connection: close}；
+     * HTTP/1.0 仅在声明 {@code Connection: keep-alive} 时保持。
+     * </p>
+     *
+     * @return true=保持连接
+     */
+    boolean isKeepAlive() {
+        String connection = getHeader("connection");
+        if (isHttp11()) return connection == null || !connection.equalsIgnoreCase("close");
+        return connection != null && connection.equalsIgnoreCase("keep-alive");
+    }
+}
@@ -0,0 +1,280 @@
+package com.github.catvod.server;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 把 {@code proxy()} 的返回值写成 HTTP/1.1 响应
+ * <p>
+ * {@code proxy()} 返回 {@code [状态码, Content-Type, InputStream, 响应头(可选)]}，本类负责：
+ * <ul>
+ *   <li>文件流（{@link FileInputStream}）：通过 {@link FileChannel#transferTo} 零拷贝发送</li>
+ *   <li>已知长度的流：支持单区间 Range 请求（206 / 416）</li>
+ *   <li>未知长度的流：HTTP/1.1 使用 chunked 编码，HTTP/1.0 发送后关闭连接</li>
+ * </ul>
+ * </p>
+ * <p>
+ * 调用时通道必须处于阻塞模式。
+ * </p>
+ *
+ * @see LocalServer
+ */
+class HttpResponder {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final byte[] CRLF = {'\r', '\n'};
+    private static final byte[] LAST_CHUNK = {'0', '\r', '\n', '\r', '\n'};
+
+    /**
+     * 由本类负责生成的响应头，忽略爬虫返回的同名头
+     */
+    private static final List<String> MANAGED = Arrays.asList("content-length", "content-type", "transfer-encoding", "connection", "keep-alive");
+
+    /**
+     * 发送纯文本响应
+     *
+     * @param channel 客户端通道
+     * @param request 当前请求
+     * @param code    状态码
+     * @param text    响应内容
+     * @return 是否可以继续复用连接
+     * @throws IOException 写入失败
+     */
+    static boolean text(SocketChannel channel, HttpRequest request, int code, String text) throws IOException {
+        return write(channel, request, new Object[]{code, "text/plain; charset=utf-8", new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8))});
+    }
+
+    /**
+     * 发送错误响应并要求客户端关闭连接
+     * <p>
+     * 用于请求头无法解析的场景，此时没有可用的 {@link HttpRequest}。
+     * </p>
+     *
+     * @param channel 客户端通道（阻塞模式）
+     * @param code    状态码
+     * @throws IOException 写入失败
+     */
+    static void error(SocketChannel channel, int code) throws IOException {
+        StringBuilder head = head(code, "text/plain", false);
+        head.append("Content-Length: 0\r\n\r\n");
+        writeFully(channel, head);
+    }
+
+    /**
+     * 发送 {@code proxy()} 的返回值
+     *
+     * @param channel 客户端通道（阻塞模式）
+     * @param request 当前请求
+     * @param result  {@code proxy()} 返回值
+     * @return 是否可以继续复用连接
+     * @throws IOException 写入失败
+     */
+    @SuppressWarnings("unchecked")
+    static boolean write(SocketChannel channel, HttpRequest request, Object[] result) throws IOException {
+        int code = result.length > 0 && result[0] instanceof Integer ? (Integer) result[0] : 200;
+        String mime = result.length > 1 && result[1] != null ? result[1].toString() : "application/octet-stream";
+        InputStream in = result.length > 2 && result[2] instanceof InputStream ? (InputStream) result[2] : null;
+        Map<String, String> extra = result.length > 3 && result[3] instanceof Map ? (Map<String, String>) result[3] : Collections.emptyMap();
+        try {
+            return write(channel, request, code, mime, in, extra);
+        } finally {
+            if (in != null) in.close();
+        }
+    }
+
+    private static boolean write(SocketChannel channel, HttpRequest request, int code, String mime, InputStream in, Map<String, String> extra) throws IOException {
+        FileChannel file = in instanceof FileInputStream ? ((FileInputStream) in).getChannel() : null;
+        long offset = file != null ? file.position() : 0;
+        long total = getLength(in, file, extra);
+        boolean sized = file != null || in instanceof ByteArrayInputStream;
+        boolean keepAlive = request.isKeepAlive();
+        String range = request.getHeader("range");
+        String contentRange = null;
+        long start = 0;
+        long length = in == null ? 0 : total;
+
+        if (code == 200 && sized && range != null) {
+            long[] bounds = parseRange(range, total);
+            if (bounds == null) {
+                StringBuilder head = head(416, "text/plain", keepAlive);
+                head.append("Content-Range: bytes */").append(total).append("\r\n");
+                head.append("Content-Length: 0\r\n\r\n");
+                writeFully(channel, head);
+                return keepAlive;
+            }
+            code = 206;
+            start = bounds[0];
+            length = bounds[1] - bounds[0] + 1;
+            contentRange = "bytes " + bounds[0] + "-" + bounds[1] + "/" + total;
+        }
+
+        boolean chunked = length < 0 && request.isHttp11() && !request.isHead();
+        if (length < 0 && !chunked) keepAlive = false;
+
+        StringBuilder head = head(code, mime, keepAlive);
+        for (Map.Entry<String, String> entry : extra.entrySet()) {
+            String name = entry.getKey().toLowerCase();
+            if (MANAGED.contains(name) || (contentRange != null && name.equals("content-range"))) continue;
+            head.append(entry.getKey()).append(": ").append(entry.getValue()).append("\r\n");
+        }
+        if (sized) head.append("Accept-Ranges: bytes\r\n");
+        if (contentRange != null) head.append("Content-Range: ").append(contentRange).append("\r\n");
+        if (length >= 0) head.append("Content-Length: ").append(length).append("\r\n");
+        if (chunked) head.append("Transfer-Encoding: chunked\r\n");
+        head.append("\r\n");
+        writeFully(channel, head);
+
+        if (request.isHead() || in == null || length == 0) return keepAlive;
+        if (file != null) return transfer(file, offset + start, length, channel) && keepAlive;
+        if (start > 0 && in.skip(start) != start) return false;
+        if (chunked) return copyChunked(in, channel) && keepAlive;
+        return copy(in, length, channel) && keepAlive;
+    }
+
+    private static StringBuilder head(int code, String mime, boolean keepAlive) {
+        StringBuilder sb = new StringBuilder(256);
+        sb.append("HTTP/1.1 ").append(code).append(' ').append(getReason(code)).append("\r\n");
+        sb.append("Content-Type: ").append(mime).append("\r\n");
+        sb.append("Connection: ").append(keepAlive ? "keep-alive" : "close").append("\r\n");
+        return sb;
+    }
+
+    private static long getLength(InputStream in, FileChannel file, Map<String, String> extra) throws IOException {
+        if (file != null) return file.size() - file.position();
+        if (in instanceof ByteArrayInputStream) return in.available();
+        for (Map.Entry<String, String> entry : extra.entrySet()) {
+            if (!entry.getKey().equalsIgnoreCase("content-length")) continue;
+            try {
+                return Long.parseLong(entry.getValue().trim());
+            } catch (NumberFormatException ignored) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 解析单区间 Range 请求头
+     * <p>
+     * 支持 {@code bytes=start-end}、{@code bytes=start-} 和 {@code bytes=-suffix}，
+     * 多区间请求只取第一段。
+     * </p>
+     *
+     * @param range Range 请求头
+     * @param total 资源总长度
+     * @return [start, end]（闭区间），无法满足返回 null
+     */
+    static long[] parseRange(String range, long total) {
+        if (!range.startsWith("bytes=") || total <= 0) return null;
+        String spec = range.substring(6);
+        int comma = spec.indexOf(',');
+        if (comma >= 0) spec = spec.substring(0, comma);
+        int dash = spec.indexOf('-');
+        if (dash < 0) return null;
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            long start;
+            long end;
+            if (first.isEmpty()) {
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0) return null;
+                start = Math.max(0, total - suffix);
+                end = total - 1;
+            } else {
+                start = Long.parseLong(first);
+                end = last.isEmpty() ? total - 1 : Math.min(Long.parseLong(last), total - 1);
+            }
+            return start > end || start >= total ? null : new long[]{start, end};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static boolean transfer(FileChannel file, long position, long count, SocketChannel channel) throws IOException {
+        while (count > 0) {
+            long sent = file.transferTo(position, count, channel);
+            if (sent <= 0) return false;
+            position += sent;
+            count -= sent;
+        }
+        return true;
+    }
+
+    /**
+     * @param length 要发送的字节数，小于 0 表示读到流结束为止（随后由调用方关闭连接）
+     */
+    private static boolean copy(InputStream in, long length, SocketChannel channel) throws IOException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        long remaining = length < 0 ? Long.MAX_VALUE : length;
+        while (remaining > 0) {
+            int read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+            if (read < 0) return length < 0;
+            writeFully(channel, ByteBuffer.wrap(buffer, 0, read));
+            remaining -= read;
+        }
+        return true;
+    }
+
+    private static boolean copyChunked(InputStream in, SocketChannel channel) throws IOException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int read;
+        while ((read = in.read(buffer)) >= 0) {
+            if (read == 0) continue;
+            writeFully(channel, ByteBuffer.wrap((Integer.toHexString(read) + "\r\n").getBytes(StandardCharsets.ISO_8859_1)));
+            writeFully(channel, ByteBuffer.wrap(buffer, 0, read));
+            writeFully(channel, ByteBuffer.wrap(CRLF));
+        }
+        writeFully(channel, ByteBuffer.wrap(LAST_CHUNK));
+        return true;
+    }
+
+    private static void writeFully(SocketChannel channel, StringBuilder head) throws IOException {
+        writeFully(channel, ByteBuffer.wrap(head.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static void writeFully(SocketChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) channel.write(buffer);
+    }
+
+    private static String getReason(int code) {
+        switch (code) {
+            case 200:
+                return "OK";
+            case 206:
+                return "Partial Content";
+            case 301:
+                return "Moved Permanently";
+            case 302:
+                return "Found";
+            case 304:
+                return "Not Modified";
+            case 400:
+                return "Bad Request";
+            case 403:
+                return "Forbidden";
+            case 404:
+                return "Not Found";
+            case 405:
+                return "Method Not Allowed";
+            case 416:
+                return "Range Not Satisfiable";
+            case 431:
+                return "Request Header Fields Too Large";
+            case 502:
+                return "Bad Gateway";
+            default:
+                return code >= 500 ? "Internal Server Error" : "OK";
+        }
+    }
+}
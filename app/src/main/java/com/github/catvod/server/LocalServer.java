@@ -0,0 +1,334 @@
+package com.github.catvod.server;
+
+import com.github.catvod.crawler.Spider;
+import com.github.catvod.crawler.SpiderDebug;
+import com.github.catvod.spider.Proxy;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 内嵌本地代理服务器（可选）
+ * <p>
+ * 在没有宿主 App（{@code com.github.catvod.Proxy}）的环境中提供 {@code /proxy} 接口，
+ * 把 {@code /proxy?do=csp&siteKey=xxx} 分发给已注册爬虫的 {@link Spider#proxy(Map)}，
+ * 使 Demo App 和单元测试可以直接播放 {@code proxy://} 地址。
+ * </p>
+ * <p>
+ * 实现方式：
+ * <ul>
+ *   <li>单线程 Selector 负责 accept 和读取请求头（非阻塞）</li>
+ *   <li>请求头完整后交给工作线程池，以阻塞模式写出响应</li>
+ *   <li>支持 HTTP/1.1 keep-alive，响应结束后连接重新注册到 Selector</li>
+ *   <li>chunked / Range / 文件零拷贝由 {@link HttpResponder} 处理</li>
+ * </ul>
+ * </p>
+ *
+ * <h3>使用示例：</h3>
+ * <pre>
+ * LocalServer.get().start(0);          // 0 = 随机端口
+ * spider.siteKey = "bili";
+ * LocalServer.get().register(spider);
+ * String url = Proxy.getUrl("bili", "&amp;type=mpd");  // http://127.0.0.1:port/proxy?do=csp&amp;siteKey=bili&amp;type=mpd
+ * </pre>
+ *
+ * @see Proxy
+ */
+public class LocalServer {
+
+    /**
+     * Selector 单次等待时间（毫秒），同时决定空闲连接检查的频率
+     */
+    private static final long SELECT_TIMEOUT = TimeUnit.SECONDS.toMillis(1);
+
+    /**
+     * keep-alive 连接最长空闲时间（毫秒）
+     */
+    private static final long IDLE_TIMEOUT = TimeUnit.SECONDS.toMillis(30);
+
+    private final Map<String, Spider> spiders;
+    private final Queue<Connection> pending;
+    private volatile boolean running;
+    private ServerSocketChannel server;
+    private ExecutorService workers;
+    private Selector selector;
+    private int port;
+
+    private static class Loader {
+        static volatile LocalServer INSTANCE = new LocalServer();
+    }
+
+    public static LocalServer get() {
+        return Loader.INSTANCE;
+    }
+
+    public LocalServer() {
+        this.spiders = new ConcurrentHashMap<>();
+        this.pending = new ConcurrentLinkedQueue<>();
+    }
+
+    /**
+     * 启动服务器（仅监听 127.0.0.1）
+     *
+     * @param port 监听端口，0 表示由系统分配
+     * @return 实际监听的端口
+     * @throws IOException 端口被占用等
+     */
+    public synchronized int start(int port) throws IOException {
+        if (running) return this.port;
+        selector = Selector.open();
+        server = ServerSocketChannel.open();
+        server.socket().setReuseAddress(true);
+        server.socket().bind(new InetSocketAddress(InetAddress.getByName("127.0.0.1"), port));
+        server.configureBlocking(false);
+        server.register(selector, SelectionKey.OP_ACCEPT);
+        workers = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "LocalServer-Worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.port = server.socket().getLocalPort();
+        this.running = true;
+        Thread thread = new Thread(this::loop, "LocalServer-Selector");
+        thread.setDaemon(true);
+        thread.start();
+        SpiderDebug.log("内嵌代理服务器已启动，端口: " + this.port);
+        return this.port;
+    }
+
+    /**
+     * 停止服务器并关闭所有连接
+     */
+    public synchronized void stop() {
+        if (!running) return;
+        running = false;
+        workers.shutdownNow();
+        try {
+            for (SelectionKey key : selector.keys()) key.channel().close();
+            selector.close();
+            server.close();
+        } catch (IOException | ClosedSelectorException e) {
+            SpiderDebug.log(e);
+        }
+        pending.clear();
+        port = 0;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    /**
+     * 获取代理地址
+     *
+     * @return 形如 {@code http://127.0.0.1:port/proxy} 的地址
+     */
+    public String getUrl() {
+        return "http://127.0.0.1:" + port + "/proxy";
+    }
+
+    /**
+     * 注册爬虫，使用 {@link Spider#siteKey} 作为路由键
+     *
+     * @param spider 爬虫实例（siteKey 不能为空）
+     */
+    public void register(Spider spider) {
+        register(spider.siteKey, spider);
+    }
+
+    public void register(String siteKey, Spider spider) {
+        spiders.put(siteKey, spider);
+    }
+
+    public void unregister(String siteKey) {
+        spiders.remove(siteKey);
+    }
+
+    private void loop() {
+        List<Connection> ready = new ArrayList<>();
+        while (running) {
+            try {
+                selector.select(SELECT_TIMEOUT);
+                registerPending();
+                Iterator<SelectionKey> iterator = selector.selectedKeys().iterator();
+                while (iterator.hasNext()) {
+                    SelectionKey key = iterator.next();
+                    iterator.remove();
+                    if (!key.isValid()) continue;
+                    if (key.isAcceptable()) accept();
+                    else if (key.isReadable()) read(key, ready);
+                }
+                if (!ready.isEmpty()) {
+                    // 注销后需要 selectNow 才能把通道切回阻塞模式
+                    selector.selectNow();
+                    for (Connection conn : ready) dispatch(conn);
+                    ready.clear();
+                }
+                closeIdle();
+            } catch (ClosedSelectorException e) {
+                return;
+            } catch (IOException e) {
+                if (running) SpiderDebug.log(e);
+            }
+        }
+    }
+
+    private void registerPending() {
+        Connection conn;
+        while ((conn = pending.poll()) != null) {
+            try {
+                conn.channel.register(selector, SelectionKey.OP_READ, conn);
+            } catch (IOException e) {
+                conn.close();
+            }
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel;
+        while ((channel = server.accept()) != null) {
+            channel.configureBlocking(false);
+            channel.socket().setTcpNoDelay(true);
+            channel.register(selector, SelectionKey.OP_READ, new Connection(channel));
+        }
+    }
+
+    private void read(SelectionKey key, List<Connection> ready) {
+        Connection conn = (Connection) key.attachment();
+        try {
+            if (conn.channel.read(conn.buffer) < 0) {
+                conn.close();
+                return;
+            }
+        } catch (IOException e) {
+            conn.close();
+            return;
+        }
+        conn.touch();
+        try {
+            conn.request = HttpRequest.poll(conn.buffer);
+            if (conn.request == null && !conn.buffer.hasRemaining()) conn.error = 431;
+        } catch (IllegalArgumentException e) {
+            conn.error = 400;
+        }
+        if (conn.request == null && conn.error == 0) return;
+        key.cancel();
+        ready.add(conn);
+    }
+
+    private void dispatch(Connection conn) {
+        try {
+            conn.channel.configureBlocking(true);
+            workers.execute(() -> serve(conn));
+        } catch (Exception e) {
+            conn.close();
+        }
+    }
+
+    private void serve(Connection conn) {
+        try {
+            if (conn.error != 0) {
+                HttpResponder.error(conn.channel, conn.error);
+                conn.close();
+                return;
+            }
+            boolean keepAlive = true;
+            HttpRequest request = conn.request;
+            while (keepAlive && request != null) {
+                keepAlive = respond(conn, request);
+                request = keepAlive ? HttpRequest.poll(conn.buffer) : null;
+            }
+            if (!keepAlive || !running) {
+                conn.close();
+                return;
+            }
+            conn.request = null;
+            conn.touch();
+            conn.channel.configureBlocking(false);
+            pending.add(conn);
+            selector.wakeup();
+        } catch (Exception e) {
+            conn.close();
+        }
+    }
+
+    private boolean respond(Connection conn, HttpRequest request) throws IOException {
+        if (!"/proxy".equals(request.getPath())) return HttpResponder.text(conn.channel, request, 404, "Not Found");
+        if (!"GET".equals(request.getMethod()) && !request.isHead()) {
+            HttpResponder.error(conn.channel, 405);
+            return false;
+        }
+        Object[] result;
+        try {
+            result = invoke(request.getParams());
+        } catch (Throwable e) {
+            SpiderDebug.log(e);
+            return HttpResponder.text(conn.channel, request, 500, String.valueOf(e.getMessage()));
+        }
+        if (result == null) return HttpResponder.text(conn.channel, request, 404, "Not Found");
+        return HttpResponder.write(conn.channel, request, result);
+    }
+
+    private Object[] invoke(Map<String, String> params) throws Exception {
+        if (!"csp".equals(params.get("do"))) return Proxy.proxy(params);
+        String siteKey = params.get("siteKey");
+        Spider spider = siteKey == null ? null : spiders.get(siteKey);
+        return spider == null ? null : spider.proxy(params);
+    }
+
+    private void closeIdle() {
+        long now = System.currentTimeMillis();
+        for (SelectionKey key : selector.keys()) {
+            if (!(key.attachment() instanceof Connection)) continue;
+            Connection conn = (Connection) key.attachment();
+            if (now - conn.lastActive > IDLE_TIMEOUT) conn.close();
+        }
+    }
+
+    private static class Connection {
+
+        private final SocketChannel channel;
+        private final ByteBuffer buffer;
+        private volatile long lastActive;
+        private HttpRequest request;
+        private int error;
+
+        Connection(SocketChannel channel) {
+            this.channel = channel;
+            this.buffer = ByteBuffer.allocate(HttpRequest.MAX_HEAD_SIZE);
+            this.touch();
+        }
+
+        void touch() {
+            lastActive = System.currentTimeMillis();
+        }
+
+        void close() {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+}
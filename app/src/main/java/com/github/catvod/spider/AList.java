@@ -6,40 +6,89 @@ import android.text.TextUtils;
 
 import com.github.catvod.bean.Class;
 import com.github.catvod.bean.Filter;
+import com.github.catvod.bean.Pager;
+import com.github.catvod.bean.PlayList;
 import com.github.catvod.bean.Result;
+import com.github.catvod.bean.ResultWriter;
 import com.github.catvod.bean.Sub;
 import com.github.catvod.bean.Vod;
 import com.github.catvod.bean.alist.Drive;
 import com.github.catvod.bean.alist.Item;
+import com.github.catvod.bean.alist.Page;
 import com.github.catvod.bean.alist.Sorter;
 import com.github.catvod.crawler.Spider;
 import com.github.catvod.crawler.SpiderDebug;
+import com.github.catvod.crawler.SpiderStats;
 import com.github.catvod.net.OkHttp;
+import com.github.catvod.utils.Json;
 import com.github.catvod.utils.JsonValidator;
+import com.github.catvod.utils.Logger;
+import com.github.catvod.utils.Path;
+import com.github.catvod.utils.TtlCache;
 import com.github.catvod.utils.Util;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonObject;
-import com.orhanobut.logger.Logger;
 
 import org.json.JSONException;
 import org.json.JSONObject;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 
 public class AList extends Spider {
 
+    /**
+     * AList 接口成功时返回的 code
+     */
+    private static final int SUCCESS = 200;
+
+    /**
+     * 目录缓存：新鲜期内直接返回，之后先返回旧列表再在后台刷新，超过存活时间后重新请求
+     */
+    private static final long LIST_FRESH = TimeUnit.MINUTES.toMillis(2);
+    private static final long LIST_TTL = TimeUnit.MINUTES.toMillis(30);
+    private static final int LIST_CAPACITY = 64;
+
+    /**
+     * 条目数超过此值的目录不缓存，避免少数超大目录占满内存
+     */
+    private static final int LIST_MAX_ITEMS = 5000;
+
+    /**
+     * 网盘版本探测结果的有效期，过期后仍先使用，同时在后台重新探测
+     */
+    private static final long PROBE_TTL = TimeUnit.DAYS.toMillis(1);
+
+    /**
+     * 搜索最长等待时间；取得结果后最多再等 {@link #SEARCH_GRACE}，或凑够 {@link #SEARCH_RESULTS} 条即返回，
+     * quick 模式下分别为 {@link #QUICK_TIMEOUT} 和 {@link #QUICK_RESULTS}
+     */
+    private static final long SEARCH_TIMEOUT = TimeUnit.SECONDS.toMillis(15);
+    private static final long SEARCH_GRACE = TimeUnit.SECONDS.toMillis(5);
+    private static final int SEARCH_RESULTS = 100;
+    private static final long QUICK_TIMEOUT = TimeUnit.SECONDS.toMillis(3);
+    private static final int QUICK_RESULTS = 30;
+
+    /**
+     * 同一主机同时进行的搜索请求数
+     */
+    private static final int HOST_LIMIT = 2;
+
     /**
      * Filter 缓存
      * <p>
@@ -63,6 +112,11 @@ public class AList extends Spider {
             )
     );
 
+    private final Pager<Item> pager = new Pager<>();
+    private final TtlCache<Listing> listings = new TtlCache<>(LIST_CAPACITY, LIST_TTL);
+    private final Set<String> refreshing = Collections.newSetFromMap(new ConcurrentHashMap<>());
+    private final Map<String, Future<?>> probes = new ConcurrentHashMap<>();
+    private final Map<String, Semaphore> hosts = new ConcurrentHashMap<>();
     private ExecutorService executor;
     private List<Drive> drives;
     private String ext;
@@ -95,7 +149,57 @@ public class AList extends Spider {
             throw new IllegalArgumentException("Drive not found: " + name + ". Available drives: " + getDriveNames());
         }
 
-        return drives.get(index).check();
+        return ready(drives.get(index));
+    }
+
+    /**
+     * 等待 init 时开始的版本探测，之后补全未探测的部分
+     */
+    private Drive ready(Drive drive) {
+        Future<?> probe = probes.get(drive.getName());
+        if (probe != null && drive.getVersion() == 0) {
+            try {
+                probe.get(15, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                Logger.w("Version probe failed for drive: {}", drive.getName(), e);
+            }
+        }
+        return drive.check();
+    }
+
+    private File getProbeCache() {
+        return Path.tv("alist_drive");
+    }
+
+    /**
+     * 并行探测各网盘的版本和路径
+     * <p>
+     * 配置中指定了 version 的网盘不探测。已持久化的结果直接使用，
+     * 没有结果或超过 {@link #PROBE_TTL} 时在后台重新探测并保存。
+     * </p>
+     */
+    private void probeDrives() {
+        if (drives == null) return;
+        Map<String, Drive.Probe> cache = Drive.Probe.mapFrom(Path.read(getProbeCache()));
+        for (Drive drive : drives) {
+            if (drive.getVersion() != 0) continue;
+            Drive.Probe probe = cache.get(drive.getServer());
+            drive.apply(probe);
+            if (probe == null || probe.getAge() > PROBE_TTL) probes.put(drive.getName(), executor.submit(() -> probe(drive)));
+        }
+    }
+
+    private void probe(Drive drive) {
+        int version = drive.detect();
+        if (version == 0) return;
+        drive.setVersion(version);
+        saveProbe(drive);
+    }
+
+    private synchronized void saveProbe(Drive drive) {
+        Map<String, Drive.Probe> cache = Drive.Probe.mapFrom(Path.read(getProbeCache()));
+        cache.put(drive.getServer(), drive.toProbe());
+        Path.write(getProbeCache(), Json.gson().toJson(cache).getBytes());
     }
 
     private String getDriveNames() {
@@ -126,6 +230,7 @@ public class AList extends Spider {
         executor = Executors.newCachedThreadPool();
         ext = extend;
         fetchRule();
+        probeDrives();
     }
 
     @Override
@@ -138,13 +243,29 @@ public class AList extends Spider {
     }
 
     @Override
-    public String categoryContent(String tid, String pg, boolean filter, HashMap<String, String> extend) {
+    public String categoryContent(String tid, String pg, boolean filter, HashMap<String, String> extend) throws IOException {
         String type = extend.containsKey("type") ? extend.get("type") : "";
         String order = extend.containsKey("order") ? extend.get("order") : "";
+        String key = tid.contains("/") ? tid.substring(0, tid.indexOf("/")) : tid;
+        Drive drive = getDrive(key);
+        int page = Pager.page(pg);
+        int size = drive.getPageSize();
+        boolean sort = !TextUtils.isEmpty(type) && !TextUtils.isEmpty(order);
+
+        // 新版 API 支持服务端分页，未指定排序时直接按页请求
+        if (drive.isNew() && !sort) return getPage(drive, tid, page, size);
+
+        String cacheKey = tid + "|" + type + "|" + order;
+        List<Item> items = page == 1 ? null : pager.get(cacheKey);
+        if (items == null) items = pager.put(cacheKey, getSortedList(tid, type, order));
+        ResultWriter writer = ResultWriter.create().list();
+        for (Item item : Pager.slice(items, page, size)) writer.vod(item.getVod(tid));
+        return writer.page(page, size, items.size()).string();
+    }
+
+    private List<Item> getSortedList(String tid, String type, String order) {
         List<Item> folders = new ArrayList<>();
         List<Item> files = new ArrayList<>();
-        List<Vod> list = new ArrayList<>();
-
         for (Item item : getList(tid, true)) {
             if (item.isFolder()) folders.add(item);
             else files.add(item);
@@ -153,10 +274,75 @@ public class AList extends Spider {
             Sorter.sort(type, order, folders);
             Sorter.sort(type, order, files);
         }
+        folders.addAll(files);
+        return folders;
+    }
 
-        for (Item item : folders) list.add(item.getVod(tid));
-        for (Item item : files) list.add(item.getVod(tid));
-        return Result.get().vod(list).page().string();
+    /**
+     * 服务端分页获取目录
+     * <p>
+     * 使用新版 API 的 page/per_page 参数，只请求当前页；
+     * 顺序由服务端决定，每页内文件夹在前。
+     * 已缓存整个目录时直接从中截取当前页，否则按网盘、路径、密码、页码和每页条目数缓存单页。
+     * </p>
+     *
+     * @param drive 网盘
+     * @param tid   目录 ID
+     * @param page  页码
+     * @param size  每页条目数
+     * @return 当前页 JSON
+     */
+    private String getPage(Drive drive, String tid, int page, int size) throws IOException {
+        String path = tid.contains("/") ? tid.substring(tid.indexOf("/")) : "";
+        path = path.startsWith(drive.getPath()) ? path : drive.getPath() + path;
+        String pass = drive.findPass(path);
+        String listKey = drive.getName() + "\n" + path + "\n" + pass;
+        Listing listing = listings.get(listKey);
+        if (listing != null) {
+            SpiderStats.get(siteKey).hit("page");
+            if (listing.isStale()) refreshList(drive, path, pass, listKey);
+            return writePage(tid, Pager.slice(listing.items, page, size), page, size, listing.total);
+        }
+        String cacheKey = listKey + "\n" + page + "\n" + size;
+        listing = listings.get(cacheKey);
+        if (listing == null || listing.isStale()) {
+            SpiderStats.get(siteKey).miss("page");
+            listing = fetchPage(drive, path, pass, page, size, cacheKey);
+        } else {
+            SpiderStats.get(siteKey).hit("page");
+        }
+        if (listing == null) return ResultWriter.create().list().string();
+        return writePage(tid, listing.items, page, size, listing.total);
+    }
+
+    private Listing fetchPage(Drive drive, String path, String pass, int page, int size, String cacheKey) {
+        try {
+            JSONObject params = new JSONObject();
+            params.put("path", path);
+            params.put("password", pass);
+            params.put("page", page);
+            params.put("per_page", size);
+
+            Page data = JsonValidator.bind(post(drive, drive.listApi(), params.toString()), "data", Page.class, SUCCESS);
+            Listing listing = data == null ? new Listing(Collections.emptyList(), 0) : new Listing(data.getContent(), data.getTotal());
+            listings.put(cacheKey, listing);
+            return listing;
+        } catch (JSONException | JsonValidator.ValidationException e) {
+            Logger.e("Failed to get page {} for: {}", page, path, e);
+            return null;
+        }
+    }
+
+    private static String writePage(String tid, List<Item> items, int page, int size, int total) throws IOException {
+        ResultWriter writer = ResultWriter.create().list();
+        List<Item> files = new ArrayList<>();
+        for (Item item : items) {
+            if (item.ignore(true)) continue;
+            if (item.isFolder()) writer.vod(item.getVod(tid));
+            else files.add(item);
+        }
+        for (Item item : files) writer.vod(item.getVod(tid));
+        return writer.page(page, size, total).string();
     }
 
     @Override
@@ -178,45 +364,109 @@ public class AList extends Spider {
         String name = path.substring(path.lastIndexOf("/") + 1);
         Drive drive = getDrive(key);
         Vod vod = new Vod();
-        vod.setVodPlayFrom(key);
         vod.setVodId(id);
         vod.setVodName(name);
-        List<String> playUrls = new ArrayList<>();
         List<Item> parents = getList(path, false);
-        for (Item item : parents) if (item.isMedia(drive.isNew())) playUrls.add(item.getName() + "$" + encodeVodId(item.getVodId(path) + findSubs(path, parents)));
-        vod.setVodPlayUrl(TextUtils.join("#", playUrls));
-        return Result.string(vod);
+        String subs = findSubs(path, parents);
+        PlayList playList = PlayList.create().flag(key);
+        for (Item item : parents) if (item.isMedia(drive.isNew())) playList.add(item.getName(), item.getVodId(path) + subs);
+        return Result.string(playList.apply(vod));
     }
 
-    private String encodeVodId(String vodId) {
-        if (vodId.contains("#")) return vodId.replace("#", "***");
-        return vodId;
+    @Override
+    public String searchContent(String keyword, boolean quick) throws Exception {
+        return search(keyword, quick, 1);
     }
 
-    private String decodeVodId(String vodId) {
-        if (vodId.contains("***")) return vodId.replace("***", "#");
-        return vodId;
+    @Override
+    public String searchContent(String keyword, boolean quick, String pg) throws Exception {
+        return search(keyword, quick, Pager.page(pg));
     }
 
-    @Override
-    public String searchContent(String keyword, boolean quick) throws Exception {
+    /**
+     * 多网盘搜索
+     * <p>
+     * 各网盘并行搜索，按完成先后收集结果，不再由最慢的网盘决定耗时：
+     * 取得第一批结果后凑够 {@link #SEARCH_RESULTS} 条或再过 {@link #SEARCH_GRACE} 即返回（quick 模式下条数和等待时间更短），
+     * 没有结果时最多等待 {@link #SEARCH_TIMEOUT}，返回时取消未完成的搜索。
+     * 结果按主机、路径和名称去重，按名称与关键词的匹配程度排序，程度相同时保持网盘的配置顺序。
+     * 第 2 页起只搜索支持分页的 v3 网盘。
+     * </p>
+     */
+    private String search(String keyword, boolean quick, int page) throws InterruptedException {
+        CompletionService<List<Hit>> service = new ExecutorCompletionService<>(executor);
+        List<Future<List<Hit>>> futures = new ArrayList<>();
+        for (int i = 0; i < drives.size(); i++) if (drives.get(i).search()) futures.add(service.submit(new Job(drives.get(i), i, keyword, page)));
+        long grace = quick ? QUICK_TIMEOUT : SEARCH_GRACE;
+        int limit = quick ? QUICK_RESULTS : SEARCH_RESULTS;
+        long start = System.currentTimeMillis();
+        long first = 0;
+        Map<String, Hit> hits = new LinkedHashMap<>();
+        try {
+            for (int done = 0; done < futures.size(); done++) {
+                long deadline = first == 0 ? start + SEARCH_TIMEOUT : Math.min(start + SEARCH_TIMEOUT, first + grace);
+                long wait = deadline - System.currentTimeMillis();
+                Future<List<Hit>> future = wait > 0 ? service.poll(wait, TimeUnit.MILLISECONDS) : null;
+                if (future == null) break;
+                for (Hit hit : getHits(future)) if (!hits.containsKey(hit.key)) hits.put(hit.key, hit);
+                if (first == 0 && !hits.isEmpty()) first = System.currentTimeMillis();
+                if (hits.size() >= limit) break;
+            }
+        } finally {
+            for (Future<?> future : futures) future.cancel(true);
+        }
+        List<Hit> sorted = new ArrayList<>(hits.values());
+        Collections.sort(sorted);
         List<Vod> list = new ArrayList<>();
-        List<Job> jobs = new ArrayList<>();
-        for (Drive drive : drives) if (drive.search()) jobs.add(new Job(drive.check(), keyword));
-        for (Future<List<Vod>> future : executor.invokeAll(jobs, 15, TimeUnit.SECONDS)) list.addAll(future.get());
+        for (Hit hit : sorted) list.add(hit.vod);
         return Result.string(list);
     }
 
+    private static List<Hit> getHits(Future<List<Hit>> future) {
+        try {
+            return future.get();
+        } catch (Exception e) {
+            return Collections.emptyList();
+        }
+    }
+
+    private synchronized Semaphore getLimit(String host) {
+        Semaphore limit = hosts.get(host);
+        if (limit == null) hosts.put(host, limit = new Semaphore(HOST_LIMIT));
+        return limit;
+    }
+
     @Override
     public String playerContent(String flag, String id, List<String> vipFlags) {
-        String[] ids = decodeVodId(id).split("~~~");
-        String url = getDetail(ids[0]).getUrl();
+        List<String> ids = PlayList.split(PlayList.unescape(id), "~~~");
+        String url = getDetail(ids.get(0)).getUrl();
         return Result.get().url(url).header(getPlayHeader(url)).subs(getSubs(ids)).string();
     }
 
+    /**
+     * {@code refresh:<目录 ID>} 清除该目录（包括分页缓存）及其子目录的缓存，{@code refresh} 清除全部
+     */
+    @Override
+    public String action(String action) throws Exception {
+        if ("refresh".equals(action)) {
+            listings.clear();
+            return Result.notify("已清除目錄快取");
+        }
+        if (action == null || !action.startsWith("refresh:")) return super.action(action);
+        String id = action.substring(8);
+        String key = id.contains("/") ? id.substring(0, id.indexOf("/")) : id;
+        String path = id.contains("/") ? id.substring(id.indexOf("/")) : "";
+        Drive drive = getDrive(key);
+        path = path.startsWith(drive.getPath()) ? path : drive.getPath() + path;
+        String prefix = drive.getName() + "\n" + path;
+        int count = listings.removePrefix(prefix + "\n") + listings.removePrefix(prefix.endsWith("/") ? prefix : prefix + "/");
+        return Result.notify("已刷新 " + count + " 個目錄");
+    }
+
     @Override
     public void destroy() {
         executor.shutdownNow();
+        listings.clear();
     }
 
     private static Map<String, String> getPlayHeader(String url) {
@@ -248,24 +498,15 @@ public class AList extends Spider {
 
             String response = OkHttp.post(drive.loginApi(), params.toString());
 
-            // 使用 JsonValidator 验证响应格式
-            JsonObject jsonObj = JsonValidator.validateResponse(response, "object");
-
-            // 安全提取 token
-            JsonObject data = JsonValidator.safeGetJsonObject(jsonObj, "data");
-            if (data == null) {
-                Logger.w("Login response missing 'data' field");
-                return false;
-            }
-
-            String token = JsonValidator.safeGetString(data, "token", null);
+            // 使用 JsonValidator 验证响应格式并提取 token
+            String token = JsonValidator.bind(response, "data.token", String.class, SUCCESS);
             if (token == null || token.isEmpty()) {
                 Logger.w("Login response missing or empty 'token' field");
                 return false;
             }
 
             drive.setToken(token);
-            Logger.i("AList login successful for drive: " + drive.getName());
+            Logger.i("AList login successful for drive: {}", drive.getName());
             return true;
 
         } catch (JsonValidator.ValidationException e) {
@@ -298,16 +539,17 @@ public class AList extends Spider {
             params.put("password", drive.findPass(path));
 
             String response = post(drive, drive.getApi(), params.toString());
-            return Item.objectFrom(getDetailJson(drive.isNew(), response));
+            Item item = JsonValidator.bind(response, drive.isNew() ? "data" : "data.files[0]", Item.class, SUCCESS);
+            return item == null ? new Item() : item;
 
         } catch (IllegalArgumentException e) {
-            Logger.e("Invalid drive or path: " + id, e);
+            Logger.e("Invalid drive or path: {}", id, e);
             return new Item();
         } catch (JSONException e) {
-            Logger.e("Failed to parse detail response for: " + id, e);
+            Logger.e("Failed to parse detail response for: {}", id, e);
             return new Item();
         } catch (JsonValidator.ValidationException e) {
-            Logger.e("Detail response validation failed for: " + id, e);
+            Logger.e("Detail response validation failed for: {}", id, e);
             return new Item();
         }
     }
@@ -315,7 +557,8 @@ public class AList extends Spider {
     /**
      * 获取文件/目录列表
      * <p>
-     * 改进异常处理，记录具体错误信息。
+     * 按网盘、路径和密码缓存未过滤的列表，进入文件后列出所在目录、返回上一级时都不再请求。
+     * 超过 {@link #LIST_FRESH} 的列表先返回，同时在后台刷新；失败时返回空列表。
      * </p>
      *
      * @param id     目录 ID
@@ -328,139 +571,62 @@ public class AList extends Spider {
             String path = id.contains("/") ? id.substring(id.indexOf("/")) : "";
             Drive drive = getDrive(key);
             path = path.startsWith(drive.getPath()) ? path : drive.getPath() + path;
-
-            JSONObject params = new JSONObject();
-            params.put("path", path);
-            params.put("password", drive.findPass(path));
-
-            String response = post(drive, drive.listApi(), params.toString());
-            List<Item> items = Item.arrayFrom(getListJson(drive.isNew(), response));
-
-            // 过滤
-            if (filter) {
-                Iterator<Item> iterator = items.iterator();
-                while (iterator.hasNext()) {
-                    if (iterator.next().ignore(drive.isNew())) {
-                        iterator.remove();
-                    }
-                }
+            String pass = drive.findPass(path);
+            String cacheKey = drive.getName() + "\n" + path + "\n" + pass;
+            Listing listing = listings.get(cacheKey);
+            if (listing == null) {
+                SpiderStats.get(siteKey).miss("list");
+                listing = fetchList(drive, path, pass, cacheKey);
+            } else {
+                SpiderStats.get(siteKey).hit("list");
+                if (listing.isStale()) refreshList(drive, path, pass, cacheKey);
             }
-
+            if (listing == null) return Collections.emptyList();
+            if (!filter) return listing.items;
+            List<Item> items = new ArrayList<>();
+            for (Item item : listing.items) if (!item.ignore(drive.isNew())) items.add(item);
             return items;
-
         } catch (IllegalArgumentException e) {
-            Logger.e("Invalid drive or path: " + id, e);
-            return Collections.emptyList();
-        } catch (JSONException e) {
-            Logger.e("Failed to parse list response for: " + id, e);
-            return Collections.emptyList();
-        } catch (JsonValidator.ValidationException e) {
-            Logger.e("List response validation failed for: " + id, e);
+            Logger.e("Invalid drive or path: {}", id, e);
             return Collections.emptyList();
         }
     }
 
-    /**
-     * 提取列表 JSON
-     * <p>
-     * 使用 JsonValidator 验证响应格式，支持新旧版本 AList API。
-     * </p>
-     *
-     * @param isNew    是否为新版 API
-     * @param response 响应字符串
-     * @return 列表 JSON 字符串
-     * @throws JSONException         JSON 解析异常
-     * @throws JsonValidator.ValidationException 响应验证异常
-     */
-    private String getListJson(boolean isNew, String response) throws JSONException, JsonValidator.ValidationException {
-        // 使用 JsonValidator 验证响应
-        JsonObject jsonObj = JsonValidator.validateResponse(response, "object");
-
-        if (isNew) {
-            // 新版 API: data.content[]
-            JsonObject data = JsonValidator.safeGetJsonObject(jsonObj, "data");
-            if (data == null) {
-                throw new JSONException("Missing 'data' field in response");
-            }
-            JsonArray content = data.has("content") ? data.getAsJsonArray("content") : new JsonArray();
-            return content.toString();
-        } else {
-            // 旧版 API: data.files[]
-            JsonObject data = JsonValidator.safeGetJsonObject(jsonObj, "data");
-            if (data == null) {
-                throw new JSONException("Missing 'data' field in response");
-            }
-            JsonArray files = data.has("files") ? data.getAsJsonArray("files") : new JsonArray();
-            return files.toString();
+    private void refreshList(Drive drive, String path, String pass, String cacheKey) {
+        if (!refreshing.add(cacheKey)) return;
+        try {
+            executor.execute(() -> {
+                try {
+                    fetchList(drive, path, pass, cacheKey);
+                } finally {
+                    refreshing.remove(cacheKey);
+                }
+            });
+        } catch (RuntimeException e) {
+            refreshing.remove(cacheKey);
         }
     }
 
-    /**
-     * 提取详情 JSON
-     * <p>
-     * 使用 JsonValidator 验证响应格式，支持新旧版本 AList API。
-     * </p>
-     *
-     * @param isNew    是否为新版 API
-     * @param response 响应字符串
-     * @return 详情 JSON 字符串
-     * @throws JSONException         JSON 解析异常
-     * @throws JsonValidator.ValidationException 响应验证异常
-     */
-    private String getDetailJson(boolean isNew, String response) throws JSONException, JsonValidator.ValidationException {
-        // 使用 JsonValidator 验证响应
-        JsonObject jsonObj = JsonValidator.validateResponse(response, "object");
-
-        if (isNew) {
-            // 新版 API: data{}
-            JsonObject data = JsonValidator.safeGetJsonObject(jsonObj, "data");
-            if (data == null) {
-                throw new JSONException("Missing 'data' field in response");
-            }
-            return data.toString();
-        } else {
-            // 旧版 API: data.files[0]
-            JsonObject data = JsonValidator.safeGetJsonObject(jsonObj, "data");
-            if (data == null) {
-                throw new JSONException("Missing 'data' field in response");
-            }
-            JsonArray files = data.has("files") ? data.getAsJsonArray("files") : null;
-            if (files == null || files.size() == 0) {
-                throw new JSONException("No files found in response");
-            }
-            return files.get(0).getAsJsonObject().toString();
-        }
-    }
+    private Listing fetchList(Drive drive, String path, String pass, String cacheKey) {
+        long start = System.nanoTime();
+        try {
+            JSONObject params = new JSONObject();
+            params.put("path", path);
+            params.put("password", pass);
 
-    /**
-     * 提取搜索 JSON
-     * <p>
-     * 使用 JsonValidator 验证响应格式，支持新旧版本 AList API。
-     * </p>
-     *
-     * @param isNew    是否为新版 API
-     * @param response 响应字符串
-     * @return 搜索结果 JSON 字符串
-     * @throws JSONException         JSON 解析异常
-     * @throws JsonValidator.ValidationException 响应验证异常
-     */
-    private String getSearchJson(boolean isNew, String response) throws JSONException, JsonValidator.ValidationException {
-        // 使用 JsonValidator 验证响应
-        JsonObject jsonObj = JsonValidator.validateResponse(response, "object");
-
-        if (isNew) {
-            // 新版 API: data.content[]
-            JsonObject data = JsonValidator.safeGetJsonObject(jsonObj, "data");
-            if (data == null) {
-                throw new JSONException("Missing 'data' field in response");
-            }
-            JsonArray content = data.has("content") ? data.getAsJsonArray("content") : new JsonArray();
-            return content.toString();
-        } else {
-            // 旧版 API: data[]
-            JsonArray data = jsonObj.has("data") ? jsonObj.getAsJsonArray("data") : new JsonArray();
-            return data.toString();
+            String response = post(drive, drive.listApi(), params.toString());
+            List<Item> items = JsonValidator.bindList(response, drive.isNew() ? "data.content[]" : "data.files[]", Item.class, SUCCESS);
+            SpiderStats.get(siteKey).record("list", start, items.size());
+            Listing listing = new Listing(items);
+            if (items.size() <= LIST_MAX_ITEMS) listings.put(cacheKey, listing);
+            return listing;
+        } catch (JSONException e) {
+            Logger.e("Failed to parse list response for: {}", path, e);
+        } catch (JsonValidator.ValidationException e) {
+            Logger.e("List response validation failed for: {}", path, e);
         }
+        SpiderStats.get(siteKey).error("list", start);
+        return null;
     }
 
     private String findSubs(String path, List<Item> items) {
@@ -472,40 +638,114 @@ public class AList extends Spider {
         return sb.toString();
     }
 
-    private List<Sub> getSubs(String[] ids) {
+    private List<Sub> getSubs(List<String> ids) {
         List<Sub> sub = new ArrayList<>();
         for (String text : ids) {
             if (!text.contains("@@@")) continue;
-            String[] split = text.split("@@@");
-            String name = split[0];
-            String ext = split[1];
-            String url = getDetail(split[2]).getUrl();
+            List<String> split = PlayList.split(text, "@@@");
+            String name = split.get(0);
+            String ext = split.get(1);
+            String url = getDetail(split.get(2)).getUrl();
             sub.add(Sub.create().name(name).ext(ext).url(url));
         }
         return sub;
     }
 
-    class Job implements Callable<List<Vod>> {
+    class Job implements Callable<List<Hit>> {
 
         private final Drive drive;
+        private final int order;
         private final String keyword;
+        private final int page;
 
-        public Job(Drive drive, String keyword) {
+        public Job(Drive drive, int order, String keyword, int page) {
             this.drive = drive;
+            this.order = order;
             this.keyword = keyword;
+            this.page = page;
         }
 
         @Override
-        public List<Vod> call() {
+        public List<Hit> call() {
+            long start = System.nanoTime();
             try {
-                List<Vod> list = new ArrayList<>();
-                String response = post(drive, drive.searchApi(), drive.params(keyword));
-                List<Item> items = Item.arrayFrom(getSearchJson(drive.isNew(), response));
-                for (Item item : items) if (!item.ignore(drive.isNew())) list.add(item.getVod(drive));
+                List<Hit> list = new ArrayList<>();
+                Drive drive = ready(this.drive);
+                if (page > 1 && !drive.isNew()) return list;
+                Semaphore limit = getLimit(drive.getHost());
+                limit.acquire();
+                String response;
+                try {
+                    response = post(drive, drive.searchApi(), drive.params(keyword, page));
+                } finally {
+                    limit.release();
+                }
+                List<Item> items = JsonValidator.bindList(response, drive.isNew() ? "data.content[]" : "data[]", Item.class, SUCCESS);
+                for (Item item : items) if (!item.ignore(drive.isNew())) list.add(new Hit(drive, item, order, keyword));
+                SpiderStats.get(siteKey).record("searchDrive", start, list.size());
                 return list;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Collections.emptyList();
             } catch (Exception e) {
+                Logger.w("Search failed on drive: {}", drive.getName(), e);
+                SpiderStats.get(siteKey).error("searchDrive", start);
                 return Collections.emptyList();
             }
         }
     }
-}
\ No newline at end of file
+
+    private static final class Hit implements Comparable<Hit> {
+
+        private final Vod vod;
+        private final String key;
+        private final int rank;
+        private final int order;
+
+        Hit(Drive drive, Item item, int order, String keyword) {
+            this.vod = item.getVod(drive);
+            this.key = drive.getHost() + item.getPath() + "/" + item.getName();
+            this.rank = rank(item.getName().toLowerCase(), keyword.toLowerCase());
+            this.order = order;
+        }
+
+        /**
+         * 0 名称相同，1 以关键词开头，2 包含关键词，3 其它（如按拼音或路径命中）
+         */
+        private static int rank(String name, String keyword) {
+            if (name.equals(keyword)) return 0;
+            if (name.startsWith(keyword)) return 1;
+            return name.contains(keyword) ? 2 : 3;
+        }
+
+        @Override
+        public int compareTo(Hit other) {
+            if (rank != other.rank) return rank < other.rank ? -1 : 1;
+            return order < other.order ? -1 : order == other.order ? 0 : 1;
+        }
+    }
+
+    private static final class Listing {
+
+        private final List<Item> items;
+        private final int total;
+        private final long time;
+
+        Listing(List<Item> items) {
+            this(items, items.size());
+        }
+
+        /**
+         * @param total 目录的总条目数，服务端分页时 items 只是其中一页
+         */
+        Listing(List<Item> items, int total) {
+            this.items = Collections.unmodifiableList(items);
+            this.total = total;
+            this.time = System.currentTimeMillis();
+        }
+
+        boolean isStale() {
+            return System.currentTimeMillis() - time > LIST_FRESH;
+        }
+    }
+}
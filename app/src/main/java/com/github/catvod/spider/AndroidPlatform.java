@@ -0,0 +1,39 @@
+package com.github.catvod.spider;
+
+import android.util.Log;
+
+import com.github.catvod.platform.Platform;
+
+/**
+ * Android 平台实现
+ * <p>
+ * 由 {@link Init#init(android.content.Context)} 安装；放在 spider 包中随 custom_spider.jar 一起发布。
+ * 日志写入 logcat，Base64 使用 android.util.Base64（minSdk 21 可用）。
+ * </p>
+ */
+public class AndroidPlatform extends Platform {
+
+    @Override
+    public void log(int priority, String tag, String msg, Throwable tr) {
+        Log.println(priority, tag, tr == null ? String.valueOf(msg) : msg + '\n' + Log.getStackTraceString(tr));
+    }
+
+    /**
+     * 由 logcat 的级别设置决定（默认 INFO，可用 {@code adb shell setprop log.tag.<TAG> DEBUG} 打开调试日志）。
+     * API 24 以下标签超过 23 个字符会抛出异常，因此先截断。
+     */
+    @Override
+    public boolean isLoggable(int priority, String tag) {
+        return Log.isLoggable(tag.length() > 23 ? tag.substring(0, 23) : tag, priority);
+    }
+
+    @Override
+    public byte[] encodeBase64(byte[] input, int flags) {
+        return android.util.Base64.encode(input, flags);
+    }
+
+    @Override
+    public byte[] decodeBase64(byte[] input, int flags) {
+        return android.util.Base64.decode(input, flags);
+    }
+}
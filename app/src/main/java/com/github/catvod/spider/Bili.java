@@ -6,35 +6,58 @@ import android.text.TextUtils;
 import com.github.catvod.bean.Class;
 import com.github.catvod.bean.Danmaku;
 import com.github.catvod.bean.Filter;
+import com.github.catvod.bean.PlayList;
 import com.github.catvod.bean.Result;
 import com.github.catvod.bean.Vod;
 import com.github.catvod.bean.bili.Dash;
 import com.github.catvod.bean.bili.Data;
+import com.github.catvod.bean.bili.DmWriter;
 import com.github.catvod.bean.bili.Media;
+import com.github.catvod.bean.bili.Mpd;
 import com.github.catvod.bean.bili.Page;
 import com.github.catvod.bean.bili.Resp;
 import com.github.catvod.bean.bili.Wbi;
 import com.github.catvod.crawler.Spider;
+import com.github.catvod.crawler.SpiderStats;
 import com.github.catvod.net.OkHttp;
+import com.github.catvod.net.OkResult;
 import com.github.catvod.utils.Json;
+import com.github.catvod.utils.JsonPath;
+import com.github.catvod.utils.Logger;
 import com.github.catvod.utils.Path;
 import com.github.catvod.utils.SecureStorage;
+import com.github.catvod.utils.TtlCache;
 import com.github.catvod.utils.Util;
-import com.orhanobut.logger.Logger;
 import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
 import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
 import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import okhttp3.Response;
 
 /**
  * @author ColaMint & FongMi & 唐三
@@ -42,12 +65,43 @@ import java.util.Map;
 public class Bili extends Spider {
 
     private static final String COOKIE = "buvid3=84B0395D-C9F2-C490-E92E-A09AB48FE26E71636infoc";
+    private static final JsonPath IS_LOGIN = JsonPath.compile("data.isLogin");
+    private static final JsonPath VIP_STATUS = JsonPath.compile("data.vipStatus");
+    private static final JsonPath WBI_IMG = JsonPath.compile("data.wbi_img");
+    private static final JsonPath RELATED = JsonPath.compile("data");
+    private static final String MAX_QN = "127";
+    private static final int PART_VIEW = 30;
+    private static final int PART_THREADS = 3;
+    private static final long PART_WAIT = TimeUnit.SECONDS.toMillis(2);
+    private static final long PLAY_TTL = TimeUnit.MINUTES.toMillis(10);
+    private static final long AWAIT_TIMEOUT = TimeUnit.SECONDS.toMillis(10);
+    private static final long WBI_TTL = TimeUnit.HOURS.toMillis(24);
+    private static final long WBI_REFRESH = TimeUnit.HOURS.toMillis(20);
+    private static final long DM_TTL = TimeUnit.HOURS.toMillis(12);
+    private static final int DM_SEGMENT = 360;
+    private static final long FEED_TTL = TimeUnit.MINUTES.toMillis(10);
+    private static final int POPULAR_SIZE = 20;
+    private static final int POPULAR_MAX = 100;
     private String cookie;
 
     private JsonObject extend;
-    private boolean login;
-    private boolean isVip;
-    private Wbi wbi;
+    private volatile boolean login;
+    private volatile boolean isVip;
+    private volatile boolean checked;
+    private volatile Wbi wbi;
+    private Future<?> nav;
+    private volatile Feed home;
+    private Future<?> homeTask;
+    private volatile LinkedHashMap<String, Vod> popular;
+    private volatile long popularTime;
+    private int popularPage;
+    private Future<?> popularTask;
+    private final TtlCache<Data> plays = new TtlCache<>(64, PLAY_TTL);
+    private final ThreadPoolExecutor partExecutor = createPartExecutor();
+    private final TtlCache<Future<byte[]>> heads = new TtlCache<>(16, PLAY_TTL);
+    private boolean prefetch;
+    private final TtlCache<byte[]> mpds = new TtlCache<>(32, PLAY_TTL);
+    private final Set<String> merging = Collections.newSetFromMap(new ConcurrentHashMap<>());
 
     private Map<String, String> getHeader() {
         Map<String, String> headers = new HashMap<>();
@@ -85,7 +139,7 @@ public class Bili extends Spider {
         // 3. 如果配置为空，从安全存储读取
         if (TextUtils.isEmpty(cookie)) {
             try {
-                cookie = SecureStorage.getString("bili_cookie", "");
+                cookie = SecureStorage.get("bili_cookie", "");
                 if (!TextUtils.isEmpty(cookie)) {
                     Logger.i("Loaded Bilibili cookie from SecureStorage");
                 }
@@ -98,7 +152,7 @@ public class Bili extends Spider {
                     Logger.w("Loaded cookie from legacy file, will migrate to SecureStorage");
                     // 迁移到安全存储
                     try {
-                        SecureStorage.putString("bili_cookie", cookie);
+                        SecureStorage.save("bili_cookie", cookie);
                         Logger.i("Migrated cookie to SecureStorage successfully");
                     } catch (Exception ex) {
                         Logger.e("Failed to migrate cookie to SecureStorage", ex);
@@ -116,7 +170,7 @@ public class Bili extends Spider {
         // 5. 保存到安全存储（如果不是默认值）
         if (!cookie.equals(COOKIE)) {
             try {
-                SecureStorage.putString("bili_cookie", cookie);
+                SecureStorage.save("bili_cookie", cookie);
                 Logger.i("Saved Bilibili cookie to SecureStorage");
             } catch (Exception e) {
                 Logger.e("Failed to save cookie to SecureStorage", e);
@@ -165,6 +219,10 @@ public class Bili extends Spider {
         return Path.tv("bilibili");
     }
 
+    private File getWbiCache() {
+        return Path.tv("bilibili_wbi");
+    }
+
     @Override
     public void init(Context context, String extend) throws Exception {
         // 初始化 SecureStorage（如果尚未初始化）
@@ -177,12 +235,15 @@ public class Bili extends Spider {
         }
 
         this.extend = Json.safeObject(extend);
+        this.prefetch = Json.safeGetBoolean(this.extend.get("prefetch"), false);
         setCookie();
+        wbi = Wbi.objectFrom(Path.read(getWbiCache()));
+        nav();
     }
 
     @Override
     public String homeContent(boolean filter) throws Exception {
-        if (extend.has("json")) return OkHttp.string(extend.get("json").getAsString());
+        if (extend.has("json")) return getHome(extend.get("json").getAsString());
         List<Class> classes = new ArrayList<>();
         LinkedHashMap<String, List<Filter>> filters = new LinkedHashMap<>();
 
@@ -202,12 +263,93 @@ public class Bili extends Spider {
 
     @Override
     public String homeVideoContent() {
-        String api = "https://api.bilibili.com/x/web-interface/popular?ps=20";
-        String json = OkHttp.string(api, getHeader());
-        Resp resp = Resp.objectFrom(json);
-        List<Vod> list = new ArrayList<>();
-        for (Resp.Result item : Resp.Result.arrayFrom(resp.getData().getList())) list.add(item.getVod());
-        return Result.string(list);
+        if (popular == null) await(refreshPopular());
+        else if (System.currentTimeMillis() - popularTime > FEED_TTL) refreshPopular();
+        LinkedHashMap<String, Vod> items = popular;
+        return Result.string(items == null ? new ArrayList<>() : new ArrayList<>(items.values()));
+    }
+
+    /**
+     * 取得 extend.json 指定的首页
+     * <p>
+     * 首次同步下载，之后直接返回缓存；超过 {@link #FEED_TTL} 时带 If-None-Match / If-Modified-Since 在后台重新验证。
+     * </p>
+     */
+    private String getHome(String url) {
+        Feed feed = home;
+        if (feed == null || !feed.url.equals(url)) {
+            feed = fetchHome(url, null);
+            home = feed;
+        } else if (System.currentTimeMillis() - feed.time > FEED_TTL) {
+            refreshHome(url);
+        }
+        return feed == null ? "" : feed.body;
+    }
+
+    private synchronized void refreshHome(String url) {
+        if (homeTask == null || homeTask.isDone()) homeTask = Init.submit(() -> {
+            Feed feed = fetchHome(url, home);
+            if (feed != null) home = feed;
+            return null;
+        });
+    }
+
+    private Feed fetchHome(String url, Feed old) {
+        Map<String, String> header = new HashMap<>();
+        if (old != null && !old.etag.isEmpty()) header.put("If-None-Match", old.etag);
+        if (old != null && !old.modified.isEmpty()) header.put("If-Modified-Since", old.modified);
+        OkResult result = OkHttp.get(url, header);
+        if (result.getCode() == 304 && old != null) {
+            SpiderStats.get(siteKey).hit("home");
+            return new Feed(url, old.body, old.etag, old.modified);
+        }
+        SpiderStats.get(siteKey).miss("home");
+        if (result.getCode() != 200 || result.getBody().isEmpty()) return old;
+        Map<String, String> headers = result.getHeaders();
+        return new Feed(url, result.getBody(), getHeader(headers, "etag"), getHeader(headers, "last-modified"));
+    }
+
+    private static String getHeader(Map<String, String> headers, String name) {
+        for (Map.Entry<String, String> entry : headers.entrySet()) if (name.equalsIgnoreCase(entry.getKey())) return entry.getValue();
+        return "";
+    }
+
+    /**
+     * 刷新热门列表，同一时间只有一个刷新在进行
+     */
+    private synchronized Future<?> refreshPopular() {
+        if (popularTask == null || popularTask.isDone()) popularTask = Init.submit(() -> {
+            loadPopular();
+            return null;
+        });
+        return popularTask;
+    }
+
+    /**
+     * 重新取第一页放在最前，之后接上已有的条目，每次刷新再多取一页，按 bvid 去重，最多 {@link #POPULAR_MAX} 条
+     */
+    private void loadPopular() {
+        LinkedHashMap<String, Vod> items = new LinkedHashMap<>();
+        if (addPopular(items, 1) == 0) return;
+        LinkedHashMap<String, Vod> old = popular;
+        if (old != null) for (Map.Entry<String, Vod> entry : old.entrySet()) put(items, entry.getKey(), entry.getValue());
+        int page = old == null ? 1 : popularPage + 1;
+        if (page > 1 && items.size() < POPULAR_MAX && addPopular(items, page) == 0) page = popularPage;
+        popularPage = page;
+        popular = items;
+        popularTime = System.currentTimeMillis();
+    }
+
+    private int addPopular(LinkedHashMap<String, Vod> items, int page) {
+        String api = "https://api.bilibili.com/x/web-interface/popular?ps=" + POPULAR_SIZE + "&pn=" + page;
+        List<Resp.Result> list = Resp.Result.arrayFrom(Resp.objectFrom(OkHttp.string(api, getHeader())).getData().getList());
+        if (list == null) return 0;
+        for (Resp.Result item : list) put(items, item.getBvId(), item.getVod());
+        return list.size();
+    }
+
+    private static void put(LinkedHashMap<String, Vod> items, String key, Vod vod) {
+        if (items.size() < POPULAR_MAX && !items.containsKey(key)) items.put(key, vod);
     }
 
     @Override
@@ -217,7 +359,7 @@ public class Bili extends Spider {
             params.put("mid", tid.split("/")[0]);
             params.put("pn", pg);
             List<Vod> list = new ArrayList<>();
-            String json = OkHttp.string("https://api.bilibili.com/x/space/wbi/arc/search?" + wbi.getQuery(params), getHeader());
+            String json = OkHttp.string("https://api.bilibili.com/x/space/wbi/arc/search?" + getWbi().getQuery(params), getHeader());
             for (Resp.Result item : Resp.Result.arrayFrom(Resp.objectFrom(json).getData().getList().getAsJsonObject().get("vlist"))) list.add(item.getVod());
             return Result.string(list);
         } else {
@@ -247,17 +389,19 @@ public class Bili extends Spider {
             return Result.string(new ArrayList<>());
         }
 
-        if (!login) checkLogin();
-
         String[] split = id.split("@");
         if (split.length < 2) {
-            Logger.w("Invalid video id format, expected 'bvid@aid': " + id);
+            Logger.w("Invalid video id format, expected 'bvid@aid': {}", id);
             return Result.string(new ArrayList<>());
         }
 
         String bvid = split[0];
         String aid = split[1];
 
+        // 登录状态、相关视频与 view 同时请求，只有 playurl 需要等 view 返回的 cid
+        Future<?> nav = checked ? null : nav();
+        Future<JsonArray> related = Init.submit(() -> getRelated(bvid));
+
         String api = "https://api.bilibili.com/x/web-interface/view?aid=" + aid;
         String json = OkHttp.string(api, getHeader());
         Data detail = Resp.objectFrom(json).getData();
@@ -270,37 +414,31 @@ public class Bili extends Spider {
         vod.setVodDirector(detail.getOwner().getFormat());
         vod.setVodRemarks(detail.getDuration() / 60 + "分鐘");
 
-        List<String> acceptDesc = new ArrayList<>();
-        List<Integer> acceptQuality = new ArrayList<>();
-        api = "https://api.bilibili.com/x/player/playurl?avid=" + aid + "&cid=" + detail.getCid() + "&qn=127&fnval=4048&fourk=1";
-        json = OkHttp.string(api, getHeader());
-        Data play = Resp.objectFrom(json).getData();
-        for (int i = 0; i < play.getAcceptQuality().size(); i++) {
-            int qn = play.getAcceptQuality().get(i);
-            if (!login && qn > 32) continue;
-            if (!isVip && qn > 80) continue;
-            acceptQuality.add(play.getAcceptQuality().get(i));
-            acceptDesc.add(play.getAcceptDescription().get(i));
+        List<Page> pages = detail.getPages();
+        List<String> cids = new ArrayList<>();
+        for (int i = 0; i < pages.size() && cids.size() < PART_VIEW; i++) if (!pages.get(i).getCid().equals(detail.getCid())) cids.add(pages.get(i).getCid());
+        Map<String, Data> parts = new ConcurrentHashMap<>();
+        List<Future<?>> workers = resolve(aid, cids, parts);
+        Data play = getPlay(aid, detail.getCid());
+        if (nav != null) await(nav);
+
+        // 分 P 最多再等 PART_WAIT，来不及解析的沿用主 P 的清晰度，解析完成后进入缓存，下次打开详情时生效
+        String accept = getAccept(play);
+        await(workers, PART_WAIT);
+        PlayList playList = PlayList.create().flag("B站");
+        for (Page page : pages) {
+            Data part = parts.get(page.getCid());
+            playList.add(page.getPart(), aid + "+" + page.getCid() + (part == null ? accept : getAccept(part)));
         }
 
-        List<String> episode = new ArrayList<>();
-        LinkedHashMap<String, String> flag = new LinkedHashMap<>();
-        for (Page page : detail.getPages()) episode.add(page.getPart() + "$" + aid + "+" + page.getCid() + "+" + TextUtils.join(":", acceptQuality) + "+" + TextUtils.join(":", acceptDesc));
-        flag.put("B站", TextUtils.join("#", episode));
-
-        episode = new ArrayList<>();
-        api = "https://api.bilibili.com/x/web-interface/archive/related?bvid=" + bvid;
-        json = OkHttp.string(api, getHeader());
-        JsonArray array = Json.parse(json).getAsJsonObject().getAsJsonArray("data");
-        for (int i = 0; i < array.size(); i++) {
+        playList.flag("相关");
+        JsonArray array = await(related);
+        for (int i = 0; array != null && i < array.size(); i++) {
             JsonObject object = array.get(i).getAsJsonObject();
-            episode.add(object.get("title").getAsString() + "$" + object.get("aid").getAsInt() + "+" + object.get("cid").getAsInt() + "+" + TextUtils.join(":", acceptQuality) + "+" + TextUtils.join(":", acceptDesc));
+            playList.add(object.get("title").getAsString(), object.get("aid").getAsInt() + "+" + object.get("cid").getAsInt() + accept);
         }
-        flag.put("相关", TextUtils.join("#", episode));
 
-        vod.setVodPlayFrom(TextUtils.join("$$$", flag.keySet()));
-        vod.setVodPlayUrl(TextUtils.join("$$$", flag.values()));
-        return Result.string(vod);
+        return Result.string(playList.apply(vod));
     }
 
     @Override
@@ -315,93 +453,412 @@ public class Bili extends Spider {
 
     @Override
     public String playerContent(String flag, String id, List<String> vipFlags) {
-        String[] ids = id.split("\\+");
-        String aid = ids[0];
-        String cid = ids[1];
-        String[] acceptDesc = ids[3].split(":");
-        String[] acceptQuality = ids[2].split(":");
+        // 清晰度描述可能含 "+"（如 "1080P+"），限制切分段数，最后一段整体保留
+        List<String> ids = PlayList.split(PlayList.unescape(id), "+", 4);
+        String aid = ids.get(0);
+        String cid = ids.get(1);
+        List<String> acceptDesc = PlayList.split(ids.get(3), ":");
+        List<String> acceptQuality = PlayList.split(ids.get(2), ":");
         List<String> url = new ArrayList<>();
-        String dan = "https://api.bilibili.com/x/v1/dm/list.so?oid=".concat(cid);
-        for (int i = 0; i < acceptDesc.length; i++) {
-            url.add(acceptDesc[i]);
-            url.add(Proxy.getUrl(siteKey, "&aid=" + aid + "&cid=" + cid + "&qn=" + acceptQuality[i] + "&type=mpd"));
+        String dan = Proxy.getUrl(siteKey, "&aid=" + aid + "&cid=" + cid + "&type=dm");
+        for (int i = 0; i < acceptDesc.size(); i++) {
+            url.add(acceptDesc.get(i));
+            url.add(Proxy.getUrl(siteKey, "&aid=" + aid + "&cid=" + cid + "&qn=" + acceptQuality.get(i) + "&type=mpd"));
         }
         return Result.get().url(url).danmaku(Arrays.asList(Danmaku.create().name("B站").url(dan))).dash().header(getHeader()).string();
     }
 
     @Override
-    public Object[] proxy(Map<String, String> params) {
+    public Object[] proxy(Map<String, String> params) throws Exception {
         String aid = params.get("aid");
         String cid = params.get("cid");
+        if ("dm".equals(params.get("type"))) return danmaku(aid, cid);
+        if ("media".equals(params.get("type"))) return media(params.get("url"), params.get("range"));
         String qn = params.get("qn");
-        String api = "https://api.bilibili.com/x/player/playurl?avid=" + aid + "&cid=" + cid + "&qn=" + qn + "&fnval=4048&fourk=1";
-        String json = OkHttp.string(api, getHeader());
-        Resp resp = Resp.objectFrom(json);
-        Dash dash = resp.getData().getDash();
-        StringBuilder video = new StringBuilder();
-        StringBuilder audio = new StringBuilder();
-        findAudio(dash, audio);
-        findVideo(dash, video, qn);
-        String mpd = getMpd(dash, video.toString(), audio.toString());
+        String key = getPlayKey(aid, cid) + "+" + qn;
+        byte[] mpd = mpds.get(key);
+        Dash dash = mpd == null || prefetch ? getPlay(aid, cid).getDash() : null;
+        if (mpd == null) {
+            mpd = Mpd.write(dash, getQuality(qn), prefetch ? this::getMediaUrl : null).getBytes();
+            if (!dash.getVideo().isEmpty()) mpds.put(key, mpd);
+        }
+        if (prefetch) for (Media media : Mpd.preferred(dash, getQuality(qn))) prefetch(media);
         Object[] result = new Object[3];
         result[0] = 200;
         result[1] = "application/dash+xml";
-        result[2] = new ByteArrayInputStream(mpd.getBytes());
+        result[2] = new ByteArrayInputStream(mpd);
         return result;
     }
 
-    private HashMap<String, String> getAudioFormat() {
-        HashMap<String, String> audios = new HashMap<>();
-        audios.put("30280", "192000");
-        audios.put("30232", "132000");
-        audios.put("30216", "64000");
-        return audios;
+    @Override
+    public void destroy() {
+        partExecutor.shutdownNow();
+    }
+
+    private String getMediaUrl(Media media) {
+        return Proxy.getUrl(siteKey, "&type=media&url=" + URLEncoder.encode(media.getBaseUrl()));
+    }
+
+    /**
+     * 预取文件开头的初始化段和 sidx 索引
+     * <p>
+     * 播放器拿到 MPD 后首先要按 Initialization 和 indexRange 请求这两段，
+     * 在返回 MPD 的同时并行取回，播放器请求时直接从内存返回，省去一次到 CDN 的往返。
+     * </p>
+     */
+    private void prefetch(Media media) {
+        String url = media.getBaseUrl();
+        long end = media.getSegmentBase() == null ? -1 : media.getSegmentBase().getHeadEnd();
+        if (end < 0 || heads.get(url) != null) return;
+        heads.put(url, Init.submit(() -> getHead(url, end)));
+    }
+
+    private byte[] getHead(String url, long end) throws Exception {
+        Map<String, String> header = getHeader();
+        header.put("Range", "bytes=0-" + end);
+        try (Response res = OkHttp.newCall(url, header)) {
+            if (res.code() != 206) return null;
+            return res.body().bytes();
+        }
+    }
+
+    /**
+     * 预取模式下的媒体地址
+     * <p>
+     * 请求的区间落在已预取的开头部分时从内存返回，否则重定向到原地址。
+     * </p>
+     */
+    private Object[] media(String url, String range) {
+        if (url == null) return null;
+        long[] bounds = getRange(range);
+        Future<byte[]> future = heads.get(url);
+        byte[] head = future == null || bounds == null ? null : await(future);
+        Map<String, String> headers = new HashMap<>();
+        if (head == null || bounds[1] >= head.length) {
+            SpiderStats.get(siteKey).miss("segment");
+            headers.put("Location", url);
+            return new Object[]{302, "text/plain", null, headers};
+        }
+        SpiderStats.get(siteKey).hit("segment");
+        int start = (int) bounds[0];
+        int length = (int) (bounds[1] - bounds[0] + 1);
+        headers.put("Content-Range", "bytes " + bounds[0] + "-" + bounds[1] + "/*");
+        return new Object[]{206, "application/octet-stream", new ByteArrayInputStream(head, start, length), headers};
+    }
+
+    /**
+     * @return [start, end]，只支持指明结束位置的单区间
+     */
+    private static long[] getRange(String range) {
+        if (range == null || !range.startsWith("bytes=")) return null;
+        int dash = range.indexOf('-');
+        try {
+            long start = Long.parseLong(range.substring(6, dash).trim());
+            long end = Long.parseLong(range.substring(dash + 1).trim());
+            return start <= end ? new long[]{start, end} : null;
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 弹幕
+     * <p>
+     * 先只下载 list.so 的 XML 写入本地文件并立即返回，长视频按 6 分钟分段的 seg.so 在后台合并去重后替换该文件，
+     * {@link #DM_TTL} 内再次打开同一个 cid 直接读文件，不再下载。下载不到弹幕时不覆盖已有的文件。
+     * </p>
+     */
+    private Object[] danmaku(String aid, String cid) throws Exception {
+        File file = new File(getDanmakuCache(), cid + ".xml");
+        if (!file.exists() || System.currentTimeMillis() - file.lastModified() > DM_TTL) {
+            fetchDanmaku(cid, file);
+            mergeDanmaku(aid, cid, file);
+        }
+        Object[] result = new Object[3];
+        result[0] = 200;
+        result[1] = "text/xml; charset=utf-8";
+        result[2] = file.exists() ? new FileInputStream(file) : new ByteArrayInputStream("<i></i>".getBytes());
+        return result;
+    }
+
+    private void fetchDanmaku(String cid, File file) throws Exception {
+        File dir = getDanmakuCache();
+        for (File old : Path.list(dir)) if (System.currentTimeMillis() - old.lastModified() > DM_TTL) Path.clear(old);
+        File temp = File.createTempFile(cid, ".tmp", dir);
+        int count;
+        try (DmWriter writer = new DmWriter(new OutputStreamWriter(new FileOutputStream(temp), StandardCharsets.UTF_8), cid)) {
+            try (Response res = OkHttp.newCall("https://api.bilibili.com/x/v1/dm/list.so?oid=" + cid, getHeader())) {
+                InputStream in = res.body().byteStream();
+                if ("deflate".equalsIgnoreCase(res.header("Content-Encoding"))) in = new InflaterInputStream(in, new Inflater(true));
+                writer.readXml(in);
+            } catch (Exception e) {
+                Logger.w("Failed to load danmaku xml for cid: {}", cid, e);
+            }
+            count = writer.size();
+        }
+        Logger.d("Loaded {} danmaku for cid: {}", count, cid);
+        if (count > 0) Path.move(temp, file);
+        else Path.clear(temp);
+    }
+
+    /**
+     * 在后台把分段弹幕合并进已有的弹幕文件，同一个 cid 同时只有一个合并在进行
+     */
+    private void mergeDanmaku(String aid, String cid, File file) {
+        if (!merging.add(cid)) return;
+        Init.execute(() -> {
+            try {
+                int segments = getSegments(aid, cid);
+                if (segments > 1) mergeSegments(cid, file, segments);
+            } catch (Exception e) {
+                Logger.w("Failed to merge danmaku segments for cid: {}", cid, e);
+            } finally {
+                merging.remove(cid);
+            }
+        });
     }
 
-    private void findAudio(Dash dash, StringBuilder sb) {
-        for (Media audio : dash.getAudio()) {
-            for (String key : getAudioFormat().keySet()) {
-                if (audio.getId().equals(key)) {
-                    sb.append(getMedia(audio));
+    private void mergeSegments(String cid, File file, int segments) throws Exception {
+        File temp = File.createTempFile(cid, ".tmp", getDanmakuCache());
+        int base = 0;
+        int count;
+        try (DmWriter writer = new DmWriter(new OutputStreamWriter(new FileOutputStream(temp), StandardCharsets.UTF_8), cid)) {
+            if (file.exists()) {
+                try (InputStream in = new FileInputStream(file)) {
+                    base = writer.readXml(in);
+                } catch (Exception e) {
+                    Logger.w("Failed to read danmaku cache for cid: {}", cid, e);
                 }
             }
+            for (int i = 1; i <= segments; i++) {
+                try (Response res = OkHttp.newCall("https://api.bilibili.com/x/v2/dm/web/seg.so?type=1&oid=" + cid + "&segment_index=" + i, getHeader())) {
+                    writer.readSeg(res.body().bytes());
+                } catch (Exception e) {
+                    Logger.w("Failed to load danmaku segment {} for cid: {}", i, cid, e);
+                }
+            }
+            count = writer.size();
+        }
+        Logger.d("Merged {} danmaku from {} segments for cid: {}", count - base, segments, cid);
+        if (count > base) Path.move(temp, file);
+        else Path.clear(temp);
+    }
+
+    private int getSegments(String aid, String cid) {
+        try {
+            double duration = Double.parseDouble(getPlay(aid, cid).getDash().getDuration());
+            return (int) Math.ceil(duration / DM_SEGMENT);
+        } catch (Exception e) {
+            return 1;
+        }
+    }
+
+    private File getDanmakuCache() {
+        File dir = Path.tv("bilibili_dm");
+        if (!dir.exists()) dir.mkdirs();
+        return dir;
+    }
+
+    private JsonArray getRelated(String bvid) {
+        String json = OkHttp.string("https://api.bilibili.com/x/web-interface/archive/related?bvid=" + bvid, getHeader());
+        JsonElement data = Json.extract(json, RELATED)[0];
+        return data != null && data.isJsonArray() ? data.getAsJsonArray() : new JsonArray();
+    }
+
+    /**
+     * 取得播放信息，先查缓存
+     * <p>
+     * fnval=4048 返回的 dash 中包含账号可用的全部清晰度，按最高清晰度请求一次，
+     * 详情页和各清晰度的 MPD 共用同一份结果，切换清晰度不再请求 playurl。
+     * </p>
+     */
+    private Data getPlay(String aid, String cid) {
+        String key = getPlayKey(aid, cid);
+        Data play = plays.get(key);
+        if (play != null) {
+            SpiderStats.get(siteKey).hit("playurl");
+            return play;
+        }
+        SpiderStats.get(siteKey).miss("playurl");
+        String api = "https://api.bilibili.com/x/player/playurl?avid=" + aid + "&cid=" + cid + "&qn=" + MAX_QN + "&fnval=4048&fourk=1";
+        play = Resp.objectFrom(OkHttp.string(api, getHeader())).getData();
+        if (!play.getDash().getVideo().isEmpty()) plays.put(key, play);
+        return play;
+    }
+
+    /**
+     * 播放信息的缓存键
+     * <p>
+     * playurl 返回的清晰度取决于账号，键中带上登录、大会员状态和 cookie，
+     * nav 返回前以游客身份取得的结果不会在登录后继续使用。
+     * </p>
+     */
+    private String getPlayKey(String aid, String cid) {
+        return aid + "+" + cid + "+" + (login ? isVip ? "vip" : "user" : "guest") + "+" + (cookie == null ? 0 : cookie.hashCode());
+    }
+
+    private static int getQuality(String qn) {
+        try {
+            return Integer.parseInt(qn);
+        } catch (NumberFormatException e) {
+            return Integer.parseInt(MAX_QN);
+        }
+    }
+
+    /**
+     * 清晰度列表，按登录和大会员状态过滤
+     *
+     * @return "+qn:qn+desc:desc"
+     */
+    private String getAccept(Data play) {
+        List<String> acceptDesc = new ArrayList<>();
+        List<Integer> acceptQuality = new ArrayList<>();
+        for (int i = 0; i < play.getAcceptQuality().size(); i++) {
+            int qn = play.getAcceptQuality().get(i);
+            if (!login && qn > 32) continue;
+            if (!isVip && qn > 80) continue;
+            acceptQuality.add(play.getAcceptQuality().get(i));
+            acceptDesc.add(play.getAcceptDescription().get(i));
+        }
+        return "+" + TextUtils.join(":", acceptQuality) + "+" + TextUtils.join(":", acceptDesc);
+    }
+
+    /**
+     * 并发取得多个分 P 的播放信息
+     * <p>
+     * 由爬虫自己的 {@link #PART_THREADS} 个线程请求，不占用 {@link Init} 的线程，结果同时进入播放信息缓存。
+     * 队列最多 {@link #PART_VIEW} 个，打开新的详情页时丢弃上一个还没开始解析的分 P。
+     * 已缓存的分 P 直接放入 result，取不到的分 P 不放入 result。
+     * </p>
+     *
+     * @param result cid 与播放信息的对应，worker 结束后完整
+     * @return 每个需要请求的分 P 一个 worker
+     */
+    private List<Future<?>> resolve(String aid, List<String> cids, Map<String, Data> result) {
+        List<Future<?>> workers = new ArrayList<>();
+        for (String cid : cids) {
+            Data cached = plays.get(getPlayKey(aid, cid));
+            if (cached != null) {
+                if (!cached.getAcceptQuality().isEmpty()) result.put(cid, cached);
+                continue;
+            }
+            workers.add(partExecutor.submit(() -> {
+                try {
+                    Data play = getPlay(aid, cid);
+                    if (!play.getAcceptQuality().isEmpty()) result.put(cid, play);
+                } catch (Exception e) {
+                    Logger.w("Failed to resolve part {} of {}", cid, aid, e);
+                }
+            }));
         }
+        return workers;
     }
 
-    private void findVideo(Dash dash, StringBuilder sb, String qn) {
-        for (Media video : dash.getVideo()) {
-            if (video.getId().equals(qn)) {
-                sb.append(getMedia(video));
+    /**
+     * 在同一个截止时间前等待多个 worker，超时的继续在后台运行
+     */
+    private static void await(List<Future<?>> workers, long timeout) {
+        long deadline = System.currentTimeMillis() + timeout;
+        try {
+            for (Future<?> worker : workers) {
+                long wait = deadline - System.currentTimeMillis();
+                if (wait <= 0) break;
+                worker.get(wait, TimeUnit.MILLISECONDS);
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // 超时或失败的分 P 沿用主 P 的清晰度
         }
     }
 
-    private String getMedia(Media media) {
-        if (media.getMimeType().startsWith("video")) {
-            return getAdaptationSet(media, String.format(Locale.getDefault(), "height='%s' width='%s' frameRate='%s' sar='%s'", media.getHeight(), media.getWidth(), media.getFrameRate(), media.getSar()));
-        } else if (media.getMimeType().startsWith("audio")) {
-            return getAdaptationSet(media, String.format("numChannels='2' sampleRate='%s'", getAudioFormat().get(media.getId())));
-        } else {
-            return "";
+    private static ThreadPoolExecutor createPartExecutor() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(PART_THREADS, PART_THREADS, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(PART_VIEW), runnable -> {
+            Thread thread = new Thread(runnable, "Bili-Part");
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.DiscardOldestPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * 等待后台请求，最多 {@link #AWAIT_TIMEOUT}
+     *
+     * @return 结果，失败或超时时为 null
+     */
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get(AWAIT_TIMEOUT, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            Logger.w("Bili background request timed out after {}ms", AWAIT_TIMEOUT);
+            return null;
+        } catch (Exception e) {
+            Logger.w("Bili background request failed", e);
+            return null;
         }
     }
 
-    private String getAdaptationSet(Media media, String params) {
-        String id = media.getId() + "_" + media.getCodecId();
-        String type = media.getMimeType().split("/")[0];
-        String baseUrl = media.getBaseUrl().replace("&", "&amp;");
-        return String.format(Locale.getDefault(), "<AdaptationSet>\n" + "<ContentComponent contentType=\"%s\"/>\n" + "<Representation id=\"%s\" bandwidth=\"%s\" codecs=\"%s\" mimeType=\"%s\" %s startWithSAP=\"%s\">\n" + "<BaseURL>%s</BaseURL>\n" + "<SegmentBase indexRange=\"%s\">\n" + "<Initialization range=\"%s\"/>\n" + "</SegmentBase>\n" + "</Representation>\n" + "</AdaptationSet>", type, id, media.getBandWidth(), media.getCodecs(), media.getMimeType(), params, media.getStartWithSap(), baseUrl, media.getSegmentBase().getIndexRange(), media.getSegmentBase().getInitialization());
+    /**
+     * 请求 nav，同一时间只有一个请求在进行，进行中时返回同一个 Future
+     */
+    private synchronized Future<?> nav() {
+        if (nav == null || nav.isDone()) nav = Init.submit(() -> {
+            checkLogin();
+            return null;
+        });
+        return nav;
     }
 
-    private String getMpd(Dash dash, String videoList, String audioList) {
-        return String.format(Locale.getDefault(), "<MPD xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xmlns=\"urn:mpeg:dash:schema:mpd:2011\" xsi:schemaLocation=\"urn:mpeg:dash:schema:mpd:2011 DASH-MPD.xsd\" type=\"static\" mediaPresentationDuration=\"PT%sS\" minBufferTime=\"PT%sS\" profiles=\"urn:mpeg:dash:profile:isoff-on-demand:2011\">\n" + "<Period duration=\"PT%sS\" start=\"PT0S\">\n" + "%s\n" + "%s\n" + "</Period>\n" + "</MPD>", dash.getDuration(), dash.getMinBufferTime(), dash.getDuration(), videoList, audioList);
+    /**
+     * 取得 WBI 密钥
+     * <p>
+     * 密钥每天轮换，取得后持久化到本地。没有可用密钥或已超过 {@link #WBI_TTL} 时等待 nav 返回；
+     * 超过 {@link #WBI_REFRESH} 时仍使用当前密钥，同时在后台刷新。
+     * </p>
+     *
+     * @return 密钥，nav 失败时为空密钥（请求不带签名）
+     */
+    private Wbi getWbi() {
+        Wbi current = wbi;
+        if (current == null || current.getAge() > WBI_TTL) {
+            await(nav());
+            current = wbi;
+        } else if (current.getAge() > WBI_REFRESH) {
+            nav();
+        }
+        return current == null ? new Wbi() : current;
     }
 
     private void checkLogin() {
         String json = OkHttp.string("https://api.bilibili.com/x/web-interface/nav", getHeader());
-        Data data = Resp.objectFrom(json).getData();
-        login = data.isLogin();
-        isVip = data.isVip();
-        wbi = data.getWbi();
+        JsonElement[] values = Json.extract(json, IS_LOGIN, VIP_STATUS, WBI_IMG);
+        Wbi fetched = values[2] != null && values[2].isJsonObject() ? Json.gson().fromJson(values[2], Wbi.class) : null;
+        if (fetched == null || fetched.getMixinKey().isEmpty()) {
+            Logger.w("Bili nav returned no wbi_img");
+            return;
+        }
+        login = Json.safeGetBoolean(values[0], false);
+        isVip = !"0".equals(Json.safeGetString(values[1], "0"));
+        wbi = fetched.stamp();
+        checked = true;
+        Path.write(getWbiCache(), Json.gson().toJson(fetched).getBytes());
+    }
+
+    private static final class Feed {
+
+        private final String url;
+        private final String body;
+        private final String etag;
+        private final String modified;
+        private final long time;
+
+        Feed(String url, String body, String etag, String modified) {
+            this.url = url;
+            this.body = body;
+            this.etag = etag == null ? "" : etag;
+            this.modified = modified == null ? "" : modified;
+            this.time = System.currentTimeMillis();
+        }
     }
 }
@@ -5,8 +5,12 @@ import android.content.Context;
 import android.os.Handler;
 import android.os.Looper;
 
+import com.github.catvod.platform.Platform;
+
+import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 public class Init {
 
@@ -32,6 +36,7 @@ public class Init {
     }
 
     public static void init(Context context) {
+        Platform.set(new AndroidPlatform());
         get().app = ((Application) context);
         Proxy.init();
     }
@@ -40,6 +45,10 @@ public class Init {
         get().executor.execute(runnable);
     }
 
+    public static <T> Future<T> submit(Callable<T> task) {
+        return get().executor.submit(task);
+    }
+
     public static void post(Runnable runnable) {
         get().handler.post(runnable);
     }
@@ -5,8 +5,8 @@ import com.github.catvod.bean.Result;
 import com.github.catvod.bean.Vod;
 import com.github.catvod.crawler.Spider;
 import com.github.catvod.net.OkHttp;
+import com.github.catvod.platform.Log;
 import com.github.catvod.utils.Util;
-import com.orhanobut.logger.Logger;
 
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
@@ -20,6 +20,7 @@ import java.util.Locale;
 
 public class Jable extends Spider {
 
+    private static final String TAG = Jable.class.getSimpleName();
     private static final String siteUrl = "https://jable.tv";
     private static final String cateUrl = siteUrl + "/categories/";
     private static final String detailUrl = siteUrl + "/videos/";
@@ -41,7 +42,7 @@ public class Jable extends Spider {
             String[] parts = href.split("/");
 
             if (parts.length <= 4) {
-                Logger.w("Jable: Invalid category URL format: " + href);
+                Log.w(TAG, "Invalid category URL format: " + href);
                 continue;
             }
 
@@ -64,7 +65,7 @@ public class Jable extends Spider {
 
             String[] parts = url.split("/");
             if (parts.length <= 4) {
-                Logger.w("Jable: Invalid video URL format: " + url);
+                Log.w(TAG, "Invalid video URL format: " + url);
                 continue;
             }
 
@@ -76,24 +77,9 @@ public class Jable extends Spider {
 
     @Override
     public String categoryContent(String tid, String pg, boolean filter, HashMap<String, String> extend) {
-        List<Vod> list = new ArrayList<>();
         String target = cateUrl + tid + "/?mode=async&function=get_block&block_id=list_videos_common_videos_list&sort_by=post_date&from=" + String.format(Locale.getDefault(), "%02d", Integer.parseInt(pg)) + "&_=" + System.currentTimeMillis();
         Document doc = Jsoup.parse(OkHttp.string(target, getHeaders()));
-        for (Element element : doc.select("div.video-img-box")) {
-            String pic = element.select("img").attr("data-src");
-            String url = element.select("a").attr("href");
-            String name = element.select("div.detail > h6").text();
-
-            String[] parts = url.split("/");
-            if (parts.length <= 4) {
-                Logger.w("Jable: Invalid video URL format in category: " + url);
-                continue;
-            }
-
-            String id = parts[4];
-            list.add(new Vod(id, name, pic));
-        }
-        return Result.string(list);
+        return Result.string(parseVods(doc));
     }
 
     @Override
@@ -112,7 +98,7 @@ public class Jable extends Spider {
         // 安全获取播放 URL
         String hlsUrl = Util.getVar(doc.html(), "hlsUrl");
         if (hlsUrl == null || hlsUrl.isEmpty()) {
-            Logger.w("Jable: Failed to extract hlsUrl for video: " + ids.get(0));
+            Log.w(TAG, "Failed to extract hlsUrl for video: " + ids.get(0));
             hlsUrl = "";
         }
 
@@ -128,8 +114,20 @@ public class Jable extends Spider {
 
     @Override
     public String searchContent(String key, boolean quick) {
-        List<Vod> list = new ArrayList<>();
         Document doc = Jsoup.parse(OkHttp.string(searchUrl.concat(URLEncoder.encode(key)).concat("/"), getHeaders()));
+        return Result.string(parseVods(doc));
+    }
+
+    @Override
+    public String playerContent(String flag, String id, List<String> vipFlags) {
+        return Result.get().url(id).header(getHeaders()).string();
+    }
+
+    /**
+     * 解析列表页卡片（分类和搜索共用）
+     */
+    List<Vod> parseVods(Document doc) {
+        List<Vod> list = new ArrayList<>();
         for (Element element : doc.select("div.video-img-box")) {
             String pic = element.select("img").attr("data-src");
             String url = element.select("a").attr("href");
@@ -137,18 +135,13 @@ public class Jable extends Spider {
 
             String[] parts = url.split("/");
             if (parts.length <= 4) {
-                Logger.w("Jable: Invalid video URL format in search: " + url);
+                Log.w(TAG, "Invalid video URL format: " + url);
                 continue;
             }
 
             String id = parts[4];
             list.add(new Vod(id, name, pic));
         }
-        return Result.string(list);
-    }
-
-    @Override
-    public String playerContent(String flag, String id, List<String> vipFlags) {
-        return Result.get().url(id).header(getHeaders()).string();
+        return list;
     }
 }
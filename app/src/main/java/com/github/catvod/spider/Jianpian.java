@@ -14,12 +14,12 @@ import com.github.catvod.crawler.Spider;
 import com.github.catvod.net.OkHttp;
 import com.github.catvod.utils.Json;
 import com.github.catvod.utils.JsonValidator;
+import com.github.catvod.utils.Logger;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
-import com.orhanobut.logger.Logger;
 
 import java.net.URLEncoder;
 import java.util.ArrayList;
@@ -68,20 +68,10 @@ public class Jianpian extends Spider {
                 return;
             }
 
-            // 使用 JsonValidator 验证 DNS 响应
-            JsonObject domains = JsonValidator.validateResponse(dnsResponse, "object");
-            JsonArray answerArray = Json.safeGetJsonArray(domains, "Answer");
-
-            if (answerArray.size() == 0) {
-                Logger.w("DNS Answer array is empty");
-                return;
-            }
-
-            // 安全获取 data 字段
-            JsonObject firstAnswer = answerArray.get(0).getAsJsonObject();
-            String parts = Json.safeGetString(firstAnswer, "data", "");
+            // 使用 JsonValidator 验证 DNS 响应并提取第一条记录
+            String parts = JsonValidator.bind(dnsResponse, "Answer[0].data", String.class);
             if (TextUtils.isEmpty(parts)) {
-                Logger.w("DNS data field is empty");
+                Logger.w("DNS Answer is empty");
                 return;
             }
 
@@ -95,7 +85,7 @@ public class Jianpian extends Spider {
             // 遍历域名，找到可用的
             for (String d : domain) {
                 String testUrl = "https://wangerniu." + d;
-                Logger.d("Trying domain: " + testUrl);
+                Logger.d("Trying domain: {}", testUrl);
 
                 String json = OkHttp.string(testUrl + "/api/v2/settings/resourceDomainConfig");
                 if (TextUtils.isEmpty(json)) {
@@ -105,10 +95,7 @@ public class Jianpian extends Spider {
 
                 try {
                     // 使用 JsonValidator 验证响应
-                    JsonObject root = JsonValidator.validateResponse(json, "object");
-                    JsonObject data = Json.safeGetJsonObject(root, "data");
-
-                    String imgDomainStr = Json.safeGetString(data, "imgDomain", "");
+                    String imgDomainStr = JsonValidator.bind(json, "data.imgDomain", String.class);
                     if (!TextUtils.isEmpty(imgDomainStr)) {
                         String[] imgDomains = imgDomainStr.split(",");
                         if (imgDomains.length > 0) {
@@ -119,7 +106,7 @@ public class Jianpian extends Spider {
                         }
                     }
                 } catch (JsonValidator.ValidationException e) {
-                    Logger.w("Failed to parse response from domain: " + testUrl, e);
+                    Logger.w("Failed to parse response from domain: {}", testUrl, e);
                     // 继续尝试下一个域名
                 }
             }
@@ -128,8 +115,8 @@ public class Jianpian extends Spider {
             if (validSiteUrl != null && validImgDomain != null) {
                 this.siteUrl = validSiteUrl;
                 this.imgDomain = validImgDomain;
-                Logger.i("Jianpian initialized successfully with domain: " + this.siteUrl);
-                Logger.i("Image domain: " + this.imgDomain);
+                Logger.i("Jianpian initialized successfully with domain: {}", this.siteUrl);
+                Logger.i("Image domain: {}", this.imgDomain);
             } else {
                 Logger.w("Failed to initialize Jianpian: no valid domain found");
             }
@@ -1,17 +1,19 @@
 package com.github.catvod.spider;
 
 import android.content.Context;
-import android.text.TextUtils;
 import android.util.Base64;
 
 import com.github.catvod.bean.Class;
+import com.github.catvod.bean.PlayList;
 import com.github.catvod.bean.Result;
 import com.github.catvod.bean.Vod;
 import com.github.catvod.crawler.Spider;
 import com.github.catvod.net.OkHttp;
+import com.github.catvod.utils.Json;
+import com.github.catvod.utils.JsonPath;
 import com.github.catvod.utils.Util;
+import com.google.gson.JsonElement;
 
-import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 import org.jsoup.Jsoup;
@@ -29,6 +31,9 @@ import java.util.Map;
  */
 public class Kanqiu extends Spider {
 
+    private static final JsonPath DATA = JsonPath.compile("data");
+    private static final JsonPath LINKS = JsonPath.compile("links[]");
+
     private String siteUrl = "http://www.88kanqiu.tw";
 
     private Map<String, String> getHeader() {
@@ -73,30 +78,28 @@ public class Kanqiu extends Spider {
     }
 
     @Override
-    public String detailContent(List<String> ids) throws JSONException {
+    public String detailContent(List<String> ids) {
         if (ids.get(0).equals(siteUrl)) return Result.error("比赛尚未开始");
         String content = OkHttp.string(ids.get(0) + "-url", getHeader());
-        String result = new JSONObject(content).optString("data");
-        result = result.substring(6);
-        result = result.substring(0, result.length() - 2);
+        String result = Json.safeGetString(Json.extract(content, DATA)[0], "");
+        if (result.length() < 8) return Result.error("暂无播放地址");
+        result = result.substring(6, result.length() - 2);
         String json = new String(Base64.decode(result, Base64.DEFAULT));
-        JSONArray linksArray = new JSONObject(json).getJSONArray("links");
-        List<String> vodItems = new ArrayList<>();
-        for (int i = 0; i < linksArray.length(); i++) {
-            JSONObject linkObject = linksArray.getJSONObject(i);
-            String text = linkObject.optString("name");
-            String href = linkObject.optString("url").replace("#", "***");
-            vodItems.add(text + "$" + href);
+        JsonElement links = Json.extract(json, LINKS)[0];
+        PlayList playList = PlayList.create().flag("Qile");
+        if (links != null) {
+            for (JsonElement link : links.getAsJsonArray()) {
+                if (!link.isJsonObject()) continue;
+                playList.add(Json.safeGetString(link.getAsJsonObject(), "name", ""), Json.safeGetString(link.getAsJsonObject(), "url", ""));
+            }
         }
         Vod vod = new Vod();
         vod.setVodId(ids.get(0));
-        vod.setVodPlayFrom("Qile");
-        vod.setVodPlayUrl(TextUtils.join("#", vodItems));
-        return Result.string(vod);
+        return Result.string(playList.apply(vod));
     }
 
     @Override
     public String playerContent(String flag, String id, List<String> vipFlags) {
-        return Result.get().url(id.replace("***", "#")).parse().header(getHeader()).string();
+        return Result.get().url(PlayList.unescape(id)).parse().header(getHeader()).string();
     }
 }
@@ -10,17 +10,22 @@ import android.text.TextUtils;
 import android.util.Base64;
 
 import com.github.catvod.bean.Class;
+import com.github.catvod.bean.Pager;
+import com.github.catvod.bean.PlayList;
 import com.github.catvod.bean.Result;
+import com.github.catvod.bean.ResultWriter;
 import com.github.catvod.bean.Sub;
 import com.github.catvod.bean.Vod;
 import com.github.catvod.crawler.Spider;
 import com.github.catvod.utils.Image;
+import com.github.catvod.utils.Logger;
 import com.github.catvod.utils.Path;
 import com.github.catvod.utils.Util;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.IOException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -31,6 +36,7 @@ import java.util.Map;
 
 public class Local extends Spider {
 
+    private final Pager<File> pager = new Pager<>();
     private SimpleDateFormat format;
     private List<File> allowedRoots;
 
@@ -80,7 +86,7 @@ public class Local extends Spider {
      */
     private File validatePath(String path) {
         if (TextUtils.isEmpty(path)) {
-            com.orhanobut.logger.Logger.w("Invalid path: empty or null");
+            Logger.w("Invalid path: empty or null");
             return null;
         }
 
@@ -97,10 +103,10 @@ public class Local extends Spider {
             }
 
             // 路径不在允许的根目录内
-            com.orhanobut.logger.Logger.w("Path traversal attempt blocked: " + path + " -> " + canonicalPath);
+            Logger.w("Path traversal attempt blocked: " + path + " -> " + canonicalPath);
             return null;
         } catch (Exception e) {
-            com.orhanobut.logger.Logger.e("Path validation failed for: " + path, e);
+            Logger.e("Path validation failed for: " + path, e);
             return null;
         }
     }
@@ -120,14 +126,22 @@ public class Local extends Spider {
     }
 
     @Override
-    public String categoryContent(String tid, String pg, boolean filter, HashMap<String, String> extend) {
-        List<Vod> items = new ArrayList<>();
-        List<File> files = Path.list(new File(tid));
-        for (File file : files) {
+    public String categoryContent(String tid, String pg, boolean filter, HashMap<String, String> extend) throws IOException {
+        int page = Pager.page(pg);
+        List<File> items = page == 1 ? null : pager.get(tid);
+        if (items == null) items = pager.put(tid, getList(tid));
+        ResultWriter writer = ResultWriter.create().list();
+        for (File file : Pager.slice(items, page, Pager.SIZE)) writer.vod(create(file));
+        return writer.page(page, Pager.SIZE, items.size()).string();
+    }
+
+    private List<File> getList(String tid) {
+        List<File> items = new ArrayList<>();
+        for (File file : Path.list(new File(tid))) {
             if (file.getName().startsWith(".")) continue;
-            if (file.isDirectory() || Util.isMedia(file.getName())) items.add(create(file));
+            if (file.isDirectory() || Util.isMedia(file.getName())) items.add(file);
         }
-        return Result.get().vod(items).page().string();
+        return items;
     }
 
     @Override
@@ -141,7 +155,7 @@ public class Local extends Spider {
             File file = validatePath(ids.get(0));
             if (file == null) {
                 // 路径验证失败，返回空结果
-                com.orhanobut.logger.Logger.e("Access denied: invalid or unsafe path: " + ids.get(0));
+                Logger.e("Access denied: invalid or unsafe path: " + ids.get(0));
                 return Result.string(new ArrayList<>());
             }
 
@@ -161,13 +175,14 @@ public class Local extends Spider {
 
     @Override
     public String playerContent(String flag, String id, List<String> vipFlags) {
+        id = PlayList.unescape(id);
         if (id.startsWith("http")) {
             return Result.get().url(id).string();
         } else {
             // 路径遍历防护：验证文件路径
             File validatedFile = validatePath(id);
             if (validatedFile == null) {
-                com.orhanobut.logger.Logger.e("Access denied: invalid or unsafe path: " + id);
+                Logger.e("Access denied: invalid or unsafe path: " + id);
                 // 返回空 URL（播放失败）
                 return Result.get().url("").string();
             }
@@ -194,9 +209,7 @@ public class Local extends Spider {
         vod.setVodId(url);
         vod.setVodName(name);
         vod.setVodPic(Image.VIDEO);
-        vod.setVodPlayFrom("播放");
-        vod.setVodPlayUrl(1 + "$" + url);
-        return vod;
+        return PlayList.create().flag("播放").add("1", url).apply(vod);
     }
 
     private Vod create(File file, List<File> files) {
@@ -205,11 +218,9 @@ public class Local extends Spider {
         vod.setVodId(file.getName());
         vod.setVodName(file.getName());
         vod.setVodPic(Image.VIDEO);
-        vod.setVodPlayFrom("播放");
-        List<String> playUrls = new ArrayList<>();
-        for (File f : files) if (Util.isMedia(f.getName())) playUrls.add(f.getName() + "$" + f.getAbsolutePath());
-        vod.setVodPlayUrl(TextUtils.join("#", playUrls));
-        return vod;
+        PlayList playList = PlayList.create().flag("播放");
+        for (File f : files) if (Util.isMedia(f.getName())) playList.add(f.getName(), f.getAbsolutePath());
+        return playList.apply(vod);
     }
 
     private Vod create(File file) {
@@ -228,7 +239,7 @@ public class Local extends Spider {
             // 安全地解析默认图片（防止 ArrayIndexOutOfBoundsException）
             String[] parts = Image.VIDEO.split("base64,");
             if (parts.length < 2) {
-                com.orhanobut.logger.Logger.e("Invalid base64 image format: " + Image.VIDEO);
+                Logger.e("Invalid base64 image format: " + Image.VIDEO);
                 return new byte[0];
             }
             return Base64.decode(parts[1], Base64.DEFAULT);
@@ -239,7 +250,7 @@ public class Local extends Spider {
             bitmap.compress(Bitmap.CompressFormat.JPEG, 100, baos);
             return baos.toByteArray();
         } catch (Exception e) {
-            com.orhanobut.logger.Logger.e("Failed to compress bitmap for path: " + path, e);
+            Logger.e("Failed to compress bitmap for path: " + path, e);
             return new byte[0];
         } finally {
             // 释放 Bitmap 内存
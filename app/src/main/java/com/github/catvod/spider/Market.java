@@ -4,16 +4,17 @@ import android.content.Context;
 import android.net.Uri;
 
 import com.github.catvod.bean.Class;
+import com.github.catvod.bean.Pager;
 import com.github.catvod.bean.Result;
 import com.github.catvod.bean.market.Data;
 import com.github.catvod.bean.market.Item;
 import com.github.catvod.crawler.Spider;
 import com.github.catvod.net.OkHttp;
 import com.github.catvod.utils.FileUtil;
+import com.github.catvod.utils.Logger;
 import com.github.catvod.utils.Notify;
 import com.github.catvod.utils.Path;
 import com.github.catvod.utils.Util;
-import com.orhanobut.logger.Logger;
 
 import java.io.BufferedInputStream;
 import java.io.File;
@@ -115,7 +116,7 @@ public class Market extends Spider {
 
         for (Data data : datas) {
             if (data.getName().equals(tid)) {
-                return Result.get().page().vod(data.getVod()).string();
+                return Result.get().slice(data.getVod(), Pager.page(pg), Pager.SIZE).string();
             }
         }
 
@@ -134,6 +135,7 @@ public class Market extends Spider {
      */
     @Override
     public String action(String action) throws Exception {
+        if ("log".equals(action) || "stats".equals(action)) return super.action(action);
         OkHttp.cancel(TAG);
 
         String name = Uri.parse(action).getLastPathSegment();
@@ -2,16 +2,17 @@ package com.github.catvod.spider;
 
 import android.content.Context;
 import android.net.Uri;
-import android.text.TextUtils;
 
 import com.github.catvod.bean.Class;
+import com.github.catvod.bean.PlayList;
 import com.github.catvod.bean.Result;
 import com.github.catvod.bean.Vod;
 import com.github.catvod.crawler.Spider;
 import com.github.catvod.net.OkHttp;
+import com.github.catvod.platform.Log;
+import com.github.catvod.platform.TextUtils;
 import com.github.catvod.utils.Json;
 import com.github.catvod.utils.Util;
-import com.orhanobut.logger.Logger;
 
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
@@ -28,6 +29,8 @@ import java.util.regex.Pattern;
 
 public class PTT extends Spider {
 
+    private static final String TAG = PTT.class.getSimpleName();
+
     private final String url = "https://ptt.red/";
     private String extend;
 
@@ -60,57 +63,29 @@ public class PTT extends Spider {
         if (!TextUtils.isEmpty(extend.get("sort"))) builder.appendQueryParameter("sort", extend.get("sort"));
         builder.appendQueryParameter("page", pg);
         Document doc = Jsoup.parse(OkHttp.string(builder.toString(), getHeader()));
-        List<Vod> list = new ArrayList<>();
-        for (Element div : doc.select("div.card > div.embed-responsive")) {
-            // 安全获取元素，避免 ArrayIndexOutOfBoundsException
-            Elements aElements = div.select("a");
-            if (aElements.isEmpty()) {
-                Logger.w("PTT: Missing <a> element in card");
-                continue;
-            }
-
-            Element a = aElements.get(0);
-            Elements imgElements = a.select("img");
-            if (imgElements.isEmpty()) {
-                Logger.w("PTT: Missing <img> element in card");
-                continue;
-            }
-
-            Element img = imgElements.get(0);
-            Elements badgeElements = div.select("span.badge.badge-success");
-            String remark = badgeElements.isEmpty() ? "" : badgeElements.get(0).text();
-
-            String vodPic = img.attr("src").startsWith("http") ? img.attr("src") : url + img.attr("src");
-            String name = img.attr("alt");
-            if (!TextUtils.isEmpty(name)) list.add(new Vod(a.attr("href").substring(3), name, vodPic, remark));
-        }
-        return Result.string(list);
+        return Result.string(parseVods(doc));
     }
 
     @Override
     public String detailContent(List<String> ids) {
         Document doc = Jsoup.parse(OkHttp.string(url + ids.get(0) + "/1", getHeader()));
         LinkedHashMap<String, String> flags = new LinkedHashMap<>();
-        List<String> playUrls = new ArrayList<>();
         for (Element a : doc.select("ul#w1 > li > a")) {
             flags.put(a.attr("href").split("/")[3], a.attr("title"));
         }
         Elements items = doc.select("div > a.seq.border");
-        for (String flag : flags.keySet()) {
-            List<String> urls = new ArrayList<>();
-            for (Element e : items) urls.add(e.text() + "$" + ids.get(0) + "/" + e.attr("href").split("/")[2] + "/" + flag);
-            if (urls.isEmpty()) urls.add("1$" + ids.get(0) + "/1/" + flag);
-            playUrls.add(TextUtils.join("#", urls));
+        PlayList playList = PlayList.create();
+        for (Map.Entry<String, String> flag : flags.entrySet()) {
+            playList.flag(flag.getValue());
+            for (Element e : items) playList.add(e.text(), ids.get(0) + "/" + e.attr("href").split("/")[2] + "/" + flag.getKey());
+            if (items.isEmpty()) playList.add("1", ids.get(0) + "/1/" + flag.getKey());
         }
-        Vod vod = new Vod();
-        vod.setVodPlayFrom(TextUtils.join("$$$", flags.values()));
-        vod.setVodPlayUrl(TextUtils.join("$$$", playUrls));
-        return Result.string(vod);
+        return Result.string(playList.apply(new Vod()));
     }
 
     @Override
     public String playerContent(String flag, String id, List<String> vipFlags) {
-        Matcher m = Pattern.compile("contentUrl\":\"(.*?)\"").matcher(OkHttp.string(url + id));
+        Matcher m = Pattern.compile("contentUrl\":\"(.*?)\"").matcher(OkHttp.string(url + PlayList.unescape(id)));
         if (m.find()) return Result.get().url(m.group(1).replace("\\", "")).string();
         return Result.error("");
     }
@@ -123,19 +98,26 @@ public class PTT extends Spider {
     @Override
     public String searchContent(String key, boolean quick, String pg) {
         Document doc = Jsoup.parse(OkHttp.string(url + String.format("q/%s?page=%s", key, pg), getHeader()));
+        return Result.string(parseVods(doc));
+    }
+
+    /**
+     * 解析列表页卡片（分类和搜索共用）
+     */
+    List<Vod> parseVods(Document doc) {
         List<Vod> list = new ArrayList<>();
         for (Element div : doc.select("div.card > div.embed-responsive")) {
             // 安全获取元素，避免 ArrayIndexOutOfBoundsException
             Elements aElements = div.select("a");
             if (aElements.isEmpty()) {
-                Logger.w("PTT: Missing <a> element in search result");
+                Log.w(TAG, "Missing <a> element in card");
                 continue;
             }
 
             Element a = aElements.get(0);
             Elements imgElements = a.select("img");
             if (imgElements.isEmpty()) {
-                Logger.w("PTT: Missing <img> element in search result");
+                Log.w(TAG, "Missing <img> element in card");
                 continue;
             }
 
@@ -147,6 +129,6 @@ public class PTT extends Spider {
             String name = img.attr("alt");
             if (!TextUtils.isEmpty(name)) list.add(new Vod(a.attr("href").substring(3), name, vodPic, remark));
         }
-        return Result.string(list);
+        return list;
     }
 }
@@ -2,15 +2,21 @@ package com.github.catvod.spider;
 
 import com.github.catvod.crawler.SpiderDebug;
 import com.github.catvod.net.OkHttp;
+import com.github.catvod.server.LocalServer;
+import com.github.catvod.utils.Prefers;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
+import java.net.Socket;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -53,6 +59,17 @@ public class Proxy {
      */
     private static final int PORT_CHECK_TIMEOUT = 200;  // 200ms 快速超时
 
+    /**
+     * 并发探测线程数和整体扫描时限（毫秒）
+     */
+    private static final int SCAN_THREADS = 16;
+    private static final long SCAN_TIMEOUT = 3000;
+
+    /**
+     * 上次成功端口的持久化键
+     */
+    private static final String PORT_KEY = "proxy_port";
+
     public static Object[] proxy(Map<String, String> params) {
         if ("ck".equals(params.get("do"))) return new Object[]{200, "text/plain; charset=utf-8", new ByteArrayInputStream("ok".getBytes(StandardCharsets.UTF_8))};
         return null;
@@ -103,7 +120,19 @@ public class Proxy {
         return port;
     }
 
+    /**
+     * 获取爬虫代理地址
+     * <p>
+     * 宿主 App 不可用且内嵌服务器（{@link LocalServer}）已启动时，
+     * 直接返回内嵌服务器的 HTTP 地址；否则返回由宿主 App 解析的 {@code proxy://} 地址。
+     * </p>
+     *
+     * @param siteKey 爬虫标识
+     * @param param   附加参数（以 &amp; 开头）
+     * @return 代理地址
+     */
     public static String getUrl(String siteKey, String param) {
+        if (method == null && LocalServer.get().isRunning()) return LocalServer.get().getUrl() + "?do=csp&siteKey=" + siteKey + param;
         return "proxy://do=csp&siteKey=" + siteKey + param;
     }
 
@@ -148,7 +177,10 @@ public class Proxy {
             }
         }
 
-        // 降级方案2：构造默认 URL（兜底）
+        // 降级方案2：内嵌代理服务器
+        if (port == 0 && LocalServer.get().isRunning()) return LocalServer.get().getUrl();
+
+        // 降级方案3：构造默认 URL（兜底）
         return "http://127.0.0.1:" + port + "/proxy";
     }
 
@@ -157,40 +189,49 @@ public class Proxy {
      * <p>
      * 优化策略：
      * <ul>
-     *   <li>优先尝试常用端口（快速路径）</li>
-     *   <li>使用并发扫描（多线程）</li>
-     *   <li>缩小扫描范围（100个端口而非1036个）</li>
-     *   <li>快速超时（200ms）</li>
+     *   <li>优先验证上次成功的端口（持久化在 {@link Prefers}，单次快速探测）</li>
+     *   <li>常用端口和扫描范围并发探测，先返回者胜出，其余探测立即取消</li>
+     *   <li>先做 TCP 连接预检，关闭的端口无需发起 HTTP 请求</li>
+     *   <li>所有探测都使用 {@link #PORT_CHECK_TIMEOUT} 快速超时</li>
      * </ul>
      * </p>
      * <p>
      * 性能对比：
      * <ul>
-     *   <li>旧实现: 扫描8964-9999 (1036个端口) × 15s超时 = 最坏情况 4.3小时</li>
-     *   <li>新实现: 优先6个常用端口 + 并发扫描100个 = 最坏情况 <10秒</li>
+     *   <li>旧实现: 串行探测6个常用端口（默认超时）+ 等待整个扫描结束，最坏 10 秒以上</li>
+     *   <li>新实现: 热启动只需一次本地探测（毫秒级），冷启动在首个端口应答时立即返回</li>
      * </ul>
      * </p>
      */
     private static void findPort() {
         if (port > 0) return;
 
+        // 内嵌代理服务器已启动时无需扫描
+        if (LocalServer.get().isRunning()) {
+            port = LocalServer.get().getPort();
+            SpiderDebug.log("使用内嵌代理服务器端口: " + port);
+            return;
+        }
+
         SpiderDebug.log("开始查找本地代理端口...");
         long startTime = System.currentTimeMillis();
 
-        // 步骤1: 优先尝试常用端口（串行，快速）
-        for (int p : COMMON_PORTS) {
-            if (checkPort(p)) {
-                port = p;
-                logFoundPort(startTime);
-                return;
-            }
+        // 步骤1: 验证上次成功的端口（热启动）
+        int saved = loadPort();
+        if (saved > 0 && checkPort(saved)) {
+            port = saved;
+            logFoundPort(startTime);
+            return;
         }
 
-        // 步骤2: 并发扫描端口范围
-        SpiderDebug.log("常用端口未找到，开始并发扫描 " + PORT_SCAN_START + "-" + PORT_SCAN_END);
-        port = findPortConcurrently(PORT_SCAN_START, PORT_SCAN_END);
+        // 步骤2: 并发探测常用端口和扫描范围，首个成功即返回
+        List<Integer> candidates = new ArrayList<>(COMMON_PORTS);
+        for (int p = PORT_SCAN_START; p <= PORT_SCAN_END; p++) if (!candidates.contains(p)) candidates.add(p);
+        candidates.remove(Integer.valueOf(saved));
+        port = findPortConcurrently(candidates);
 
         if (port > 0) {
+            savePort(port);
             logFoundPort(startTime);
         } else {
             long elapsed = System.currentTimeMillis() - startTime;
@@ -198,15 +239,50 @@ public class Proxy {
         }
     }
 
+    /**
+     * 读取上次成功的端口
+     *
+     * @return 端口号，不存在或读取失败返回 0
+     */
+    private static int loadPort() {
+        try {
+            return Prefers.getInt(PORT_KEY);
+        } catch (Throwable e) {
+            return 0;
+        }
+    }
+
+    /**
+     * 保存本次找到的端口，供下次启动直接验证
+     *
+     * @param p 端口号
+     */
+    private static void savePort(int p) {
+        try {
+            Prefers.put(PORT_KEY, p);
+        } catch (Throwable e) {
+            SpiderDebug.log("保存代理端口失败: " + e.getMessage());
+        }
+    }
+
     /**
      * 检查单个端口是否可用
+     * <p>
+     * 先用 TCP 连接预检（端口未监听时立即失败），再发送 {@code do=ck} 请求确认是代理服务器。
+     * 两步都使用 {@link #PORT_CHECK_TIMEOUT} 超时。
+     * </p>
      *
      * @param p 端口号
      * @return 端口可用返回 true
      */
     private static boolean checkPort(int p) {
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress("127.0.0.1", p), PORT_CHECK_TIMEOUT);
+        } catch (IOException e) {
+            return false;
+        }
         try {
-            String response = OkHttp.string("http://127.0.0.1:" + p + "/proxy?do=ck", null);
+            String response = OkHttp.string("http://127.0.0.1:" + p + "/proxy?do=ck", PORT_CHECK_TIMEOUT);
             return "ok".equals(response);
         } catch (Exception e) {
             // 端口不可用或连接失败
@@ -215,44 +291,39 @@ public class Proxy {
     }
 
     /**
-     * 并发扫描端口范围
+     * 并发探测候选端口（先到先得）
+     * <p>
+     * 按候选顺序提交探测任务，任意一个成功后立即返回并取消其余任务。
+     * </p>
      *
-     * @param start 起始端口
-     * @param end   结束端口
+     * @param candidates 候选端口（按优先级排序）
      * @return 找到的端口号，未找到返回 0
      */
-    private static int findPortConcurrently(int start, int end) {
-        ExecutorService executor = Executors.newFixedThreadPool(10);  // 10个并发线程
-        List<Future<Integer>> futures = new ArrayList<>();
+    private static int findPortConcurrently(List<Integer> candidates) {
+        ExecutorService executor = Executors.newFixedThreadPool(SCAN_THREADS);
+        CompletionService<Integer> service = new ExecutorCompletionService<>(executor);
 
         try {
-            // 提交所有端口检测任务
-            for (int p = start; p <= end; p++) {
-                final int port = p;
-                futures.add(executor.submit(new Callable<Integer>() {
-                    @Override
-                    public Integer call() {
-                        return checkPort(port) ? port : 0;
-                    }
-                }));
+            for (int candidate : candidates) {
+                final int p = candidate;
+                service.submit(() -> checkPort(p) ? p : 0);
             }
 
-            // 等待任务完成，最多等待 10 秒
-            executor.shutdown();
-            executor.awaitTermination(10, TimeUnit.SECONDS);
-
-            // 查找第一个找到的端口
-            for (Future<Integer> future : futures) {
-                if (future.isDone()) {
-                    Integer result = future.get(0, TimeUnit.MILLISECONDS);  // 非阻塞获取
-                    if (result != null && result > 0) {
-                        return result;
-                    }
-                }
+            long deadline = System.currentTimeMillis() + SCAN_TIMEOUT;
+            for (int i = 0; i < candidates.size(); i++) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) break;
+                Future<Integer> future = service.poll(remaining, TimeUnit.MILLISECONDS);
+                if (future == null) break;
+                Integer result = future.get();
+                if (result != null && result > 0) return result;
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         } catch (Exception e) {
             SpiderDebug.log("端口扫描异常: " + e.getMessage());
         } finally {
+            // 取消尚未完成的探测
             executor.shutdownNow();
         }
 
@@ -1,8 +1,8 @@
 package com.github.catvod.spider;
 
 import android.net.Uri;
-import android.text.TextUtils;
 
+import com.github.catvod.bean.PlayList;
 import com.github.catvod.bean.Result;
 import com.github.catvod.bean.Sub;
 import com.github.catvod.bean.Vod;
@@ -26,7 +26,8 @@ public class Push extends Spider {
 
     @Override
     public String playerContent(String flag, String id, List<String> vipFlags) {
-        if (id.contains("://") && id.contains("***")) id = id.replace("***", "#");
+        // 旧版本只对含 :// 的推送地址使用 *** 占位符
+        if (id.startsWith(PlayList.ESCAPED) || id.contains("://")) id = PlayList.unescape(id);
         return switch (flag) {
             case "直連" -> Result.get().url(id).subs(getSubs(id)).string();
             case "解析" -> Result.get().parse().jx().url(id).string();
@@ -37,25 +38,35 @@ public class Push extends Spider {
 
     private Vod vod(String url) {
         Vod vod = new Vod();
+        String name = url.startsWith("file://") ? new File(url).getName() : "";
         vod.setVodId(url);
         vod.setVodPic(Image.PUSH);
         vod.setTypeName("FongMi");
-        vod.setVodName(url.startsWith("file://") ? new File(url).getName() : "");
-        if (url.contains("://") && url.contains("#")) url = url.replace("#", "***");
+        vod.setVodName(name);
+        PlayList playList = PlayList.create();
         if (Util.isThunder(url)) {
-            vod.setVodPlayUrl(url);
-            vod.setVodPlayFrom("迅雷");
+            add(playList.flag("迅雷"), name, url);
         } else if (url.contains("youtube.com")) {
-            vod.setVodPlayUrl(url);
-            vod.setVodPlayFrom("YouTube");
+            add(playList.flag("YouTube"), name, url);
         } else if (url.contains("$")) {
-            vod.setVodPlayFrom("直連");
-            vod.setVodPlayUrl(TextUtils.join("#", url.split("\n")));
+            playList.flag("直連");
+            for (String line : PlayList.split(url, "\n")) {
+                int index = line.indexOf('$');
+                if (index > 0) playList.add(line.substring(0, index), line.substring(index + 1));
+                else if (!line.isEmpty()) playList.add(line);
+            }
         } else {
-            vod.setVodPlayUrl(TextUtils.join("$$$", Arrays.asList(url, url, url)));
-            vod.setVodPlayFrom(TextUtils.join("$$$", Arrays.asList("直連", "嗅探", "解析")));
+            for (String flag : Arrays.asList("直連", "嗅探", "解析")) add(playList.flag(flag), name, url);
         }
-        return vod;
+        return playList.apply(vod);
+    }
+
+    /**
+     * 没有文件名时与旧版本一样只写地址，不加剧集名
+     */
+    private static void add(PlayList playList, String name, String url) {
+        if (name.isEmpty()) playList.add(url);
+        else playList.add(name, url);
     }
 
     private List<Sub> getSubs(String url) {
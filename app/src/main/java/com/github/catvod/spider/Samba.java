@@ -4,14 +4,17 @@ import android.content.Context;
 import android.text.TextUtils;
 
 import com.github.catvod.bean.Class;
+import com.github.catvod.bean.Pager;
+import com.github.catvod.bean.PlayList;
 import com.github.catvod.bean.Result;
 import com.github.catvod.bean.Vod;
+import com.github.catvod.bean.VodList;
 import com.github.catvod.bean.samba.Drive;
 import com.github.catvod.crawler.Spider;
 import com.github.catvod.net.OkHttp;
 import com.github.catvod.utils.Image;
+import com.github.catvod.utils.Logger;
 import com.github.catvod.utils.Util;
-import com.orhanobut.logger.Logger;
 import com.hierynomus.msfscc.FileAttributes;
 import com.hierynomus.msfscc.fileinformation.FileIdBothDirectoryInformation;
 import com.hierynomus.protocol.commons.EnumWithValue;
@@ -24,6 +27,7 @@ import java.util.List;
 
 public class Samba extends Spider {
 
+    private final Pager<Vod> pager = new Pager<>();
     private List<Drive> drives;
     private String extend;
 
@@ -78,13 +82,23 @@ public class Samba extends Spider {
         String key = tid.contains("/") ? tid.substring(0, tid.indexOf("/")) : tid;
         String path = tid.contains("/") ? tid.substring(tid.indexOf("/") + 1) : "";
         Drive drive = getDrive(key);
-        List<Vod> list = new ArrayList<>();
-        for (FileIdBothDirectoryInformation item : getList(drive, path)) {
+        int page = Pager.page(pg);
+        int size = drive.getPageSize();
+        List<Vod> list = page == 1 ? null : pager.get(tid);
+        if (list == null) list = pager.put(tid, getVods(drive, key, path));
+        return Result.get().slice(list, page, size).string();
+    }
+
+    private List<Vod> getVods(Drive drive, String key, String path) {
+        List<FileIdBothDirectoryInformation> items = getList(drive, path);
+        VodList list = new VodList(items.size());
+        for (FileIdBothDirectoryInformation item : items) {
             String vodId = getPath(key, path, item.getFileName());
             if (isFolder(item)) list.add(new Vod(vodId, item.getFileName(), Image.FOLDER, "", true));
             if (isFile(item)) list.add(new Vod(vodId, item.getFileName(), Image.VIDEO, "", false));
         }
-        return Result.get().vod(list).page().string();
+        list.trimToSize();
+        return list;
     }
 
     @Override
@@ -95,23 +109,21 @@ public class Samba extends Spider {
         String parent = path.contains("/") ? path.substring(0, path.lastIndexOf("/")) : "";
         String name = parent.contains("/") ? parent.substring(parent.lastIndexOf("/") + 1) : key;
         Drive drive = getDrive(key);
-        List<String> playUrls = new ArrayList<>();
+        PlayList playList = PlayList.create().flag(key);
         for (FileIdBothDirectoryInformation item : getList(drive, parent)) {
             if (isFile(item)) {
-                playUrls.add(item.getFileName() + "$" + getPath(drive.getServer(), parent, item.getFileName()));
+                playList.add(item.getFileName(), getPath(drive.getServer(), parent, item.getFileName()));
             }
         }
         Vod vod = new Vod();
         vod.setVodId(name);
         vod.setVodName(name);
-        vod.setVodPlayFrom(key);
-        vod.setVodPlayUrl(TextUtils.join("#", playUrls));
-        return Result.string(vod);
+        return Result.string(playList.apply(vod));
     }
 
     @Override
     public String playerContent(String flag, String id, List<String> vipFlags) {
-        return Result.get().url(id).string();
+        return Result.get().url(PlayList.unescape(id)).string();
     }
 
     private String getPath(String... texts) {
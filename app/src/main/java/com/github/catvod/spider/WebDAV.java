@@ -5,7 +5,10 @@ import android.text.TextUtils;
 
 import com.github.catvod.bean.Class;
 import com.github.catvod.bean.Filter;
+import com.github.catvod.bean.Pager;
+import com.github.catvod.bean.PlayList;
 import com.github.catvod.bean.Result;
+import com.github.catvod.bean.ResultWriter;
 import com.github.catvod.bean.Sub;
 import com.github.catvod.bean.Vod;
 import com.github.catvod.bean.webdav.Drive;
@@ -51,6 +54,7 @@ public class WebDAV extends Spider {
             )
     );
 
+    private final Pager<DavResource> pager = new Pager<>();
     private List<Drive> drives;
     private List<String> allExt;
     private String extend;
@@ -108,10 +112,20 @@ public class WebDAV extends Spider {
         String path = tid.contains("/") ? tid.substring(tid.indexOf("/")) : "";
         String order = extend.containsKey("order") ? extend.get("order") : "";
         String type = extend.containsKey("type") ? extend.get("type") : "";
+        Drive drive = getDrive(key);
+        int page = Pager.page(pg);
+        int size = drive.getPageSize();
+        String cacheKey = tid + "|" + type + "|" + order;
+        List<DavResource> items = page == 1 ? null : pager.get(cacheKey);
+        if (items == null) items = pager.put(cacheKey, getSortedList(drive, path, type, order));
+        ResultWriter writer = ResultWriter.create().list();
+        for (DavResource item : Pager.slice(items, page, size)) writer.vod(drive.vod(item, item.isDirectory() ? Image.FOLDER : Image.VIDEO));
+        return writer.page(page, size, items.size()).string();
+    }
+
+    private List<DavResource> getSortedList(Drive drive, String path, String type, String order) throws IOException {
         List<DavResource> folders = new ArrayList<>();
         List<DavResource> files = new ArrayList<>();
-        List<Vod> list = new ArrayList<>();
-        Drive drive = getDrive(key);
         for (DavResource item : getList(drive, path, Util.MEDIA)) {
             if (item.isDirectory()) folders.add(item);
             else files.add(item);
@@ -120,9 +134,8 @@ public class WebDAV extends Spider {
             Sorter.sort(type, order, folders);
             Sorter.sort(type, order, files);
         }
-        for (DavResource item : folders) list.add(drive.vod(item, Image.FOLDER));
-        for (DavResource item : files) list.add(drive.vod(item, Image.VIDEO));
-        return Result.get().vod(list).page().string();
+        folders.addAll(files);
+        return folders;
     }
 
     @Override
@@ -136,25 +149,23 @@ public class WebDAV extends Spider {
         List<DavResource> parents = getList(drive, path, allExt);
         List<DavResource> subs = getSubs(parents);
         Sorter.sort("name", "asc", parents);
-        List<String> playUrls = new ArrayList<>();
+        PlayList playList = PlayList.create().flag(key);
         for (DavResource item : parents) {
             if (Util.isMedia(item.getName())) {
-                playUrls.add(item.getName() + "$" + drive.getName() + item.getPath() + findSubs(drive, item, subs));
+                playList.add(item.getName(), drive.getName() + item.getPath() + findSubs(drive, item, subs));
             }
         }
         Vod vod = new Vod();
         vod.setVodId(name);
         vod.setVodName(name);
-        vod.setVodPlayFrom(key);
         vod.setVodPic(Image.VIDEO);
-        vod.setVodPlayUrl(TextUtils.join("#", playUrls));
-        return Result.string(vod);
+        return Result.string(playList.apply(vod));
     }
 
     @Override
     public String playerContent(String flag, String id, List<String> vipFlags) {
-        String[] ids = id.split("~~~");
-        return Result.get().url(Proxy.getUrl(siteKey, "&url=" + ids[0])).subs(getSub(ids)).string();
+        List<String> ids = PlayList.split(PlayList.unescape(id), "~~~");
+        return Result.get().url(Proxy.getUrl(siteKey, "&url=" + ids.get(0))).subs(getSub(ids)).string();
     }
 
     @Override
@@ -201,14 +212,14 @@ public class WebDAV extends Spider {
         return sb.toString();
     }
 
-    private List<Sub> getSub(String[] ids) {
+    private List<Sub> getSub(List<String> ids) {
         List<Sub> sub = new ArrayList<>();
         for (String text : ids) {
             if (!text.contains("@@@")) continue;
-            String[] split = text.split("@@@");
-            String name = split[0];
-            String ext = split[1];
-            String url = Proxy.getUrl(siteKey, "&url=" + split[2]);
+            List<String> split = PlayList.split(text, "@@@");
+            String name = split.get(0);
+            String ext = split.get(1);
+            String url = Proxy.getUrl(siteKey, "&url=" + split.get(2));
             sub.add(Sub.create().name(name).ext(ext).url(url));
         }
         return sub;
@@ -9,7 +9,7 @@ import com.github.catvod.bean.xtream.XCategory;
 import com.github.catvod.bean.xtream.XStream;
 import com.github.catvod.crawler.Spider;
 import com.github.catvod.net.OkHttp;
-import com.google.gson.Gson;
+import com.github.catvod.utils.Json;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -18,24 +18,24 @@ import java.util.Map;
 
 public class XtreamCode extends Spider {
 
-    private List<Group> groups;
     private Config config;
 
     @Override
     public void init(Context context, String extend) {
         config = Config.objectFrom(extend);
-        groups = new ArrayList<>();
     }
 
     @Override
     public String liveContent(String url) {
         config.setUrl(url);
-        setChannel();
-        setNumber();
-        return new Gson().toJson(groups);
+        // 频道表只在本次输出时使用，不作为字段保留，避免大目录常驻内存（也避免重复调用时地址重复追加）
+        List<Group> groups = new ArrayList<>();
+        setChannel(groups);
+        setNumber(groups);
+        return Json.gson().toJson(groups);
     }
 
-    private void setChannel() {
+    private void setChannel(List<Group> groups) {
         List<XCategory> categoryList = getCategoryList(config);
         List<XStream> streamList = getStreamList(config);
         Map<String, String> categoryMap = new HashMap<>();
@@ -52,7 +52,7 @@ public class XtreamCode extends Spider {
         }
     }
 
-    private void setNumber() {
+    private void setNumber(List<Group> groups) {
         int number = 0;
         for (Group group : groups) {
             for (Channel channel : group.getChannel()) {
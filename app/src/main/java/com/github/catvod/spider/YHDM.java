@@ -1,13 +1,14 @@
 package com.github.catvod.spider;
 
 import android.content.Context;
-import android.net.Uri;
 
 import com.github.catvod.bean.Class;
+import com.github.catvod.bean.PlayList;
 import com.github.catvod.bean.Result;
 import com.github.catvod.bean.Vod;
 import com.github.catvod.crawler.Spider;
 import com.github.catvod.net.OkHttp;
+import com.github.catvod.platform.Uri;
 import com.github.catvod.utils.Crypto;
 import com.github.catvod.utils.Util;
 
@@ -57,15 +58,7 @@ public class YHDM extends Spider {
         List<String> typeNames = Arrays.asList("国产动漫", "日本动漫", "动漫电影", "欧美动漫");
         for (int i = 0; i < typeIds.size(); i++) classes.add(new Class(typeIds.get(i), typeNames.get(i)));
         Document doc = Jsoup.parse(OkHttp.string(siteUrl, getHeader()));
-        List<Vod> list = new ArrayList<>();
-        for (Element li : doc.select(".stui-vodlist.clearfix .myui-vodlist__box")) {
-            String vid = li.select("a").attr("href");
-            String name = li.select("a").attr("title");
-            String pic = li.select("a").attr("data-original");
-            if (!pic.startsWith("http")) pic = siteUrl + pic;
-            String remark = li.select(".pic-text.text-right").text();
-            list.add(new Vod(vid, name, pic, remark));
-        }
+        List<Vod> list = parseVods(doc.select(".stui-vodlist.clearfix .myui-vodlist__box"));
         return Result.string(classes, list);
     }
 
@@ -73,16 +66,7 @@ public class YHDM extends Spider {
     public String categoryContent(String tid, String pg, boolean filter, HashMap<String, String> extend) {
         String cateUrl = siteUrl + String.format("/type/%s-%s.html", tid, pg);
         Document doc = Jsoup.parse(OkHttp.string(cateUrl, getHeader()));
-        List<Vod> list = new ArrayList<>();
-        for (Element li : doc.select(".myui-vodlist__box")) {
-            String vid = li.select("a").attr("href");
-            String name = li.select("a").attr("title");
-            String pic = li.select("a").attr("data-original");
-            if (!pic.startsWith("http")) pic = siteUrl + pic;
-            String remark = li.select(".pic-text.text-right").text();
-            list.add(new Vod(vid, name, pic, remark));
-        }
-        return Result.string(list);
+        return Result.string(parseVods(doc.select(".myui-vodlist__box")));
     }
 
     @Override
@@ -91,20 +75,10 @@ public class YHDM extends Spider {
         Document doc = Jsoup.parse(OkHttp.string(detailUrl, getHeader()));
         Elements sources = doc.select(".myui-content__list.sort-list");
         Elements circuits = doc.select("a[href^=#playlist]");
-        StringBuilder vod_play_url = new StringBuilder();
-        StringBuilder vod_play_from = new StringBuilder();
-        for (int i = 0; i < circuits.size(); i++) {
-            String spanText = circuits.get(i).text();
-            vod_play_from.append(spanText).append("$$$");
-            Elements aElementArray = sources.get(i).select("a");
-            for (int j = 0; j < aElementArray.size(); j++) {
-                Element a = aElementArray.get(j);
-                String href = a.attr("href");
-                String text = a.text();
-                vod_play_url.append(text).append("$").append(href);
-                boolean notLastEpisode = j < aElementArray.size() - 1;
-                vod_play_url.append(notLastEpisode ? "#" : "$$$");
-            }
+        PlayList playList = PlayList.create();
+        for (int i = 0; i < circuits.size() && i < sources.size(); i++) {
+            playList.flag(circuits.get(i).text());
+            for (Element a : sources.get(i).select("a")) playList.add(a.text(), a.attr("href"));
         }
         String text = doc.select(".myui-content__detail").text();
         String classifyName = matcher(text, "类型：(.*?)分类");
@@ -119,25 +93,14 @@ public class YHDM extends Spider {
         vod.setVodRemarks(remark);
         vod.setVodContent(brief);
         vod.setTypeName(classifyName);
-        vod.setVodPlayFrom(vod_play_from.toString());
-        vod.setVodPlayUrl(vod_play_url.toString());
-        return Result.string(vod);
+        return Result.string(playList.apply(vod));
     }
 
     @Override
     public String searchContent(String key, boolean quick) {
         String searchUrl = siteUrl + "/search/" + Uri.encode(key) + "-------------.html";
         Document doc = Jsoup.parse(OkHttp.string(searchUrl, getHeader()));
-        List<Vod> list = new ArrayList<>();
-        for (Element li : doc.select("li.clearfix")) {
-            String vid = li.select("a").attr("href");
-            String name = li.select("a").attr("title");
-            String pic = li.select("a").attr("data-original");
-            if (!pic.startsWith("http")) pic = siteUrl + pic;
-            String remark = li.select(".pic-text.text-right").text();
-            list.add(new Vod(vid, name, pic, remark));
-        }
-        return Result.string(list);
+        return Result.string(parseVods(doc.select("li.clearfix")));
     }
 
     @Override
@@ -151,7 +114,7 @@ public class YHDM extends Spider {
             String ConfigContent = OkHttp.string(url, getHeader());
             return matcher(ConfigContent, "player_list=(.*?),MacPlayerConfig");
         });
-        String content = OkHttp.string(siteUrl + id, getHeader());
+        String content = OkHttp.string(siteUrl + PlayList.unescape(id), getHeader());
         String json = matcher(content, "player_aaaa=(.*?)</script>");
         JSONObject player = new JSONObject(json);
         String aaaaUrl = player.getString("url");
@@ -166,6 +129,22 @@ public class YHDM extends Spider {
         return Result.get().url(realUrl).string();
     }
 
+    /**
+     * 解析视频卡片（首页、分类和搜索共用）
+     */
+    List<Vod> parseVods(Elements items) {
+        List<Vod> list = new ArrayList<>();
+        for (Element li : items) {
+            String vid = li.select("a").attr("href");
+            String name = li.select("a").attr("title");
+            String pic = li.select("a").attr("data-original");
+            if (!pic.startsWith("http")) pic = siteUrl + pic;
+            String remark = li.select(".pic-text.text-right").text();
+            list.add(new Vod(vid, name, pic, remark));
+        }
+        return list;
+    }
+
     private String matcher(String content, String pattern) {
         Matcher matcher = Pattern.compile(pattern).matcher(content);
         return matcher.find() ? matcher.group(1) : "";
@@ -6,7 +6,6 @@ import android.os.Build;
 import android.text.TextUtils;
 
 import com.github.catvod.spider.Init;
-import com.orhanobut.logger.Logger;
 
 import java.io.File;
 import java.io.IOException;
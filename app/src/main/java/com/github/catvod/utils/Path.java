@@ -55,7 +55,7 @@ public class Path {
         try {
             return new String(readToByte(is), StandardCharsets.UTF_8);
         } catch (IOException e) {
-            com.orhanobut.logger.Logger.e("Failed to read from InputStream", e);
+            Logger.e("Failed to read from InputStream", e);
             return "";
         }
     }
@@ -81,7 +81,7 @@ public class Path {
             fos.flush();
             return file;
         } catch (IOException e) {
-            com.orhanobut.logger.Logger.e("Failed to write file: " + file.getAbsolutePath(), e);
+            Logger.e("Failed to write file: " + file.getAbsolutePath(), e);
             return file;
         }
     }
@@ -96,7 +96,7 @@ public class Path {
         try (FileInputStream fis = new FileInputStream(in)) {
             copy(fis, out);
         } catch (IOException e) {
-            com.orhanobut.logger.Logger.e("Failed to copy file from " + in.getAbsolutePath() + " to " + out.getAbsolutePath(), e);
+            Logger.e("Failed to copy file from " + in.getAbsolutePath() + " to " + out.getAbsolutePath(), e);
         }
     }
 
@@ -109,7 +109,7 @@ public class Path {
             }
             // 注意：不关闭 in，因为它可能被调用者管理
         } catch (IOException e) {
-            com.orhanobut.logger.Logger.e("Failed to copy stream to file: " + out.getAbsolutePath(), e);
+            Logger.e("Failed to copy stream to file: " + out.getAbsolutePath(), e);
         }
     }
 
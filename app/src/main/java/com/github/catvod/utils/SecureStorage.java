@@ -6,8 +6,6 @@ import android.content.SharedPreferences;
 import androidx.security.crypto.EncryptedSharedPreferences;
 import androidx.security.crypto.MasterKey;
 
-import com.orhanobut.logger.Logger;
-
 /**
  * 安全存储工具类
  * <p>
@@ -1,7 +1,5 @@
 package com.github.catvod.utils;
 
-import com.orhanobut.logger.Logger;
-
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
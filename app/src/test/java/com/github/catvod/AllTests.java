@@ -1,8 +1,10 @@
 package com.github.catvod;
 
+import com.github.catvod.bean.bili.DmWriterTest;
+import com.github.catvod.bean.bili.MpdTest;
+import com.github.catvod.net.FixtureTest;
 import com.github.catvod.net.OkHttpTest;
-import com.github.catvod.utils.CryptoTest;
-import com.github.catvod.utils.JsonValidatorTest;
+import com.github.catvod.server.LocalServerTest;
 import com.github.catvod.utils.PathTest;
 
 import org.junit.runner.RunWith;
@@ -11,7 +13,8 @@ import org.junit.runners.Suite;
 /**
  * 所有单元测试的测试套件
  * <p>
- * 运行此类可以执行所有单元测试。
+ * 运行此类可以执行 app 模块的所有单元测试。
+ * core 模块的测试（CryptoTest、JsonValidatorTest）在普通 JVM 上运行：{@code ./gradlew :core:test}
  * </p>
  * <p>
  * <b>运行方式：</b>
@@ -28,9 +31,11 @@ import org.junit.runners.Suite;
  */
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
-        JsonValidatorTest.class,
-        CryptoTest.class,
         OkHttpTest.class,
+        FixtureTest.class,
+        LocalServerTest.class,
+        MpdTest.class,
+        DmWriterTest.class,
         PathTest.class
 })
 public class AllTests {
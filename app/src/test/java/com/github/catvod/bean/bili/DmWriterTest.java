@@ -0,0 +1,151 @@
+package com.github.catvod.bean.bili;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.*;
+
+/**
+ * 弹幕合并输出单元测试
+ * <p>
+ * 手工编码 seg.so 的 protobuf 分段，检查 varint 读取、未知字段跳过、按 id 去重、XML 转义，
+ * 以及与 list.so XML 之间的去重。读取 XML 需要 {@code android.util.Xml}，所以用 Robolectric 运行。
+ * </p>
+ *
+ * @author CatVod Team
+ */
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = 34)
+public class DmWriterTest {
+
+    @Test
+    public void testReadSeg() throws IOException {
+        StringWriter out = new StringWriter();
+        try (DmWriter writer = new DmWriter(out, "1001")) {
+            byte[] seg = reply(elem(1500, "abc", "hi & <b>", 1700000000L, "100"), elem(61000, "def", "second", 1700000001L, "101"));
+            assertEquals(2, writer.readSeg(seg));
+            assertEquals("相同 id 的弹幕应该只写入一次", 0, writer.readSeg(reply(elem(1500, "abc", "hi & <b>", 1700000000L, "100"))));
+            assertEquals(2, writer.size());
+        }
+        String xml = out.toString();
+        assertTrue(xml.startsWith("<?xml version=\"1.0\" encoding=\"UTF-8\"?><i><chatserver>chat.bilibili.com</chatserver><chatid>1001</chatid>\n"));
+        assertTrue(xml.contains("<d p=\"1.500,1,25,16777215,1700000000,0,abc,100,5\">hi &amp; &lt;b&gt;</d>\n"));
+        assertTrue("毫秒应该补足三位", xml.contains("<d p=\"61.000,1,25,16777215,1700000001,0,def,101,5\">second</d>\n"));
+        assertTrue(xml.endsWith("</i>"));
+    }
+
+    @Test
+    public void testVarint() throws IOException {
+        // 颜色 0xFFFFFF 占三个字节，ctime 占五个字节
+        StringWriter out = new StringWriter();
+        try (DmWriter writer = new DmWriter(out, "1")) {
+            ByteArrayOutputStream elem = new ByteArrayOutputStream();
+            varintField(elem, 5, 0xFF0000);
+            varintField(elem, 8, 4102444800L);
+            stringField(elem, 12, "7");
+            writer.readSeg(reply(elem.toByteArray()));
+        }
+        assertTrue(out.toString().contains("<d p=\"0.000,1,25,16711680,4102444800,0,,7,0\"></d>"));
+    }
+
+    @Test
+    public void testUnknownField() throws IOException {
+        StringWriter out = new StringWriter();
+        try (DmWriter writer = new DmWriter(out, "1")) {
+            ByteArrayOutputStream elem = new ByteArrayOutputStream();
+            varintField(elem, 1, 123456789L);
+            tag(elem, 13, 1);
+            elem.write(new byte[8]);
+            tag(elem, 14, 5);
+            elem.write(new byte[4]);
+            stringField(elem, 7, "ok");
+            stringField(elem, 12, "9");
+            ByteArrayOutputStream reply = new ByteArrayOutputStream();
+            stringField(reply, 2, "ignored");
+            bytesField(reply, 1, elem.toByteArray());
+            assertEquals("未知字段应该跳过", 1, writer.readSeg(reply.toByteArray()));
+        }
+        assertTrue(out.toString().contains(",9,0\">ok</d>"));
+    }
+
+    @Test(expected = IOException.class)
+    public void testTruncated() throws IOException {
+        byte[] seg = reply(elem(1500, "abc", "text", 1700000000L, "100"));
+        byte[] truncated = new byte[seg.length - 3];
+        System.arraycopy(seg, 0, truncated, 0, truncated.length);
+        new DmWriter(new StringWriter(), "1").readSeg(truncated);
+    }
+
+    @Test
+    public void testReadXml() throws IOException {
+        String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?><i><chatid>1</chatid>"
+                + "<d p=\"1.500,1,25,16777215,1700000000,0,abc,100,5\">hi &amp; there</d>"
+                + "<d p=\"2.000,1,25,16777215,1700000002,0,abc,102,5\">again</d>"
+                + "<d p=\"2.000,1,25,16777215,1700000002,0,abc,102,5\">again</d>"
+                + "</i>";
+        StringWriter out = new StringWriter();
+        try (DmWriter writer = new DmWriter(out, "1")) {
+            assertEquals(2, writer.readXml(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8))));
+            byte[] seg = reply(elem(1500, "abc", "hi & there", 1700000000L, "100"), elem(3000, "abc", "new", 1700000003L, "103"));
+            assertEquals("XML 中已有的 id 不应该重复写入", 1, writer.readSeg(seg));
+            assertEquals(3, writer.size());
+        }
+        assertTrue(out.toString().contains(">hi &amp; there</d>"));
+        assertTrue(out.toString().contains(",103,5\">new</d>"));
+    }
+
+    private static byte[] elem(long progress, String midHash, String content, long ctime, String id) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        varintField(out, 2, progress);
+        varintField(out, 3, 1);
+        varintField(out, 4, 25);
+        varintField(out, 5, 16777215);
+        stringField(out, 6, midHash);
+        stringField(out, 7, content);
+        varintField(out, 8, ctime);
+        varintField(out, 9, 5);
+        stringField(out, 12, id);
+        return out.toByteArray();
+    }
+
+    private static byte[] reply(byte[]... elems) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] elem : elems) bytesField(out, 1, elem);
+        return out.toByteArray();
+    }
+
+    private static void varintField(ByteArrayOutputStream out, int field, long value) {
+        tag(out, field, 0);
+        varint(out, value);
+    }
+
+    private static void stringField(ByteArrayOutputStream out, int field, String value) throws IOException {
+        bytesField(out, field, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void bytesField(ByteArrayOutputStream out, int field, byte[] value) throws IOException {
+        tag(out, field, 2);
+        varint(out, value.length);
+        out.write(value);
+    }
+
+    private static void tag(ByteArrayOutputStream out, int field, int type) {
+        varint(out, (long) field << 3 | type);
+    }
+
+    private static void varint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+}
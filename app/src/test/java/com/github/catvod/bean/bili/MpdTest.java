@@ -0,0 +1,97 @@
+package com.github.catvod.bean.bili;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * DASH 清单生成单元测试
+ * <p>
+ * 用一份精简的 playurl dash 结果检查编码分组、清晰度上限与回退、音频过滤和 BaseURL 转义。
+ * </p>
+ *
+ * @author CatVod Team
+ */
+public class MpdTest {
+
+    private static final String DASH = "{\"duration\":120,\"minBufferTime\":1.5,"
+            + "\"video\":["
+            + video("116", "7", "avc1.640032", "https://cdn.test/116.m4s?a=1&b=2")
+            + "," + video("80", "7", "avc1.640032", "https://cdn.test/80.m4s?a=1&b=2")
+            + "," + video("64", "7", "avc1.64001F", "https://cdn.test/64.m4s?a=1&b=2")
+            + "," + video("80", "12", "hev1.1.6.L120.90", "https://cdn.test/80h.m4s?a=1&b=2")
+            + "],\"audio\":["
+            + audio("30280") + "," + audio("30216") + "," + audio("30251")
+            + "]}";
+
+    private Dash dash;
+
+    @Before
+    public void setUp() {
+        dash = Dash.objectFrom(DASH);
+    }
+
+    @Test
+    public void testGroupByCodec() {
+        String mpd = Mpd.write(dash, 80);
+        assertEquals("两种视频编码加一组音频", 3, count(mpd, "<AdaptationSet>"));
+        assertTrue(mpd.contains("id=\"80_7\""));
+        assertTrue(mpd.contains("id=\"64_7\""));
+        assertTrue(mpd.contains("id=\"80_12\""));
+        assertFalse("高于上限的画质不应该出现", mpd.contains("id=\"116_7\""));
+        assertTrue("同一编码的画质应该在同一组", mpd.indexOf("id=\"64_7\"") < mpd.indexOf("id=\"80_12\""));
+        assertTrue(mpd.contains("mediaPresentationDuration=\"PT120S\""));
+    }
+
+    @Test
+    public void testQualityFallback() {
+        String mpd = Mpd.write(dash, 16);
+        assertTrue("没有不高于上限的画质时保留全部画质", mpd.contains("id=\"116_7\""));
+        assertEquals(4, count(mpd, "mimeType=\"video/mp4\""));
+    }
+
+    @Test
+    public void testAudio() {
+        String mpd = Mpd.write(dash, 127);
+        assertTrue(mpd.contains("id=\"30280_0\""));
+        assertTrue(mpd.contains("sampleRate=\"192000\""));
+        assertTrue(mpd.contains("sampleRate=\"64000\""));
+        assertFalse("未知码率的音频应该丢弃", mpd.contains("id=\"30251_0\""));
+    }
+
+    @Test
+    public void testEscape() {
+        String mpd = Mpd.write(dash, 80);
+        assertTrue(mpd.contains("<BaseURL>https://cdn.test/80.m4s?a=1&amp;b=2</BaseURL>"));
+        assertFalse(mpd.contains("a=1&b=2"));
+
+        String proxied = Mpd.write(dash, 80, media -> "http://127.0.0.1/proxy?url=" + media.getId() + "&type=media");
+        assertTrue("改写后的地址同样需要转义", proxied.contains("<BaseURL>http://127.0.0.1/proxy?url=80&amp;type=media</BaseURL>"));
+    }
+
+    @Test
+    public void testPreferred() {
+        List<Media> medias = Mpd.preferred(dash, 80);
+        assertEquals(2, medias.size());
+        assertEquals("第一组中清晰度最高的视频", "80", medias.get(0).getId());
+        assertEquals("7", medias.get(0).getCodecId());
+        assertEquals("30280", medias.get(1).getId());
+    }
+
+    private static String video(String id, String codecId, String codecs, String url) {
+        return "{\"id\":" + id + ",\"codecid\":" + codecId + ",\"baseUrl\":\"" + url + "\",\"bandwidth\":1000,\"mimeType\":\"video/mp4\",\"codecs\":\"" + codecs + "\",\"width\":1920,\"height\":1080,\"frameRate\":\"30\",\"sar\":\"1:1\",\"startWithSap\":1,\"SegmentBase\":{\"Initialization\":\"0-900\",\"indexRange\":\"901-1500\"}}";
+    }
+
+    private static String audio(String id) {
+        return "{\"id\":" + id + ",\"codecid\":0,\"baseUrl\":\"https://cdn.test/" + id + ".m4s\",\"bandwidth\":100,\"mimeType\":\"audio/mp4\",\"codecs\":\"mp4a.40.2\",\"startWithSap\":0,\"SegmentBase\":{\"Initialization\":\"0-800\",\"indexRange\":\"801-1200\"}}";
+    }
+
+    private static int count(String text, String token) {
+        int count = 0;
+        for (int i = text.indexOf(token); i >= 0; i = text.indexOf(token, i + 1)) count++;
+        return count;
+    }
+}
@@ -0,0 +1,165 @@
+package com.github.catvod.net;
+
+import com.github.catvod.utils.Path;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+
+/**
+ * HTTP 样本回放服务器（测试辅助类）
+ * <p>
+ * 读取 {@link FixtureRecorder} 录制的样本目录，用 {@link MockWebServer} 回放。
+ * 启动后通过 {@link OkHttp#setCustomClient(OkHttpClient)} 注入一个改写 URL 的客户端，
+ * 爬虫代码无需任何修改即可离线运行。
+ * </p>
+ * <p>
+ * 可选的网络模拟：
+ * <ul>
+ *   <li>{@link #latency(long)} - 固定延迟（毫秒）</li>
+ *   <li>{@link #recordedLatency()} - 使用录制时的真实响应耗时</li>
+ *   <li>{@link #bandwidth(long)} - 限制响应体带宽（字节/秒）</li>
+ * </ul>
+ * </p>
+ *
+ * <h3>使用示例：</h3>
+ * <pre>
+ * FixtureServer server = new FixtureServer(new File("fixtures/bili")).latency(50).bandwidth(512 * 1024);
+ * server.start();
+ * String json = spider.homeVideoContent();  // 全部请求由样本回放
+ * server.shutdown();
+ * </pre>
+ *
+ * @author CatVod Team
+ */
+public class FixtureServer {
+
+    /**
+     * 原始 URL 请求头（改写后的请求通过此头携带原地址）
+     */
+    private static final String ORIGIN = "X-Fixture-Url";
+
+    /**
+     * 回放时不照搬的响应头（由 MockWebServer 重新生成）
+     */
+    private static final List<String> SKIP = Arrays.asList("content-length", "transfer-encoding", "content-encoding", "connection");
+
+    private final Map<String, Fixture> fixtures;
+    private final MockWebServer server;
+    private final File dir;
+    private boolean recordedLatency;
+    private long bandwidth;
+    private long latency;
+
+    public FixtureServer(File dir) {
+        this.dir = dir;
+        this.fixtures = new HashMap<>();
+        this.server = new MockWebServer();
+        this.server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                return replay(request);
+            }
+        });
+        this.load();
+    }
+
+    private void load() {
+        File[] files = dir.listFiles((parent, name) -> name.endsWith(".json"));
+        if (files == null) return;
+        for (File file : files) {
+            Fixture fixture = Fixture.objectFrom(Path.read(file));
+            if (fixture != null) fixtures.put(fixture.getKey(), fixture);
+        }
+    }
+
+    public FixtureServer latency(long millis) {
+        this.latency = millis;
+        return this;
+    }
+
+    public FixtureServer recordedLatency() {
+        this.recordedLatency = true;
+        return this;
+    }
+
+    public FixtureServer bandwidth(long bytesPerSecond) {
+        this.bandwidth = bytesPerSecond;
+        return this;
+    }
+
+    public int size() {
+        return fixtures.size();
+    }
+
+    public MockWebServer getServer() {
+        return server;
+    }
+
+    /**
+     * 启动服务器并注入回放客户端
+     *
+     * @throws IOException 启动失败
+     */
+    public void start() throws IOException {
+        server.start();
+        OkHttp.setCustomClient(new OkHttpClient.Builder().addInterceptor(chain -> {
+            Request request = chain.request();
+            HttpUrl origin = request.url();
+            HttpUrl target = server.url(origin.encodedPath()).newBuilder().encodedQuery(origin.encodedQuery()).build();
+            return chain.proceed(request.newBuilder().url(target).header(ORIGIN, origin.toString()).build());
+        }).build());
+    }
+
+    /**
+     * 关闭服务器并恢复默认客户端
+     *
+     * @throws IOException 关闭失败
+     */
+    public void shutdown() throws IOException {
+        OkHttp.resetCustomClient();
+        server.shutdown();
+    }
+
+    private MockResponse replay(RecordedRequest request) {
+        String url = request.getHeader(ORIGIN);
+        Fixture fixture = url == null ? null : fixtures.get(Fixture.key(request.getMethod(), url, request.getBody().readUtf8()));
+        if (fixture == null) return new MockResponse().setResponseCode(404).setBody("No fixture for " + request.getMethod() + " " + url);
+
+        MockResponse response = new MockResponse().setResponseCode(fixture.getCode());
+        for (Map.Entry<String, List<String>> entry : fixture.getHeaders().entrySet()) {
+            if (SKIP.contains(entry.getKey().toLowerCase())) continue;
+            for (String value : entry.getValue()) response.addHeader(entry.getKey(), value);
+        }
+        response.setBody(readBody(fixture));
+
+        long delay = recordedLatency ? fixture.getTook() : latency;
+        if (delay > 0) response.setHeadersDelay(delay, TimeUnit.MILLISECONDS);
+        // 每 100ms 发送 bandwidth / 10 字节
+        if (bandwidth > 0) response.throttleBody(Math.max(1, bandwidth / 10), 100, TimeUnit.MILLISECONDS);
+        return response;
+    }
+
+    private Buffer readBody(Fixture fixture) {
+        Buffer buffer = new Buffer();
+        try (FileInputStream is = new FileInputStream(new File(dir, fixture.getKey() + ".body"))) {
+            buffer.readFrom(is);
+        } catch (IOException ignored) {
+        }
+        return buffer;
+    }
+}
@@ -0,0 +1,75 @@
+package com.github.catvod.net;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+
+import static org.junit.Assert.*;
+
+/**
+ * HTTP 录制/回放单元测试
+ * <p>
+ * 先对 MockWebServer 录制，再关闭源服务器，用 {@link FixtureServer} 回放同样的请求。
+ * </p>
+ *
+ * @author CatVod Team
+ */
+public class FixtureTest {
+
+    private MockWebServer origin;
+    private File dir;
+
+    @Before
+    public void setUp() throws IOException {
+        origin = new MockWebServer();
+        origin.start();
+        dir = new File(System.getProperty("java.io.tmpdir"), "catvod_fixture_" + System.currentTimeMillis());
+        dir.mkdirs();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        OkHttp.resetCustomClient();
+        origin.shutdown();
+        File[] files = dir.listFiles();
+        if (files != null) for (File file : files) file.delete();
+        dir.delete();
+    }
+
+    @Test
+    public void testRecordAndReplay() throws Exception {
+        origin.enqueue(new MockResponse().setBody("{\"list\":[1,2,3]}").addHeader("X-Test", "yes"));
+        origin.enqueue(new MockResponse().setBody("posted"));
+        String url = origin.url("/api/list?page=1").toString();
+        String api = origin.url("/api/post").toString();
+
+        // 录制
+        OkHttp.startRecording(dir);
+        assertEquals("{\"list\":[1,2,3]}", OkHttp.string(url));
+        assertEquals("posted", OkHttp.post(api, "{\"a\":1}"));
+        OkHttp.stopRecording();
+        origin.shutdown();
+
+        // 回放
+        FixtureServer server = new FixtureServer(dir).latency(10).bandwidth(1024 * 1024);
+        assertEquals("应该录制了 2 个样本", 2, server.size());
+        server.start();
+        try {
+            assertEquals("GET 应该回放录制内容", "{\"list\":[1,2,3]}", OkHttp.string(url));
+            assertEquals("POST 应该按请求体匹配", "posted", OkHttp.post(api, "{\"a\":1}"));
+            try (Response response = OkHttp.newCall(url, "fixture")) {
+                assertEquals("响应头应该回放", "yes", response.header("X-Test"));
+            }
+            assertEquals("未录制的请求应该返回 404", 404, OkHttp.post(api, "{\"a\":2}", null).getCode());
+        } finally {
+            server.shutdown();
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.github.catvod.server;
+
+import com.github.catvod.crawler.Spider;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * 内嵌代理服务器单元测试
+ * <p>
+ * 启动真实的 {@link LocalServer}，用原始 Socket 发送请求，检查 Range、HEAD、chunked 和 keep-alive。
+ * </p>
+ *
+ * @author CatVod Team
+ */
+public class LocalServerTest {
+
+    private static final String BODY = "0123456789";
+
+    private LocalServer server;
+    private Socket socket;
+
+    @Before
+    public void setUp() throws IOException {
+        server = new LocalServer();
+        server.start(0);
+        server.register("test", new Spider() {
+            @Override
+            public Object[] proxy(Map<String, String> params) {
+                byte[] data = BODY.getBytes(StandardCharsets.UTF_8);
+                // 包装后长度未知，HTTP/1.1 应该使用 chunked 编码
+                InputStream in = "stream".equals(params.get("type")) ? new FilterInputStream(new ByteArrayInputStream(data)) {} : new ByteArrayInputStream(data);
+                return new Object[]{200, "text/plain", in};
+            }
+        });
+        socket = new Socket("127.0.0.1", server.getPort());
+        socket.setSoTimeout(5000);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        socket.close();
+        server.stop();
+    }
+
+    @Test
+    public void testParseRange() {
+        assertArrayEquals(new long[]{0, 4}, HttpResponder.parseRange("bytes=0-4", 10));
+        assertArrayEquals("缺少结束位置应该到末尾", new long[]{5, 9}, HttpResponder.parseRange("bytes=5-", 10));
+        assertArrayEquals("后缀区间应该取最后几个字节", new long[]{7, 9}, HttpResponder.parseRange("bytes=-3", 10));
+        assertArrayEquals("结束位置超出应该截断", new long[]{8, 9}, HttpResponder.parseRange("bytes=8-100", 10));
+        assertArrayEquals("多区间只取第一段", new long[]{0, 1}, HttpResponder.parseRange("bytes=0-1,4-5", 10));
+        assertNull("起点超出长度应该无法满足", HttpResponder.parseRange("bytes=10-", 10));
+        assertNull("起点大于终点应该无法满足", HttpResponder.parseRange("bytes=5-2", 10));
+        assertNull("非 bytes 单位应该无法满足", HttpResponder.parseRange("items=0-1", 10));
+        assertNull("非数字应该无法满足", HttpResponder.parseRange("bytes=a-b", 10));
+    }
+
+    @Test
+    public void testKeepAliveAndRange() throws IOException {
+        send("GET /proxy?do=csp&siteKey=test HTTP/1.1\r\nHost: x\r\n\r\n");
+        Response first = read(false);
+        assertEquals(200, first.code);
+        assertEquals("keep-alive", first.headers.get("connection"));
+        assertEquals(BODY, first.body);
+
+        send("GET /proxy?do=csp&siteKey=test HTTP/1.1\r\nHost: x\r\nRange: bytes=2-4\r\n\r\n");
+        Response second = read(false);
+        assertEquals("同一连接上的第二个请求应该返回 206", 206, second.code);
+        assertEquals("bytes 2-4/10", second.headers.get("content-range"));
+        assertEquals("234", second.body);
+
+        send("GET /proxy?do=csp&siteKey=test HTTP/1.1\r\nHost: x\r\nRange: bytes=20-\r\n\r\n");
+        Response third = read(false);
+        assertEquals(416, third.code);
+        assertEquals("bytes */10", third.headers.get("content-range"));
+    }
+
+    @Test
+    public void testHead() throws IOException {
+        send("HEAD /proxy?do=csp&siteKey=test HTTP/1.1\r\nHost: x\r\n\r\n");
+        Response head = read(true);
+        assertEquals(200, head.code);
+        assertEquals("HEAD 应该返回实际长度", "10", head.headers.get("content-length"));
+        assertEquals("", head.body);
+
+        // HEAD 之后连接上不应该残留响应体
+        send("GET /proxy?do=csp&siteKey=test HTTP/1.1\r\nHost: x\r\n\r\n");
+        assertEquals(BODY, read(false).body);
+    }
+
+    @Test
+    public void testChunked() throws IOException {
+        send("GET /proxy?do=csp&siteKey=test&type=stream HTTP/1.1\r\nHost: x\r\n\r\n");
+        Response response = read(false);
+        assertEquals("chunked", response.headers.get("transfer-encoding"));
+        assertNull(response.headers.get("content-length"));
+        assertEquals(BODY, response.body);
+
+        send("GET /proxy?do=csp&siteKey=test&type=stream HTTP/1.0\r\n\r\n");
+        Response legacy = read(false);
+        assertEquals("HTTP/1.0 不支持 chunked，应该关闭连接", "close", legacy.headers.get("connection"));
+        assertEquals(BODY, legacy.body);
+    }
+
+    @Test
+    public void testNotFound() throws IOException {
+        send("GET /proxy?do=csp&siteKey=none HTTP/1.1\r\nHost: x\r\n\r\n");
+        assertEquals(404, read(false).code);
+        send("GET /other HTTP/1.1\r\nHost: x\r\n\r\n");
+        assertEquals(404, read(false).code);
+    }
+
+    private void send(String request) throws IOException {
+        OutputStream out = socket.getOutputStream();
+        out.write(request.getBytes(StandardCharsets.ISO_8859_1));
+        out.flush();
+    }
+
+    private Response read(boolean head) throws IOException {
+        InputStream in = socket.getInputStream();
+        Response response = new Response();
+        String status = line(in);
+        response.code = Integer.parseInt(status.split(" ")[1]);
+        for (String line = line(in); !line.isEmpty(); line = line(in)) {
+            int index = line.indexOf(':');
+            response.headers.put(line.substring(0, index).trim().toLowerCase(Locale.ROOT), line.substring(index + 1).trim());
+        }
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        String length = response.headers.get("content-length");
+        if (head) {
+            response.body = "";
+            return response;
+        } else if ("chunked".equals(response.headers.get("transfer-encoding"))) {
+            for (int size = Integer.parseInt(line(in), 16); size > 0; size = Integer.parseInt(line(in), 16)) {
+                body.write(bytes(in, size));
+                line(in);
+            }
+            line(in);
+        } else if (length != null) {
+            body.write(bytes(in, Integer.parseInt(length)));
+        } else {
+            for (int b = in.read(); b >= 0; b = in.read()) body.write(b);
+        }
+        response.body = body.toString("UTF-8");
+        return response;
+    }
+
+    private static String line(InputStream in) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for (int b = in.read(); b >= 0 && b != '\n'; b = in.read()) if (b != '\r') sb.append((char) b);
+        return sb.toString();
+    }
+
+    private static byte[] bytes(InputStream in, int size) throws IOException {
+        byte[] data = new byte[size];
+        for (int read = 0; read < size; ) {
+            int count = in.read(data, read, size - read);
+            if (count < 0) throw new IOException("Unexpected end of stream");
+            read += count;
+        }
+        return data;
+    }
+
+    private static class Response {
+
+        private final Map<String, String> headers = new HashMap<>();
+        private int code;
+        private String body;
+    }
+}
@@ -0,0 +1,87 @@
+package com.github.catvod.bean;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 播放列表构建和解析
+ */
+@State(Scope.Benchmark)
+public class PlayListBenchmark {
+
+    @Param({"40", "1000"})
+    public int size;
+
+    private List<String> names;
+    private List<String> ids;
+    private String from;
+    private String url;
+
+    @Setup
+    public void setup() {
+        names = new ArrayList<>(size);
+        ids = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            names.add("第" + i + "集");
+            ids.add("https://cdn.example.com/v/10001/" + i + ".m3u8" + (i % 10 == 0 ? "#t=" + i : ""));
+        }
+        PlayList playList = build();
+        from = playList.getFrom();
+        url = playList.getUrl();
+    }
+
+    /**
+     * 原写法：拼接 "name$id" 列表后 join，"#" 替换为 "***"
+     */
+    @Benchmark
+    public String buildJoin() {
+        List<String> flags = new ArrayList<>(2);
+        for (int f = 0; f < 2; f++) {
+            List<String> urls = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) urls.add(names.get(i) + "$" + ids.get(i).replace("#", "***"));
+            flags.add(String.join("#", urls));
+        }
+        return String.join("$$$", flags);
+    }
+
+    @Benchmark
+    public String buildPlayList() {
+        return build().getUrl();
+    }
+
+    private PlayList build() {
+        PlayList playList = PlayList.create();
+        for (int f = 0; f < 2; f++) {
+            playList.flag("线路" + f);
+            for (int i = 0; i < size; i++) playList.add(names.get(i), ids.get(i));
+        }
+        return playList;
+    }
+
+    /**
+     * 原写法：正则 split 逐层切分
+     */
+    @Benchmark
+    public int parseRegex() {
+        int count = 0;
+        for (String group : url.split("\\$\\$\\$")) {
+            for (String item : group.split("#")) count += item.split("\\$")[1].replace("***", "#").length();
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int parsePlayList() {
+        int count = 0;
+        for (PlayList.Flag flag : PlayList.parse(from, url)) {
+            for (PlayList.Episode episode : flag.getEpisodes()) count += episode.getId().length();
+        }
+        return count;
+    }
+}
@@ -0,0 +1,93 @@
+package com.github.catvod.bean;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Result 序列化和 Vod 列表构建
+ */
+@State(Scope.Benchmark)
+public class ResultBenchmark {
+
+    @Param({"20", "200"})
+    public int size;
+
+    private List<Class> classes;
+    private List<Vod> list;
+    private VodList columns;
+    private Vod detail;
+
+    @Setup
+    public void setup() {
+        classes = new ArrayList<>();
+        for (int i = 0; i < 12; i++) classes.add(new Class(String.valueOf(i), "分类" + i));
+        list = buildList();
+        columns = new VodList(list);
+        detail = new Vod("10001", "晨光海岸", "https://img.example.com/10001.jpg", "更新至40集");
+        detail.setVodContent("简介".repeat(200));
+        StringBuilder urls = new StringBuilder();
+        for (int i = 1; i <= 40; i++) urls.append(i > 1 ? "#" : "").append("第").append(i).append("集$https://cdn.example.com/v/10001/").append(i).append(".m3u8");
+        detail.setVodPlayFrom("线路1$$$线路2");
+        detail.setVodPlayUrl(urls + "$$$" + urls);
+    }
+
+    private List<Vod> buildList() {
+        List<Vod> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) items.add(buildVod(i));
+        return items;
+    }
+
+    private Vod buildVod(int i) {
+        return new Vod(String.valueOf(10000 + i), "视频" + i, "https://img.example.com/" + i + ".jpg", "更新至" + i + "集");
+    }
+
+    @Benchmark
+    public List<Vod> buildVodList() {
+        return buildList();
+    }
+
+    @Benchmark
+    public String stringList() {
+        return Result.string(list);
+    }
+
+    /**
+     * 按列存储的列表（对照 {@link #stringList()}）
+     */
+    @Benchmark
+    public String stringVodList() {
+        return Result.string(columns);
+    }
+
+    @Benchmark
+    public String stringHome() {
+        return Result.string(classes, list);
+    }
+
+    @Benchmark
+    public String stringDetail() {
+        return Result.string(detail);
+    }
+
+    /**
+     * 构建完整列表后序列化（对照 {@link #streamPage()}）
+     */
+    @Benchmark
+    public String buildPage() {
+        return Result.get().vod(buildList()).page().string();
+    }
+
+    @Benchmark
+    public String streamPage() throws IOException {
+        ResultWriter writer = ResultWriter.create().list();
+        for (int i = 0; i < size; i++) writer.vod(buildVod(i));
+        return writer.page().string();
+    }
+}
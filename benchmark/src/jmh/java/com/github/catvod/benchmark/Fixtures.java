@@ -0,0 +1,32 @@
+package com.github.catvod.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 基准测试样本读取
+ * <p>
+ * 样本位于 {@code src/jmh/resources/fixtures}，为保存下来的站点页面和接口响应。
+ * </p>
+ */
+public final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    public static String read(String name) {
+        try (InputStream is = Fixtures.class.getResourceAsStream("/fixtures/" + name)) {
+            if (is == null) throw new IllegalArgumentException("Fixture not found: " + name);
+            ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int count;
+            while ((count = is.read(buffer)) != -1) bos.write(buffer, 0, count);
+            return bos.toString(StandardCharsets.UTF_8.name());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
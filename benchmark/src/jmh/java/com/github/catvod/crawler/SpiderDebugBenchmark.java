@@ -0,0 +1,42 @@
+package com.github.catvod.crawler;
+
+import com.github.catvod.benchmark.Fixtures;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * SpiderDebug.sanitize（登录响应和大体积列表响应）
+ */
+@State(Scope.Benchmark)
+public class SpiderDebugBenchmark {
+
+    private String login;
+    private String listing;
+
+    @Setup
+    public void setup() {
+        login = "{\"code\":200,\"message\":\"success\",\"data\":{\"token\":\"eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9.abcdef\",\"cookie\":\"SESSDATA=0123456789abcdef; bili_jct=fedcba9876543210\",\"password\":\"hunter2\"}}";
+        listing = Fixtures.read("alist.json");
+    }
+
+    @Benchmark
+    public String sanitizeLogin() {
+        return SpiderDebug.sanitize(login);
+    }
+
+    @Benchmark
+    public String sanitizeListing() {
+        return SpiderDebug.sanitize(listing);
+    }
+
+    /**
+     * logSanitized 的实际路径：只处理开头 4000 字符
+     */
+    @Benchmark
+    public String sanitizeListingLog() {
+        return SpiderDebug.sanitize(listing, 4000);
+    }
+}
@@ -0,0 +1,40 @@
+package com.github.catvod.js.utils;
+
+import com.github.catvod.benchmark.Fixtures;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+
+/**
+ * js.utils.Parser 规则求值（pdfa 取列表后逐项 pdfh 取字段）
+ */
+@State(Scope.Benchmark)
+public class ParserBenchmark {
+
+    private static final String HOST = "https://www.857fans.com";
+
+    private Parser parser;
+    private String html;
+
+    @Setup
+    public void setup() {
+        parser = new Parser();
+        html = Fixtures.read("yhdm.html");
+    }
+
+    @Benchmark
+    public void listAndFields(Blackhole bh) {
+        List<String> items = parser.parseDomForArray(html, ".myui-vodlist&&li");
+        for (String item : items) {
+            bh.consume(parser.parseDomForUrl(item, "a&&title", ""));
+            bh.consume(parser.parseDomForUrl(item, "a&&data-original", HOST));
+            bh.consume(parser.parseDomForUrl(item, "a&&href", HOST));
+            bh.consume(parser.parseDomForUrl(item, ".pic-text&&Text", ""));
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.github.catvod.spider;
+
+import com.github.catvod.bean.Vod;
+import com.github.catvod.benchmark.Fixtures;
+
+import org.jsoup.Jsoup;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * PTT / Jable / YHDM 列表页卡片提取（含 Jsoup 解析）
+ */
+@State(Scope.Benchmark)
+public class CardBenchmark {
+
+    private PTT ptt;
+    private Jable jable;
+    private YHDM yhdm;
+    private String pttHtml;
+    private String jableHtml;
+    private String yhdmHtml;
+
+    @Setup
+    public void setup() {
+        ptt = new PTT();
+        jable = new Jable();
+        yhdm = new YHDM();
+        pttHtml = Fixtures.read("ptt.html");
+        jableHtml = Fixtures.read("jable.html");
+        yhdmHtml = Fixtures.read("yhdm.html");
+    }
+
+    @Benchmark
+    public List<Vod> ptt() {
+        return ptt.parseVods(Jsoup.parse(pttHtml));
+    }
+
+    @Benchmark
+    public List<Vod> jable() {
+        return jable.parseVods(Jsoup.parse(jableHtml));
+    }
+
+    @Benchmark
+    public List<Vod> yhdm() {
+        return yhdm.parseVods(Jsoup.parse(yhdmHtml).select(".myui-vodlist__box"));
+    }
+}
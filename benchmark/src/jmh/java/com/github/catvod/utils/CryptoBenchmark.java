@@ -0,0 +1,35 @@
+package com.github.catvod.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Crypto.md5 和 Crypto.CBC（YHDM 播放地址解密）
+ */
+@State(Scope.Benchmark)
+public class CryptoBenchmark {
+
+    private static final String KEY = "57A891D97E332A9D";
+    private static final String IV = "0123456789abcdef";
+
+    private String text;
+    private String cipher;
+
+    @Setup
+    public void setup() throws Exception {
+        text = "https://cdn.example.com/hls/2024/05/01/abcdef0123456789/index.m3u8?sign=" + "x".repeat(64);
+        cipher = Crypto.aesEncrypt(text, KEY, IV);
+    }
+
+    @Benchmark
+    public String md5() {
+        return Crypto.md5(text);
+    }
+
+    @Benchmark
+    public String cbc() {
+        return Crypto.CBC(cipher, KEY, IV);
+    }
+}
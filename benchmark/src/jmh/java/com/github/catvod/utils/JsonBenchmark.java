@@ -0,0 +1,77 @@
+package com.github.catvod.utils;
+
+import com.github.catvod.benchmark.Fixtures;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Json / JsonValidator 解析路径（AList 目录列表和 B 站热门列表响应）
+ */
+@State(Scope.Benchmark)
+public class JsonBenchmark {
+
+    private static final JsonPath CODE = JsonPath.compile("code");
+    private static final JsonPath TOTAL = JsonPath.compile("data.total");
+    private static final JsonPath FIRST_TITLE = JsonPath.compile("data.list[0].title");
+
+    private String json;
+    private String popular;
+
+    @Setup
+    public void setup() {
+        json = Fixtures.read("alist.json");
+        popular = Fixtures.read("bili_popular.json");
+    }
+
+    @Benchmark
+    public JsonElement parse() {
+        return Json.parse(json);
+    }
+
+    @Benchmark
+    public void safeObject(Blackhole bh) {
+        JsonObject data = Json.safeGetJsonObject(Json.safeObject(json), "data");
+        JsonArray content = Json.safeGetJsonArray(data, "content");
+        for (JsonElement element : content) bh.consume(Json.safeGetString(element.getAsJsonObject(), "name", ""));
+    }
+
+    @Benchmark
+    public void validateResponse(Blackhole bh) throws JsonValidator.ValidationException {
+        JsonObject data = JsonValidator.safeGetObject(JsonValidator.validateResponse(popular, "object"), "data");
+        for (JsonElement element : data.getAsJsonArray("list")) {
+            JsonObject item = element.getAsJsonObject();
+            bh.consume(JsonValidator.safeGetString(item, "title", ""));
+            bh.consume(JsonValidator.safeGetInt(item, "duration", 0));
+        }
+    }
+
+    /**
+     * 原写法：构建整棵树后取两个字段
+     */
+    @Benchmark
+    public void parseFields(Blackhole bh) {
+        JsonObject root = Json.safeObject(json);
+        bh.consume(Json.safeGetInt(root, "code", 0));
+        bh.consume(Json.safeGetInt(Json.safeGetJsonObject(root, "data"), "total", 0));
+    }
+
+    @Benchmark
+    public JsonElement[] extractFields() {
+        return Json.extract(json, CODE, TOTAL);
+    }
+
+    /**
+     * 取到值后提前结束，不读后面的列表
+     */
+    @Benchmark
+    public JsonElement[] extractEarly() {
+        return Json.extract(popular, CODE, FIRST_TITLE);
+    }
+}
@@ -0,0 +1,22 @@
+package com.github.catvod.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * UriUtil.resolve（相对路径、绝对路径、协议相对和带 ../ 的地址）
+ */
+@State(Scope.Benchmark)
+public class UriUtilBenchmark {
+
+    private static final String BASE = "https://www.example.com/vod/type/1-2.html?page=2";
+
+    private final String[] refs = {"/upload/vod/2024/5001.jpg", "../play/5001-1-1.html", "5001.html", "//cdn.example.com/a.m3u8", "https://img.example.com/x.jpg", "?page=3"};
+
+    @Benchmark
+    public void resolve(Blackhole bh) {
+        for (String ref : refs) bh.consume(UriUtil.resolve(BASE, ref));
+    }
+}
@@ -0,0 +1,139 @@
+package com.github.catvod.bean;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 通用数据对象的 TypeAdapter 工厂
+ * <p>
+ * 为 {@link Vod}、{@link VodList}、{@link Result}、{@link Class}、{@link Filter}、{@link Sub}、{@link Danmaku}
+ * 提供手写的 TypeAdapter，序列化时不再走反射。输出与反射版本逐字节一致：
+ * 字段顺序与声明顺序相同，null 字段省略，int 字段总是输出。
+ * </p>
+ * <p>
+ * 由 {@link com.github.catvod.utils.Json#gson()} 统一注册，业务代码无需直接使用。
+ * </p>
+ */
+public final class BeanAdapters implements TypeAdapterFactory {
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        java.lang.Class<? super T> raw = type.getRawType();
+        if (raw == Vod.class) return (TypeAdapter<T>) new Vod.Adapter();
+        if (raw == VodList.class) return (TypeAdapter<T>) new VodList.Adapter();
+        if (raw == Vod.Style.class) return (TypeAdapter<T>) new Vod.StyleAdapter();
+        if (raw == Class.class) return (TypeAdapter<T>) new Class.Adapter();
+        if (raw == Filter.class) return (TypeAdapter<T>) new Filter.Adapter();
+        if (raw == Filter.Value.class) return (TypeAdapter<T>) new Filter.ValueAdapter();
+        if (raw == Sub.class) return (TypeAdapter<T>) new Sub.Adapter();
+        if (raw == Danmaku.class) return (TypeAdapter<T>) new Danmaku.Adapter();
+        if (raw == Result.class) return (TypeAdapter<T>) new Result.Adapter(gson);
+        return null;
+    }
+
+    /**
+     * 读取字符串，与 Gson 内置 String 适配器一致：数字和布尔值按文本读取
+     */
+    static String readString(JsonReader in) throws IOException {
+        JsonToken token = in.peek();
+        if (token == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        if (token == JsonToken.BOOLEAN) return Boolean.toString(in.nextBoolean());
+        return in.nextString();
+    }
+
+    /**
+     * 读取 int，null 时返回默认值
+     */
+    static int readInt(JsonReader in, int defaultValue) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return defaultValue;
+        }
+        return in.nextInt();
+    }
+
+    /**
+     * 读取可空的 Integer
+     */
+    static Integer readInteger(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        return in.nextInt();
+    }
+
+    static <T> void writeList(JsonWriter out, List<T> list, TypeAdapter<T> adapter) throws IOException {
+        if (list == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginArray();
+        for (T item : list) adapter.write(out, item);
+        out.endArray();
+    }
+
+    /**
+     * 写出 Vod 列表，{@link VodList} 直接按列写出
+     */
+    static void writeVods(JsonWriter out, List<Vod> list, Vod.Adapter adapter) throws IOException {
+        if (!(list instanceof VodList)) {
+            writeList(out, list, adapter);
+            return;
+        }
+        out.beginArray();
+        ((VodList) list).write(out, adapter);
+        out.endArray();
+    }
+
+    static void writeFilters(JsonWriter out, Map<String, List<Filter>> filters, TypeAdapter<Filter> adapter) throws IOException {
+        if (filters == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        for (Map.Entry<String, List<Filter>> entry : filters.entrySet()) {
+            out.name(String.valueOf(entry.getKey()));
+            writeList(out, entry.getValue(), adapter);
+        }
+        out.endObject();
+    }
+
+    static <T> List<T> readList(JsonReader in, TypeAdapter<T> adapter) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        List<T> list = new ArrayList<>();
+        in.beginArray();
+        while (in.hasNext()) list.add(adapter.read(in));
+        in.endArray();
+        return list;
+    }
+
+    /**
+     * 读取对象开头，null 时返回 false
+     */
+    static boolean beginObject(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return false;
+        }
+        in.beginObject();
+        return true;
+    }
+}
@@ -1,9 +1,13 @@
 package com.github.catvod.bean;
 
-import com.google.gson.Gson;
+import com.github.catvod.utils.Json;
+import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.SerializedName;
 import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 
+import java.io.IOException;
 import java.lang.reflect.Type;
 import java.util.List;
 
@@ -86,7 +90,7 @@ public class Class {
      */
     public static List<Class> arrayFrom(String str) {
         Type listType = new TypeToken<List<Class>>() {}.getType();
-        return new Gson().fromJson(str, listType);
+        return Json.gson().fromJson(str, listType);
     }
 
     /**
@@ -149,4 +153,47 @@ public class Class {
         Class it = (Class) obj;
         return getTypeId().equals(it.getTypeId());
     }
+
+    /**
+     * 手写序列化适配器，字段顺序与声明顺序一致
+     */
+    static final class Adapter extends TypeAdapter<Class> {
+
+        @Override
+        public void write(JsonWriter out, Class item) throws IOException {
+            if (item == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("type_id").value(item.typeId);
+            out.name("type_name").value(item.typeName);
+            out.name("type_flag").value(item.typeFlag);
+            out.endObject();
+        }
+
+        @Override
+        public Class read(JsonReader in) throws IOException {
+            if (!BeanAdapters.beginObject(in)) return null;
+            Class item = new Class(null, null, null);
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "type_id":
+                        item.typeId = BeanAdapters.readString(in);
+                        break;
+                    case "type_name":
+                        item.typeName = BeanAdapters.readString(in);
+                        break;
+                    case "type_flag":
+                        item.typeFlag = BeanAdapters.readString(in);
+                        break;
+                    default:
+                        in.skipValue();
+                        break;
+                }
+            }
+            in.endObject();
+            return item;
+        }
+    }
 }
@@ -0,0 +1,75 @@
+package com.github.catvod.bean;
+
+import com.github.catvod.utils.Json;
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+
+public class Danmaku {
+
+    @SerializedName("name")
+    private String name;
+    @SerializedName("url")
+    private String url;
+
+    public static List<Danmaku> arrayFrom(String str) {
+        Type listType = new TypeToken<List<Danmaku>>() {}.getType();
+        return Json.gson().fromJson(str, listType);
+    }
+
+    public static Danmaku create() {
+        return new Danmaku();
+    }
+
+    public Danmaku name(String name) {
+        this.name = name;
+        return this;
+    }
+
+    public Danmaku url(String url) {
+        this.url = url;
+        return this;
+    }
+
+    static final class Adapter extends TypeAdapter<Danmaku> {
+
+        @Override
+        public void write(JsonWriter out, Danmaku item) throws IOException {
+            if (item == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("name").value(item.name);
+            out.name("url").value(item.url);
+            out.endObject();
+        }
+
+        @Override
+        public Danmaku read(JsonReader in) throws IOException {
+            if (!BeanAdapters.beginObject(in)) return null;
+            Danmaku item = new Danmaku();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "name":
+                        item.name = BeanAdapters.readString(in);
+                        break;
+                    case "url":
+                        item.url = BeanAdapters.readString(in);
+                        break;
+                    default:
+                        in.skipValue();
+                        break;
+                }
+            }
+            in.endObject();
+            return item;
+        }
+    }
+}
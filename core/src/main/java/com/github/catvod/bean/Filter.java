@@ -1,7 +1,11 @@
 package com.github.catvod.bean;
 
+import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 
+import java.io.IOException;
 import java.util.List;
 
 /**
@@ -177,4 +181,93 @@ public class Filter {
             this.v = v;
         }
     }
+
+    /**
+     * 手写序列化适配器，字段顺序与声明顺序一致
+     */
+    static final class Adapter extends TypeAdapter<Filter> {
+
+        private final ValueAdapter value = new ValueAdapter();
+
+        @Override
+        public void write(JsonWriter out, Filter item) throws IOException {
+            if (item == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("key").value(item.key);
+            out.name("name").value(item.name);
+            out.name("init").value(item.init);
+            out.name("value");
+            BeanAdapters.writeList(out, item.value, value);
+            out.endObject();
+        }
+
+        @Override
+        public Filter read(JsonReader in) throws IOException {
+            if (!BeanAdapters.beginObject(in)) return null;
+            Filter item = new Filter(null, null, null);
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "key":
+                        item.key = BeanAdapters.readString(in);
+                        break;
+                    case "name":
+                        item.name = BeanAdapters.readString(in);
+                        break;
+                    case "init":
+                        item.init = BeanAdapters.readString(in);
+                        break;
+                    case "value":
+                        item.value = BeanAdapters.readList(in, value);
+                        break;
+                    default:
+                        in.skipValue();
+                        break;
+                }
+            }
+            in.endObject();
+            return item;
+        }
+    }
+
+    /**
+     * {@link Value} 的手写序列化适配器
+     */
+    static final class ValueAdapter extends TypeAdapter<Value> {
+
+        @Override
+        public void write(JsonWriter out, Value item) throws IOException {
+            if (item == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("n").value(item.n);
+            out.name("v").value(item.v);
+            out.endObject();
+        }
+
+        @Override
+        public Value read(JsonReader in) throws IOException {
+            if (!BeanAdapters.beginObject(in)) return null;
+            Value item = new Value(null, null);
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "n":
+                        item.n = BeanAdapters.readString(in);
+                        break;
+                    case "v":
+                        item.v = BeanAdapters.readString(in);
+                        break;
+                    default:
+                        in.skipValue();
+                        break;
+                }
+            }
+            in.endObject();
+            return item;
+        }
+    }
 }
@@ -0,0 +1,114 @@
+package com.github.catvod.bean;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 列表分页缓存
+ * <p>
+ * 后端不支持分页时（本地目录、WebDAV、SMB 等），第 1 页取得完整列表后按 key 缓存，
+ * 后续页码直接从缓存切片，保证翻页期间顺序稳定，也不会重复请求后端。
+ * 缓存的可以是原始条目（如 File），只为当前页创建 {@link Vod}。
+ * 缓存按最近访问淘汰，只保留最近浏览的少量目录。
+ * </p>
+ *
+ * <h3>使用示例：</h3>
+ * <pre>
+ * int page = Pager.page(pg);
+ * List&lt;File&gt; files = page == 1 ? null : pager.get(tid);
+ * if (files == null) files = pager.put(tid, listFiles(tid));
+ * ResultWriter writer = ResultWriter.create().list();
+ * for (File file : Pager.slice(files, page, Pager.SIZE)) writer.vod(create(file));
+ * return writer.page(page, Pager.SIZE, files.size()).string();
+ * </pre>
+ *
+ * @see Result#slice(List, int, int)
+ */
+public class Pager<T> {
+
+    /**
+     * 默认每页条目数
+     */
+    public static final int SIZE = 100;
+
+    private final Map<String, List<T>> cache;
+
+    public Pager() {
+        this(8);
+    }
+
+    /**
+     * @param capacity 最多缓存的列表数量
+     */
+    public Pager(int capacity) {
+        this.cache = new LinkedHashMap<String, List<T>>(capacity, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, List<T>> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * 解析页码，无效时返回 1
+     *
+     * @param pg 页码字符串
+     * @return 从 1 开始的页码
+     */
+    public static int page(String pg) {
+        try {
+            return Math.max(1, Integer.parseInt(pg.trim()));
+        } catch (Exception e) {
+            return 1;
+        }
+    }
+
+    /**
+     * 每页条目数，未配置或无效时返回 {@link #SIZE}
+     *
+     * @param size 配置的每页条目数，可为 null
+     * @return 每页条目数
+     */
+    public static int size(Integer size) {
+        return size == null || size <= 0 ? SIZE : size;
+    }
+
+    /**
+     * 总页数，空列表为 1 页
+     */
+    public static int count(int total, int limit) {
+        return Math.max(1, (total + limit - 1) / limit);
+    }
+
+    /**
+     * 切出指定页，超出范围时返回空列表
+     *
+     * @param items 完整列表
+     * @param page  从 1 开始的页码
+     * @param limit 每页条目数
+     * @return 子列表视图
+     */
+    public static <E> List<E> slice(List<E> items, int page, int limit) {
+        int from = (int) Math.min(items.size(), (long) (page - 1) * limit);
+        return items.subList(from, Math.min(items.size(), from + limit));
+    }
+
+    public synchronized List<T> get(String key) {
+        return cache.get(key);
+    }
+
+    /**
+     * 缓存列表
+     *
+     * @return 传入的列表，便于链式调用
+     */
+    public synchronized List<T> put(String key, List<T> items) {
+        cache.put(key, items);
+        return items;
+    }
+
+    public synchronized void clear() {
+        cache.clear();
+    }
+}
@@ -0,0 +1,376 @@
+package com.github.catvod.bean;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 播放列表（vod_play_from / vod_play_url）
+ * <p>
+ * 负责播放地址格式的构建和解析：
+ * <pre>
+ * vod_play_from: "线路1$$$线路2"
+ * vod_play_url:  "第1集$id1#第2集$id2$$$第1集$id3"
+ * </pre>
+ * 构建时一次写入两个 StringBuilder，不产生中间列表；解析时逐段 indexOf，不使用正则。
+ * </p>
+ *
+ * <h3>转义规则：</h3>
+ * <ul>
+ *   <li>线路名和剧集名中的 {@code #}、{@code $} 替换为全角字符（仅用于显示，不还原）</li>
+ *   <li>播放 ID 含有 {@code #}、{@code $} 或 {@code ***} 时加上 {@link #ESCAPED} 前缀，
+ *   并把 {@code %}、{@code #}、{@code $} 转义为 {@code %25}、{@code %23}、{@code %24}；
+ *   其它 ID 原样写入，与旧版本保持一致</li>
+ *   <li>playerContent 中用 {@link #unescape(String)} 还原：只解码带前缀的 ID，
+ *   宿主在旧版本保存的 ID（历史记录、收藏、推送）按旧规则把 {@code ***} 还原为 {@code #}，
+ *   其中的 {@code %25} 等 URL 编码保持不变</li>
+ * </ul>
+ *
+ * <h3>使用示例：</h3>
+ * <pre>
+ * PlayList playList = PlayList.create();
+ * playList.flag("线路1");
+ * for (Episode e : episodes) playList.add(e.getName(), e.getUrl());
+ * playList.apply(vod);
+ *
+ * // playerContent
+ * String url = PlayList.unescape(id);
+ * </pre>
+ *
+ * @see Vod
+ */
+public class PlayList {
+
+    public static final String FLAG_SEPARATOR = "$$$";
+    public static final char EPISODE_SEPARATOR = '#';
+    public static final char NAME_SEPARATOR = '$';
+
+    /**
+     * 转义后播放 ID 的前缀（版本 1），不含分隔符，也不会出现在合法的 URL 编码中
+     */
+    public static final String ESCAPED = "%!1";
+
+    /**
+     * 旧版本用于替代 {@code #} 的占位符
+     */
+    private static final String LEGACY_HASH = "***";
+
+    private final StringBuilder from;
+    private final StringBuilder url;
+    private int fromMark;
+    private int urlMark;
+    private int episodes;
+    private boolean open;
+    private int count;
+
+    public static PlayList create() {
+        return new PlayList();
+    }
+
+    private PlayList() {
+        this.from = new StringBuilder();
+        this.url = new StringBuilder();
+    }
+
+    /**
+     * 开始一条新线路
+     * <p>
+     * 上一条线路没有剧集时会被丢弃，保证 from 和 url 的线路数一致。
+     * </p>
+     *
+     * @param name 线路名
+     * @return 当前对象
+     */
+    public PlayList flag(String name) {
+        close();
+        fromMark = from.length();
+        urlMark = url.length();
+        if (count > 0) {
+            from.append(FLAG_SEPARATOR);
+            url.append(FLAG_SEPARATOR);
+        }
+        clean(name, from);
+        episodes = 0;
+        open = true;
+        return this;
+    }
+
+    /**
+     * 向当前线路添加一集
+     *
+     * @param name 剧集名
+     * @param id   播放 ID，会被转义
+     * @return 当前对象
+     * @throws IllegalStateException 未调用 {@link #flag(String)}
+     */
+    public PlayList add(String name, String id) {
+        if (!open) throw new IllegalStateException("flag() must be called before add()");
+        if (episodes > 0) url.append(EPISODE_SEPARATOR);
+        clean(name, url);
+        url.append(NAME_SEPARATOR);
+        escape(id, url);
+        episodes++;
+        return this;
+    }
+
+    /**
+     * 向当前线路添加一集，不写剧集名，宿主直接显示播放 ID
+     *
+     * @param id 播放 ID，会被转义
+     * @return 当前对象
+     * @throws IllegalStateException 未调用 {@link #flag(String)}
+     */
+    public PlayList add(String id) {
+        if (!open) throw new IllegalStateException("flag() must be called before add()");
+        if (episodes > 0) url.append(EPISODE_SEPARATOR);
+        escape(id, url);
+        episodes++;
+        return this;
+    }
+
+    private void close() {
+        if (!open) return;
+        open = false;
+        if (episodes > 0) {
+            count++;
+        } else {
+            from.setLength(fromMark);
+            url.setLength(urlMark);
+        }
+    }
+
+    /**
+     * 线路数（不含当前未结束的空线路）
+     */
+    public int size() {
+        return count + (open && episodes > 0 ? 1 : 0);
+    }
+
+    public String getFrom() {
+        close();
+        return from.toString();
+    }
+
+    public String getUrl() {
+        close();
+        return url.toString();
+    }
+
+    /**
+     * 写入 Vod 的 vod_play_from 和 vod_play_url
+     *
+     * @param vod 目标 Vod
+     * @return 传入的 Vod
+     */
+    public Vod apply(Vod vod) {
+        vod.setVodPlayFrom(getFrom());
+        vod.setVodPlayUrl(getUrl());
+        return vod;
+    }
+
+    /**
+     * 解析播放列表
+     *
+     * @param from vod_play_from
+     * @param url  vod_play_url
+     * @return 线路列表，播放 ID 已还原
+     */
+    public static List<Flag> parse(String from, String url) {
+        if (from == null || url == null || url.isEmpty()) return Collections.emptyList();
+        List<String> names = split(from, FLAG_SEPARATOR);
+        List<String> groups = split(url, FLAG_SEPARATOR);
+        List<Flag> flags = new ArrayList<>(groups.size());
+        for (int i = 0; i < groups.size(); i++) {
+            String group = groups.get(i);
+            Flag flag = new Flag(i < names.size() ? names.get(i) : "");
+            int start = 0;
+            while (start <= group.length()) {
+                int end = group.indexOf(EPISODE_SEPARATOR, start);
+                if (end < 0) end = group.length();
+                if (end > start) flag.episodes.add(Episode.parse(group, start, end));
+                start = end + 1;
+            }
+            flags.add(flag);
+        }
+        return flags;
+    }
+
+    /**
+     * 按分隔符切分字符串（不使用正则，保留空段）
+     *
+     * @param str       字符串
+     * @param separator 分隔符
+     * @return 切分结果
+     */
+    public static List<String> split(String str, String separator) {
+        return split(str, separator, 0);
+    }
+
+    /**
+     * 按分隔符切分字符串（不使用正则，保留空段）
+     *
+     * @param str       字符串
+     * @param separator 分隔符
+     * @param limit     最多切分段数，最后一段包含剩余全部内容；0 表示不限制
+     * @return 切分结果
+     */
+    public static List<String> split(String str, String separator, int limit) {
+        List<String> items = new ArrayList<>();
+        if (str == null) return items;
+        int start = 0;
+        int end;
+        while ((limit <= 0 || items.size() < limit - 1) && (end = str.indexOf(separator, start)) >= 0) {
+            items.add(str.substring(start, end));
+            start = end + separator.length();
+        }
+        items.add(str.substring(start));
+        return items;
+    }
+
+    /**
+     * 转义播放 ID
+     *
+     * @param id 播放 ID
+     * @return 不含 {@code #}、{@code $} 的字符串，无需转义时返回原字符串
+     */
+    public static String escape(String id) {
+        if (id == null) return "";
+        if (!needsEscape(id)) return id;
+        StringBuilder sb = new StringBuilder(id.length() + 12);
+        escape(id, sb);
+        return sb.toString();
+    }
+
+    private static void escape(String id, StringBuilder sb) {
+        if (id == null) return;
+        if (!needsEscape(id)) {
+            sb.append(id);
+            return;
+        }
+        sb.append(ESCAPED);
+        int start = 0;
+        for (int i = indexOfSpecial(id, true); i >= 0 && i < id.length(); i++) {
+            char c = id.charAt(i);
+            if (c != '%' && c != EPISODE_SEPARATOR && c != NAME_SEPARATOR) continue;
+            sb.append(id, start, i).append(c == '%' ? "%25" : c == EPISODE_SEPARATOR ? "%23" : "%24");
+            start = i + 1;
+        }
+        sb.append(start == 0 ? id : id.substring(start));
+    }
+
+    private static boolean needsEscape(String id) {
+        return indexOfSpecial(id, false) >= 0 || id.contains(LEGACY_HASH) || id.startsWith(ESCAPED);
+    }
+
+    /**
+     * 还原播放 ID
+     * <p>
+     * 带 {@link #ESCAPED} 前缀的按 {@link #escape(String)} 的规则解码；
+     * 不带前缀的是无需转义的 ID 或旧版本保存的 ID，只把旧占位符 {@code ***} 还原为 {@code #}。
+     * </p>
+     *
+     * @param id 播放 ID
+     * @return 原始播放 ID
+     */
+    public static String unescape(String id) {
+        if (id == null) return null;
+        if (!id.startsWith(ESCAPED)) return id.contains(LEGACY_HASH) ? id.replace(LEGACY_HASH, String.valueOf(EPISODE_SEPARATOR)) : id;
+        StringBuilder sb = new StringBuilder(id.length());
+        for (int i = ESCAPED.length(); i < id.length(); i++) {
+            char c = id.charAt(i);
+            if (c == '%' && i + 2 < id.length() && id.charAt(i + 1) == '2') {
+                char d = id.charAt(i + 2);
+                if (d == '5') c = '%';
+                else if (d == '3') c = EPISODE_SEPARATOR;
+                else if (d == '4') c = NAME_SEPARATOR;
+                else {
+                    sb.append(c);
+                    continue;
+                }
+                i += 2;
+            }
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    private static void clean(String name, StringBuilder sb) {
+        if (name == null) return;
+        int start = 0;
+        for (int i = indexOfSpecial(name, false); i >= 0 && i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c != EPISODE_SEPARATOR && c != NAME_SEPARATOR) continue;
+            sb.append(name, start, i).append(c == EPISODE_SEPARATOR ? '＃' : '＄');
+            start = i + 1;
+        }
+        sb.append(start == 0 ? name : name.substring(start));
+    }
+
+    /**
+     * 第一个需要处理的字符位置，没有时返回 -1
+     * <p>
+     * 绝大多数 ID 和名称无需转义，整体 append 可走数组拷贝，避免逐字符写入。
+     * </p>
+     */
+    private static int indexOfSpecial(String str, boolean percent) {
+        int index = str.indexOf(EPISODE_SEPARATOR);
+        int dollar = str.indexOf(NAME_SEPARATOR);
+        if (dollar >= 0 && (index < 0 || dollar < index)) index = dollar;
+        int pct = percent ? str.indexOf('%') : -1;
+        if (pct >= 0 && (index < 0 || pct < index)) index = pct;
+        return index;
+    }
+
+    /**
+     * 线路
+     */
+    public static class Flag {
+
+        private final String name;
+        private final List<Episode> episodes;
+
+        Flag(String name) {
+            this.name = name;
+            this.episodes = new ArrayList<>();
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public List<Episode> getEpisodes() {
+            return episodes;
+        }
+    }
+
+    /**
+     * 剧集
+     */
+    public static class Episode {
+
+        private final String name;
+        private final String id;
+
+        Episode(String name, String id) {
+            this.name = name;
+            this.id = id;
+        }
+
+        static Episode parse(String group, int start, int end) {
+            int split = group.indexOf(NAME_SEPARATOR, start);
+            if (split < 0 || split >= end) return new Episode(group.substring(start, end), unescape(group.substring(start, end)));
+            return new Episode(group.substring(start, split), unescape(group.substring(split + 1, end)));
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return 已还原的播放 ID
+         */
+        public String getId() {
+            return id;
+        }
+    }
+}
@@ -0,0 +1,412 @@
+package com.github.catvod.bean;
+
+import com.github.catvod.utils.Json;
+import com.github.catvod.utils.UA;
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class Result {
+
+    @SerializedName("class")
+    private List<Class> classes;
+    @SerializedName("list")
+    private List<Vod> list;
+    @SerializedName("filters")
+    private LinkedHashMap<String, List<Filter>> filters;
+    @SerializedName("header")
+    private String header;
+    @SerializedName("format")
+    private String format;
+    @SerializedName("danmaku")
+    private List<Danmaku> danmaku;
+    @SerializedName("click")
+    private String click;
+    @SerializedName("msg")
+    private String msg;
+    @SerializedName("url")
+    private Object url;
+    @SerializedName("subs")
+    private List<Sub> subs;
+    @SerializedName("parse")
+    private int parse;
+    @SerializedName("jx")
+    private int jx;
+    @SerializedName("page")
+    private Integer page;
+    @SerializedName("pagecount")
+    private Integer pagecount;
+    @SerializedName("limit")
+    private Integer limit;
+    @SerializedName("total")
+    private Integer total;
+
+    public static Result objectFrom(String str) {
+        return Json.gson().fromJson(str, Result.class);
+    }
+
+    public static String string(List<Class> classes, List<Vod> list, LinkedHashMap<String, List<Filter>> filters) {
+        return Result.get().classes(classes).vod(list).filters(filters).string();
+    }
+
+    public static String string(List<Class> classes, List<Vod> list, JSONObject filters) {
+        return Result.get().classes(classes).vod(list).filters(filters).string();
+    }
+
+    public static String string(List<Class> classes, List<Vod> list, JsonElement filters) {
+        return Result.get().classes(classes).vod(list).filters(filters).string();
+    }
+
+    public static String string(List<Class> classes, LinkedHashMap<String, List<Filter>> filters) {
+        return Result.get().classes(classes).filters(filters).string();
+    }
+
+    public static String string(List<Class> classes, JsonElement filters) {
+        return Result.get().classes(classes).filters(filters).string();
+    }
+
+    public static String string(List<Class> classes, JSONObject filters) {
+        return Result.get().classes(classes).filters(filters).string();
+    }
+
+    public static String string(List<Class> classes, List<Vod> list) {
+        return Result.get().classes(classes).vod(list).string();
+    }
+
+    public static String string(List<?> list) {
+        if (list == null || list.isEmpty()) return "";
+        if (list.get(0) instanceof Vod) return Result.get().vod((List<Vod>) list).string();
+        if (list.get(0) instanceof Class) return Result.get().classes((List<Class>) list).string();
+        return "";
+    }
+
+    public static String string(Vod item) {
+        return Result.get().vod(item).string();
+    }
+
+    public static String error(String msg) {
+        return Result.get().vod(Collections.emptyList()).msg(msg).string();
+    }
+
+    public static String notify(String msg) {
+        return Result.get().msg(msg).string();
+    }
+
+    public static Result get() {
+        return new Result();
+    }
+
+    public Result classes(List<Class> classes) {
+        this.classes = classes;
+        return this;
+    }
+
+    public Result vod(List<Vod> list) {
+        this.list = list;
+        return this;
+    }
+
+    public Result vod(Vod item) {
+        this.list = Arrays.asList(item);
+        return this;
+    }
+
+    public Result filters(LinkedHashMap<String, List<Filter>> filters) {
+        this.filters = filters;
+        return this;
+    }
+
+    public Result filters(JSONObject object) {
+        if (object == null) return this;
+        Type listType = new TypeToken<LinkedHashMap<String, List<Filter>>>() {}.getType();
+        this.filters = Json.gson().fromJson(object.toString(), listType);
+        return this;
+    }
+
+    public Result filters(JsonElement element) {
+        if (element == null) return this;
+        Type listType = new TypeToken<LinkedHashMap<String, List<Filter>>>() {}.getType();
+        this.filters = Json.gson().fromJson(element.toString(), listType);
+        return this;
+    }
+
+    public Result header(Map<String, String> header) {
+        if (header.isEmpty()) return this;
+        this.header = Json.gson().toJson(header);
+        return this;
+    }
+
+    public Result chrome() {
+        Map<String, String> header = new HashMap<>();
+        header.put("User-Agent", UA.CHROME);
+        header(header);
+        return this;
+    }
+
+    public Result parse() {
+        this.parse = 1;
+        return this;
+    }
+
+    public Result parse(int parse) {
+        this.parse = parse;
+        return this;
+    }
+
+    public Result jx() {
+        this.jx = 1;
+        return this;
+    }
+
+    public Result url(String url) {
+        this.url = url;
+        return this;
+    }
+
+    public Result url(List<String> url) {
+        this.url = url;
+        return this;
+    }
+
+    public Result danmaku(List<Danmaku> danmaku) {
+        this.danmaku = danmaku;
+        return this;
+    }
+
+    public Result click(String click) {
+        this.click = click;
+        return this;
+    }
+
+    public Result msg(String msg) {
+        this.msg = msg;
+        return this;
+    }
+
+    public Result format(String format) {
+        this.format = format;
+        return this;
+    }
+
+    public Result subs(List<Sub> subs) {
+        this.subs = subs;
+        return this;
+    }
+
+    public Result dash() {
+        this.format = "application/dash+xml";
+        return this;
+    }
+
+    public Result m3u8() {
+        this.format = "application/x-mpegURL";
+        return this;
+    }
+
+    public Result rtsp() {
+        this.format = "application/x-rtsp";
+        return this;
+    }
+
+    public Result octet() {
+        this.format = "application/octet-stream";
+        return this;
+    }
+
+    public Result page() {
+        return page(1, 1, 0, 1);
+    }
+
+    public Result page(int page, int count, int limit, int total) {
+        this.page = page > 0 ? page : Integer.MAX_VALUE;
+        this.limit = limit > 0 ? limit : Integer.MAX_VALUE;
+        this.total = total > 0 ? total : Integer.MAX_VALUE;
+        this.pagecount = count > 0 ? count : Integer.MAX_VALUE;
+        return this;
+    }
+
+    /**
+     * 总条目数已知时的分页信息
+     * <p>
+     * 与 {@link #page(int, int, int, int)} 不同，total 原样输出（空目录为 0），
+     * 页数由 {@link Pager#count(int, int)} 计算，不使用表示未知的 {@link Integer#MAX_VALUE}。
+     * </p>
+     *
+     * @param page  从 1 开始的页码
+     * @param limit 每页条目数
+     * @param total 总条目数
+     * @return 当前对象
+     */
+    public Result page(int page, int limit, int total) {
+        this.page = page;
+        this.limit = limit;
+        this.total = total;
+        this.pagecount = Pager.count(total, limit);
+        return this;
+    }
+
+    /**
+     * 从完整列表中切出一页，并设置分页信息
+     *
+     * @param items 完整列表（顺序需稳定）
+     * @param page  从 1 开始的页码
+     * @param limit 每页条目数
+     * @return 当前对象
+     * @see Pager
+     */
+    public Result slice(List<Vod> items, int page, int limit) {
+        this.list = Pager.slice(items, page, limit);
+        return page(page, limit, items.size());
+    }
+
+    public List<Vod> getList() {
+        return list == null ? Collections.emptyList() : list;
+    }
+
+    public String string() {
+        return toString();
+    }
+
+    @Override
+    public String toString() {
+        return Json.gson().toJson(this);
+    }
+
+    /**
+     * 手写序列化适配器，字段顺序与声明顺序一致
+     * <p>
+     * url 字段可能是字符串或字符串列表，交给 Gson 内置的 Object 适配器处理。
+     * </p>
+     */
+    static final class Adapter extends TypeAdapter<Result> {
+
+        private final Class.Adapter clazz = new Class.Adapter();
+        private final Vod.Adapter vod = new Vod.Adapter();
+        private final Filter.Adapter filter = new Filter.Adapter();
+        private final Danmaku.Adapter danmaku = new Danmaku.Adapter();
+        private final Sub.Adapter sub = new Sub.Adapter();
+        private final TypeAdapter<Object> object;
+
+        Adapter(Gson gson) {
+            this.object = gson.getAdapter(Object.class);
+        }
+
+        @Override
+        public void write(JsonWriter out, Result result) throws IOException {
+            if (result == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("class");
+            BeanAdapters.writeList(out, result.classes, clazz);
+            out.name("list");
+            BeanAdapters.writeVods(out, result.list, vod);
+            out.name("filters");
+            BeanAdapters.writeFilters(out, result.filters, filter);
+            out.name("header").value(result.header);
+            out.name("format").value(result.format);
+            out.name("danmaku");
+            BeanAdapters.writeList(out, result.danmaku, danmaku);
+            out.name("click").value(result.click);
+            out.name("msg").value(result.msg);
+            out.name("url");
+            object.write(out, result.url);
+            out.name("subs");
+            BeanAdapters.writeList(out, result.subs, sub);
+            out.name("parse").value(result.parse);
+            out.name("jx").value(result.jx);
+            out.name("page").value(result.page);
+            out.name("pagecount").value(result.pagecount);
+            out.name("limit").value(result.limit);
+            out.name("total").value(result.total);
+            out.endObject();
+        }
+
+        @Override
+        public Result read(JsonReader in) throws IOException {
+            if (!BeanAdapters.beginObject(in)) return null;
+            Result result = new Result();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "class":
+                        result.classes = BeanAdapters.readList(in, clazz);
+                        break;
+                    case "list":
+                        result.list = BeanAdapters.readList(in, vod);
+                        break;
+                    case "filters":
+                        result.filters = readFilters(in);
+                        break;
+                    case "header":
+                        result.header = BeanAdapters.readString(in);
+                        break;
+                    case "format":
+                        result.format = BeanAdapters.readString(in);
+                        break;
+                    case "danmaku":
+                        result.danmaku = BeanAdapters.readList(in, danmaku);
+                        break;
+                    case "click":
+                        result.click = BeanAdapters.readString(in);
+                        break;
+                    case "msg":
+                        result.msg = BeanAdapters.readString(in);
+                        break;
+                    case "url":
+                        result.url = object.read(in);
+                        break;
+                    case "subs":
+                        result.subs = BeanAdapters.readList(in, sub);
+                        break;
+                    case "parse":
+                        result.parse = BeanAdapters.readInt(in, 0);
+                        break;
+                    case "jx":
+                        result.jx = BeanAdapters.readInt(in, 0);
+                        break;
+                    case "page":
+                        result.page = BeanAdapters.readInteger(in);
+                        break;
+                    case "pagecount":
+                        result.pagecount = BeanAdapters.readInteger(in);
+                        break;
+                    case "limit":
+                        result.limit = BeanAdapters.readInteger(in);
+                        break;
+                    case "total":
+                        result.total = BeanAdapters.readInteger(in);
+                        break;
+                    default:
+                        in.skipValue();
+                        break;
+                }
+            }
+            in.endObject();
+            return result;
+        }
+
+        private LinkedHashMap<String, List<Filter>> readFilters(JsonReader in) throws IOException {
+            if (!BeanAdapters.beginObject(in)) return null;
+            LinkedHashMap<String, List<Filter>> filters = new LinkedHashMap<>();
+            while (in.hasNext()) filters.put(in.nextName(), BeanAdapters.readList(in, filter));
+            in.endObject();
+            return filters;
+        }
+    }
+}
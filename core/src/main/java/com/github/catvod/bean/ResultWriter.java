@@ -0,0 +1,231 @@
+package com.github.catvod.bean;
+
+import com.github.catvod.utils.Json;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * 流式 Result 输出
+ * <p>
+ * {@link Result#string()} 需要先构建完整的 {@code List<Vod>}，再整体序列化为字符串。
+ * 本类通过 {@link JsonWriter} 边生成边输出，{@link Vod} 写出后即可回收，
+ * 适合本地目录、网盘文件夹等条目很多的列表。输出格式与 {@link Result} 相同。
+ * </p>
+ * <p>
+ * 字段按调用顺序写出；{@link #vod(Vod)} 可连续调用，期间调用其他字段方法会结束 list 数组，
+ * 因此同一个 Result 中的 Vod 应连续写出。parse 和 jx 与 Result 一样总是输出，在结束时写出。
+ * </p>
+ *
+ * <h3>使用示例：</h3>
+ * <pre>
+ * // 输出到字符串（兼容 Spider 接口）
+ * ResultWriter writer = ResultWriter.create().list();
+ * for (File file : files) writer.vod(create(file));
+ * return writer.page().string();
+ *
+ * // 直接输出到流（如本地代理响应）
+ * try (ResultWriter writer = ResultWriter.create(os)) {
+ *     for (Item item : items) writer.vod(item.getVod());
+ * }
+ * </pre>
+ *
+ * @see Result
+ */
+public class ResultWriter implements Closeable {
+
+    private final Class.Adapter clazz = new Class.Adapter();
+    private final Filter.Adapter filter = new Filter.Adapter();
+    private final Vod.Adapter vod = new Vod.Adapter();
+    private final StringBuilder buffer;
+    private final JsonWriter out;
+    private boolean list;
+    private boolean closed;
+    private int parse;
+    private int jx;
+
+    /**
+     * 输出到内存，完成后通过 {@link #string()} 取得结果
+     */
+    public static ResultWriter create() throws IOException {
+        StringBuilder buffer = new StringBuilder();
+        return new ResultWriter(new BuilderWriter(buffer), buffer);
+    }
+
+    /**
+     * 以 UTF-8 输出到字节流，{@link #close()} 时一并关闭
+     */
+    public static ResultWriter create(OutputStream os) throws IOException {
+        return create(new BufferedWriter(new OutputStreamWriter(os, StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * 输出到 Writer，{@link #close()} 时一并关闭
+     */
+    public static ResultWriter create(Writer writer) throws IOException {
+        return new ResultWriter(writer, null);
+    }
+
+    private ResultWriter(Writer writer, StringBuilder buffer) throws IOException {
+        this.buffer = buffer;
+        this.out = Json.gson().newJsonWriter(writer);
+        this.out.beginObject();
+    }
+
+    private JsonWriter name(String name) throws IOException {
+        if (closed) throw new IllegalStateException("ResultWriter is closed");
+        if (list) {
+            out.endArray();
+            list = false;
+        }
+        return out.name(name);
+    }
+
+    public ResultWriter classes(List<Class> classes) throws IOException {
+        BeanAdapters.writeList(name("class"), classes, clazz);
+        return this;
+    }
+
+    public ResultWriter filters(LinkedHashMap<String, List<Filter>> filters) throws IOException {
+        BeanAdapters.writeFilters(name("filters"), filters, filter);
+        return this;
+    }
+
+    /**
+     * 开始 list 数组，之后没有写出 Vod 时输出空数组
+     */
+    public ResultWriter list() throws IOException {
+        if (!list) {
+            name("list").beginArray();
+            list = true;
+        }
+        return this;
+    }
+
+    /**
+     * 写出一个 Vod，首次调用时开始 list 数组
+     */
+    public ResultWriter vod(Vod item) throws IOException {
+        list();
+        vod.write(out, item);
+        return this;
+    }
+
+    public ResultWriter vod(List<Vod> items) throws IOException {
+        list();
+        if (items instanceof VodList) ((VodList) items).write(out, vod);
+        else for (Vod item : items) vod.write(out, item);
+        return this;
+    }
+
+    public ResultWriter msg(String msg) throws IOException {
+        name("msg").value(msg);
+        return this;
+    }
+
+    public ResultWriter parse(int parse) {
+        this.parse = parse;
+        return this;
+    }
+
+    public ResultWriter jx() {
+        this.jx = 1;
+        return this;
+    }
+
+    /**
+     * @see Result#page()
+     */
+    public ResultWriter page() throws IOException {
+        return page(1, 1, 0, 1);
+    }
+
+    /**
+     * @see Result#page(int, int, int, int)
+     */
+    public ResultWriter page(int page, int count, int limit, int total) throws IOException {
+        name("page").value(page > 0 ? page : Integer.MAX_VALUE);
+        name("pagecount").value(count > 0 ? count : Integer.MAX_VALUE);
+        name("limit").value(limit > 0 ? limit : Integer.MAX_VALUE);
+        name("total").value(total > 0 ? total : Integer.MAX_VALUE);
+        return this;
+    }
+
+    /**
+     * @see Result#page(int, int, int)
+     */
+    public ResultWriter page(int page, int limit, int total) throws IOException {
+        name("page").value(page);
+        name("pagecount").value(Pager.count(total, limit));
+        name("limit").value(limit);
+        name("total").value(total);
+        return this;
+    }
+
+    /**
+     * 结束输出并返回 JSON 字符串，仅适用于 {@link #create()} 创建的实例
+     *
+     * @return 与 {@link Result#string()} 格式相同的 JSON
+     */
+    public String string() throws IOException {
+        if (buffer == null) throw new IllegalStateException("ResultWriter is not backed by a string");
+        close();
+        return buffer.toString();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) return;
+        name("parse").value(parse);
+        name("jx").value(jx);
+        out.endObject();
+        out.close();
+        closed = true;
+    }
+
+    /**
+     * 基于 StringBuilder 的 Writer
+     * <p>
+     * {@link java.io.StringWriter} 内部是同步的 StringBuffer，逐字符写入时开销明显。
+     * </p>
+     */
+    private static final class BuilderWriter extends Writer {
+
+        private final StringBuilder builder;
+
+        BuilderWriter(StringBuilder builder) {
+            this.builder = builder;
+        }
+
+        @Override
+        public void write(int c) {
+            builder.append((char) c);
+        }
+
+        @Override
+        public void write(char[] buf, int off, int len) {
+            builder.append(buf, off, len);
+        }
+
+        @Override
+        public void write(String str, int off, int len) {
+            builder.append(str, off, off + len);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
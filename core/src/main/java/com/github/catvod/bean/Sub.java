@@ -0,0 +1,111 @@
+package com.github.catvod.bean;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+public class Sub {
+
+    @SerializedName("url")
+    private String url;
+    @SerializedName("name")
+    private String name;
+    @SerializedName("lang")
+    private String lang;
+    @SerializedName("format")
+    private String format;
+    @SerializedName("flag")
+    private int flag;
+
+    public static Sub create() {
+        return new Sub();
+    }
+
+    public Sub name(String name) {
+        this.name = name;
+        return this;
+    }
+
+    public Sub url(String url) {
+        this.url = url;
+        return this;
+    }
+
+    public Sub lang(String lang) {
+        this.lang = lang;
+        return this;
+    }
+
+    private Sub format(String format) {
+        this.format = format;
+        return this;
+    }
+
+    public Sub forced() {
+        this.flag = 2;
+        return this;
+    }
+
+    public Sub ext(String ext) {
+        switch (ext) {
+            case "vtt":
+                return format("text/vtt");
+            case "ass":
+            case "ssa":
+                return format("text/x-ssa");
+            default:
+                return format("application/x-subrip");
+        }
+    }
+
+    static final class Adapter extends TypeAdapter<Sub> {
+
+        @Override
+        public void write(JsonWriter out, Sub item) throws IOException {
+            if (item == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("url").value(item.url);
+            out.name("name").value(item.name);
+            out.name("lang").value(item.lang);
+            out.name("format").value(item.format);
+            out.name("flag").value(item.flag);
+            out.endObject();
+        }
+
+        @Override
+        public Sub read(JsonReader in) throws IOException {
+            if (!BeanAdapters.beginObject(in)) return null;
+            Sub item = new Sub();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "url":
+                        item.url = BeanAdapters.readString(in);
+                        break;
+                    case "name":
+                        item.name = BeanAdapters.readString(in);
+                        break;
+                    case "lang":
+                        item.lang = BeanAdapters.readString(in);
+                        break;
+                    case "format":
+                        item.format = BeanAdapters.readString(in);
+                        break;
+                    case "flag":
+                        item.flag = BeanAdapters.readInt(in, 0);
+                        break;
+                    default:
+                        in.skipValue();
+                        break;
+                }
+            }
+            in.endObject();
+            return item;
+        }
+    }
+}
@@ -1,7 +1,13 @@
 package com.github.catvod.bean;
 
-import com.google.gson.Gson;
+import com.github.catvod.utils.Json;
+import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
 
 /**
  * 视频点播对象（VOD - Video On Demand）
@@ -164,7 +170,7 @@ public class Vod {
      * @return Vod对象，解析失败时返回空对象
      */
     public static Vod objectFrom(String str) {
-        Vod item = new Gson().fromJson(str, Vod.class);
+        Vod item = Json.gson().fromJson(str, Vod.class);
         return item == null ? new Vod() : item;
     }
 
@@ -352,6 +358,189 @@ public class Vod {
         this.style = style;
     }
 
+    Style getStyle() {
+        return style;
+    }
+
+    /**
+     * 字符串字段数量，下标与声明顺序一致（type_name 为 0，action 为 13），供 {@link VodList} 按列存取
+     */
+    static final int FIELDS = 14;
+
+    String get(int field) {
+        return switch (field) {
+            case 0 -> typeName;
+            case 1 -> vodId;
+            case 2 -> vodName;
+            case 3 -> vodPic;
+            case 4 -> vodRemarks;
+            case 5 -> vodYear;
+            case 6 -> vodArea;
+            case 7 -> vodActor;
+            case 8 -> vodDirector;
+            case 9 -> vodContent;
+            case 10 -> vodPlayFrom;
+            case 11 -> vodPlayUrl;
+            case 12 -> vodTag;
+            case 13 -> action;
+            default -> throw new IndexOutOfBoundsException("field " + field);
+        };
+    }
+
+    void set(int field, String value) {
+        switch (field) {
+            case 0 -> typeName = value;
+            case 1 -> vodId = value;
+            case 2 -> vodName = value;
+            case 3 -> vodPic = value;
+            case 4 -> vodRemarks = value;
+            case 5 -> vodYear = value;
+            case 6 -> vodArea = value;
+            case 7 -> vodActor = value;
+            case 8 -> vodDirector = value;
+            case 9 -> vodContent = value;
+            case 10 -> vodPlayFrom = value;
+            case 11 -> vodPlayUrl = value;
+            case 12 -> vodTag = value;
+            case 13 -> action = value;
+            default -> throw new IndexOutOfBoundsException("field " + field);
+        }
+    }
+
+    /**
+     * 手写序列化适配器，字段顺序与声明顺序一致
+     */
+    static final class Adapter extends TypeAdapter<Vod> {
+
+        private final StyleAdapter style = new StyleAdapter();
+
+        @Override
+        public void write(JsonWriter out, Vod vod) throws IOException {
+            if (vod == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("type_name").value(vod.typeName);
+            out.name("vod_id").value(vod.vodId);
+            out.name("vod_name").value(vod.vodName);
+            out.name("vod_pic").value(vod.vodPic);
+            out.name("vod_remarks").value(vod.vodRemarks);
+            out.name("vod_year").value(vod.vodYear);
+            out.name("vod_area").value(vod.vodArea);
+            out.name("vod_actor").value(vod.vodActor);
+            out.name("vod_director").value(vod.vodDirector);
+            out.name("vod_content").value(vod.vodContent);
+            out.name("vod_play_from").value(vod.vodPlayFrom);
+            out.name("vod_play_url").value(vod.vodPlayUrl);
+            out.name("vod_tag").value(vod.vodTag);
+            out.name("action").value(vod.action);
+            out.name("style");
+            style.write(out, vod.style);
+            out.endObject();
+        }
+
+        @Override
+        public Vod read(JsonReader in) throws IOException {
+            if (!BeanAdapters.beginObject(in)) return null;
+            Vod vod = new Vod();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "type_name":
+                        vod.typeName = BeanAdapters.readString(in);
+                        break;
+                    case "vod_id":
+                        vod.vodId = BeanAdapters.readString(in);
+                        break;
+                    case "vod_name":
+                        vod.vodName = BeanAdapters.readString(in);
+                        break;
+                    case "vod_pic":
+                        vod.vodPic = BeanAdapters.readString(in);
+                        break;
+                    case "vod_remarks":
+                        vod.vodRemarks = BeanAdapters.readString(in);
+                        break;
+                    case "vod_year":
+                        vod.vodYear = BeanAdapters.readString(in);
+                        break;
+                    case "vod_area":
+                        vod.vodArea = BeanAdapters.readString(in);
+                        break;
+                    case "vod_actor":
+                        vod.vodActor = BeanAdapters.readString(in);
+                        break;
+                    case "vod_director":
+                        vod.vodDirector = BeanAdapters.readString(in);
+                        break;
+                    case "vod_content":
+                        vod.vodContent = BeanAdapters.readString(in);
+                        break;
+                    case "vod_play_from":
+                        vod.vodPlayFrom = BeanAdapters.readString(in);
+                        break;
+                    case "vod_play_url":
+                        vod.vodPlayUrl = BeanAdapters.readString(in);
+                        break;
+                    case "vod_tag":
+                        vod.vodTag = BeanAdapters.readString(in);
+                        break;
+                    case "action":
+                        vod.action = BeanAdapters.readString(in);
+                        break;
+                    case "style":
+                        vod.style = style.read(in);
+                        break;
+                    default:
+                        in.skipValue();
+                        break;
+                }
+            }
+            in.endObject();
+            return vod;
+        }
+    }
+
+    /**
+     * {@link Style} 的手写序列化适配器
+     */
+    static final class StyleAdapter extends TypeAdapter<Style> {
+
+        @Override
+        public void write(JsonWriter out, Style style) throws IOException {
+            if (style == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("type").value(style.type);
+            out.name("ratio").value(style.ratio);
+            out.endObject();
+        }
+
+        @Override
+        public Style read(JsonReader in) throws IOException {
+            if (!BeanAdapters.beginObject(in)) return null;
+            Style style = new Style(null);
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "type":
+                        style.type = BeanAdapters.readString(in);
+                        break;
+                    case "ratio":
+                        if (in.peek() == JsonToken.NULL) in.nextNull();
+                        else style.ratio = (float) in.nextDouble();
+                        break;
+                    default:
+                        in.skipValue();
+                        break;
+                }
+            }
+            in.endObject();
+            return style;
+        }
+    }
+
     /**
      * 显示样式类
      * <p>
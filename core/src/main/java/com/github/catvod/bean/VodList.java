@@ -0,0 +1,212 @@
+package com.github.catvod.bean;
+
+import com.github.catvod.utils.Image;
+import com.github.catvod.utils.Interner;
+import com.github.catvod.utils.Json;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * 按列存储的 Vod 列表
+ * <p>
+ * 每个 {@link Vod} 对象有 15 个字段，列表页通常只用到其中四五个。本类把各字段分别存成数组，
+ * 从未赋值的字段不分配数组；分类名、封面、备注、年份、地区、标签等低基数字段经 {@link Interner}
+ * 去重，从 JSON 解析出的 {@link Image#FOLDER}、{@link Image#VIDEO} 等内置图片也会指回同一个常量。
+ * 适合需要长时间缓存的大列表（如 {@link Pager} 缓存的网盘目录）。
+ * </p>
+ * <p>
+ * 实现 {@code List<Vod>}，可直接传给 {@link Result#vod(java.util.List)}，序列化结果与 {@code ArrayList<Vod>} 相同，
+ * 写出时不创建 Vod 对象。{@link #get(int)} 每次返回新的 Vod，修改它不会影响列表，需要修改时用 {@link #set(int, Vod)}。
+ * 只支持在末尾追加，不接受 null。非线程安全。
+ * </p>
+ *
+ * <h3>使用示例：</h3>
+ * <pre>
+ * VodList list = new VodList();
+ * for (File file : files) list.add(new Vod(file.getPath(), file.getName(), Image.VIDEO, "", false));
+ * return Result.get().slice(list, page, limit).string();
+ * </pre>
+ *
+ * @see Vod
+ */
+public class VodList extends AbstractList<Vod> implements RandomAccess {
+
+    /**
+     * 需要去重的字段：type_name、vod_pic、vod_remarks、vod_year、vod_area、vod_tag、action
+     */
+    private static final boolean[] INTERN = {true, false, false, true, true, true, true, false, false, false, false, false, true, true};
+
+    private final String[][] columns;
+    private final Interner interner;
+    private Vod.Style[] styles;
+    private int capacity;
+    private int size;
+
+    public VodList() {
+        this(10);
+    }
+
+    /**
+     * @param capacity 初始容量
+     */
+    public VodList(int capacity) {
+        this.columns = new String[Vod.FIELDS][];
+        this.interner = new Interner().add(Image.FOLDER, Image.VIDEO, Image.PUSH);
+        this.capacity = Math.max(1, capacity);
+    }
+
+    public VodList(Collection<Vod> items) {
+        this(items.size());
+        addAll(items);
+    }
+
+    /**
+     * 从 JSON 数组创建
+     *
+     * @param str JSON 数组字符串
+     * @return 列表，解析失败时为空列表
+     */
+    public static VodList arrayFrom(String str) {
+        try {
+            VodList list = Json.gson().fromJson(str, VodList.class);
+            return list == null ? new VodList() : list;
+        } catch (Exception e) {
+            return new VodList();
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Vod get(int index) {
+        checkIndex(index);
+        Vod vod = new Vod();
+        read(index, vod);
+        return vod;
+    }
+
+    /**
+     * @throws NullPointerException vod 为 null
+     */
+    @Override
+    public boolean add(Vod vod) {
+        if (vod == null) throw new NullPointerException("vod == null");
+        if (size == capacity) grow();
+        write(size++, vod);
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public Vod set(int index, Vod vod) {
+        if (vod == null) throw new NullPointerException("vod == null");
+        Vod previous = get(index);
+        write(index, vod);
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(columns, null);
+        styles = null;
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * 把容量缩减到当前大小，列表不再追加时调用
+     */
+    public void trimToSize() {
+        if (size == capacity || size == 0) return;
+        resize(size);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+
+    private void grow() {
+        resize(capacity + (capacity >> 1) + 1);
+    }
+
+    private void resize(int capacity) {
+        this.capacity = capacity;
+        for (int i = 0; i < columns.length; i++) if (columns[i] != null) columns[i] = Arrays.copyOf(columns[i], capacity);
+        if (styles != null) styles = Arrays.copyOf(styles, capacity);
+    }
+
+    private void write(int index, Vod vod) {
+        for (int i = 0; i < columns.length; i++) {
+            String value = vod.get(i);
+            if (value == null && columns[i] == null) continue;
+            if (columns[i] == null) columns[i] = new String[capacity];
+            columns[i][index] = INTERN[i] ? interner.intern(value) : value;
+        }
+        Vod.Style style = vod.getStyle();
+        if (style == null && styles == null) return;
+        if (styles == null) styles = new Vod.Style[capacity];
+        styles[index] = style;
+    }
+
+    private void read(int index, Vod vod) {
+        for (int i = 0; i < columns.length; i++) vod.set(i, columns[i] == null ? null : columns[i][index]);
+        vod.setStyle(styles == null ? null : styles[index]);
+    }
+
+    /**
+     * 逐条写出，复用同一个 Vod 作为载体
+     */
+    void write(JsonWriter out, Vod.Adapter adapter) throws IOException {
+        Vod vod = new Vod();
+        for (int i = 0; i < size; i++) {
+            read(i, vod);
+            adapter.write(out, vod);
+        }
+    }
+
+    /**
+     * {@link VodList} 的序列化适配器，输出 JSON 数组
+     */
+    static final class Adapter extends TypeAdapter<VodList> {
+
+        private final Vod.Adapter vod = new Vod.Adapter();
+
+        @Override
+        public void write(JsonWriter out, VodList list) throws IOException {
+            if (list == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginArray();
+            list.write(out, vod);
+            out.endArray();
+        }
+
+        @Override
+        public VodList read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            VodList list = new VodList();
+            in.beginArray();
+            while (in.hasNext()) {
+                Vod item = vod.read(in);
+                if (item != null) list.add(item);
+            }
+            in.endArray();
+            return list;
+        }
+    }
+}
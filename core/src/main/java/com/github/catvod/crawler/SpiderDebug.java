@@ -0,0 +1,269 @@
+package com.github.catvod.crawler;
+
+import com.github.catvod.platform.Log;
+
+/**
+ * 爬虫调试日志工具类
+ * <p>
+ * 提供统一的日志输出功能，所有爬虫的调试信息都应通过此类输出。
+ * 日志可通过 Android Logcat 查看，过滤标签 "SpiderDebug"。
+ * </p>
+ *
+ * <h3>使用方法：</h3>
+ * <pre>
+ * // 输出普通日志
+ * SpiderDebug.log("开始请求 API");
+ *
+ * // 输出异常信息
+ * try {
+ *     // 你的代码
+ * } catch (Exception e) {
+ *     SpiderDebug.log(e);
+ * }
+ * </pre>
+ *
+ * <h3>查看日志：</h3>
+ * <pre>
+ * # Android Studio Logcat
+ * 在过滤框输入: SpiderDebug
+ *
+ * # 命令行
+ * adb logcat -s SpiderDebug:D
+ * </pre>
+ *
+ * @author CatVod
+ * @see Spider
+ */
+public class SpiderDebug {
+
+    /**
+     * 日志标签
+     * <p>
+     * 用于在 Logcat 中过滤日志，固定为 "SpiderDebug"。
+     * </p>
+     */
+    private static final String TAG = SpiderDebug.class.getSimpleName();
+
+    /**
+     * 敏感字段名（小写，匹配时不区分大小写）
+     */
+    private static final String[] FIELDS = {"token", "cookie", "authorization", "password", "passwd", "secret", "apikey", "api_key"};
+
+    /**
+     * 单条日志最多输出的字符数，与 logcat 单条上限相当
+     */
+    private static final int MAX_LENGTH = 4000;
+
+    /**
+     * 输出异常日志
+     * <p>
+     * 将异常信息输出到 Logcat，包含异常消息。
+     * </p>
+     *
+     * @param e 异常对象
+     *
+     * <h4>示例：</h4>
+     * <pre>
+     * try {
+     *     String json = OkHttp.string(url);
+     * } catch (Exception e) {
+     *     SpiderDebug.log(e);  // 输出异常信息
+     * }
+     * </pre>
+     */
+    public static void log(Throwable e) {
+        Log.d(TAG, e.getMessage());
+    }
+
+    /**
+     * 输出普通日志
+     * <p>
+     * 将普通消息输出到 Logcat。
+     * </p>
+     *
+     * @param msg 日志消息
+     *
+     * <h4>示例：</h4>
+     * <pre>
+     * SpiderDebug.log("开始请求: " + url);
+     * SpiderDebug.log("获取到 " + list.size() + " 条数据");
+     * </pre>
+     */
+    public static void log(String msg) {
+        Log.d(TAG, msg);
+    }
+
+    /**
+     * 输出脱敏后的日志（用于包含敏感信息的数据）
+     * <p>
+     * 自动检测并脱敏以下敏感信息（保留前4位和后4位，中间用 *** 替换，不超过8位时完全隐藏为 ******）：
+     * <ul>
+     *   <li>Token</li>
+     *   <li>Cookie</li>
+     *   <li>Authorization</li>
+     *   <li>Password、Secret、API Key</li>
+     * </ul>
+     * 调试日志未开启时直接返回，不做脱敏；超过 4000 字符的消息只输出开头部分并注明总长度，
+     * 网盘目录等大响应只扫描开头部分。
+     * </p>
+     *
+     * @param msg 可能包含敏感信息的日志消息
+     *
+     * <h4>示例：</h4>
+     * <pre>
+     * String response = "{\"token\":\"abc123xyz789\",\"data\":{}}";
+     * SpiderDebug.logSanitized(response);
+     * // 输出: {"token":"abc1***z789","data":{}}
+     * </pre>
+     */
+    public static void logSanitized(String msg) {
+        if (!Log.isLoggable(TAG, Log.DEBUG)) return;
+        if (msg == null) {
+            Log.d(TAG, "null");
+            return;
+        }
+        Log.d(TAG, sanitize(msg, MAX_LENGTH));
+    }
+
+    /**
+     * 脱敏敏感信息
+     *
+     * @param text 原始文本
+     * @return 脱敏后的文本
+     */
+    static String sanitize(String text) {
+        return text == null ? null : sanitize(text, text.length());
+    }
+
+    /**
+     * 脱敏敏感信息
+     * <p>
+     * 一次扫描完成，依次识别三种格式：
+     * <ul>
+     *   <li>JSON 格式: {@code "token": "abc123xyz789"}</li>
+     *   <li>URL 参数格式: {@code token=abc123xyz789}</li>
+     *   <li>Header 格式: {@code Authorization: abc123xyz789}</li>
+     * </ul>
+     * 字段名不区分大小写，值不少于8位时才脱敏。文本被截断时，延伸到截断处的值无论长短都会隐藏。
+     * </p>
+     *
+     * @param text  原始文本
+     * @param limit 最多处理的字符数，超出部分截断
+     * @return 脱敏后的文本
+     */
+    static String sanitize(String text, int limit) {
+        if (text == null || text.isEmpty()) {
+            return text;
+        }
+
+        boolean truncated = text.length() > limit;
+        int end = truncated ? limit : text.length();
+        StringBuilder sb = null;
+        int copied = 0;
+        int i = 0;
+
+        while (i < end) {
+            String field = matchField(text, i, end);
+            if (field == null) {
+                i++;
+                continue;
+            }
+
+            int keyEnd = i + field.length();
+            int start = jsonValue(text, i, keyEnd, end);
+            char stop = '"';
+            if (start < 0) {
+                start = keyEnd < end && text.charAt(keyEnd) == '=' ? keyEnd + 1 : -1;
+                stop = '&';
+            }
+            if (start < 0) {
+                start = headerValue(text, keyEnd, end);
+                stop = ' ';
+            }
+            if (start < 0) {
+                i++;
+                continue;
+            }
+
+            int valueEnd = valueEnd(text, start, end, stop);
+            boolean cut = truncated && valueEnd == end;
+            // JSON 格式的值需要有结束引号（截断时除外）
+            boolean closed = stop != '"' || valueEnd < end || cut;
+            if (!closed || (valueEnd - start < 8 && !cut)) {
+                i = keyEnd;
+                continue;
+            }
+
+            if (sb == null) sb = new StringBuilder(end + 32);
+            sb.append(text, copied, start);
+            mask(sb, text, start, valueEnd, cut);
+            copied = valueEnd;
+            i = valueEnd;
+        }
+
+        if (sb == null && !truncated) return text;
+        if (sb == null) sb = new StringBuilder(end + 32);
+        sb.append(text, copied, end);
+        if (truncated) sb.append("...(").append(text.length()).append(" chars)");
+        return sb.toString();
+    }
+
+    private static String matchField(String text, int i, int end) {
+        int c = text.charAt(i) | 0x20;
+        if (c != 't' && c != 'c' && c != 'a' && c != 'p' && c != 's') return null;
+        for (String field : FIELDS) {
+            if (field.charAt(0) == c && i + field.length() <= end && text.regionMatches(true, i, field, 0, field.length())) return field;
+        }
+        return null;
+    }
+
+    /**
+     * {@code "field"\s*:\s*"} 之后的位置，不匹配时返回 -1
+     */
+    private static int jsonValue(String text, int start, int keyEnd, int end) {
+        if (start == 0 || text.charAt(start - 1) != '"' || keyEnd >= end || text.charAt(keyEnd) != '"') return -1;
+        int i = skipSpace(text, keyEnd + 1, end);
+        if (i >= end || text.charAt(i) != ':') return -1;
+        i = skipSpace(text, i + 1, end);
+        if (i >= end || text.charAt(i) != '"') return -1;
+        return i + 1;
+    }
+
+    /**
+     * {@code field\s*:\s*} 之后的位置，不匹配时返回 -1
+     */
+    private static int headerValue(String text, int keyEnd, int end) {
+        int i = skipSpace(text, keyEnd, end);
+        if (i >= end || text.charAt(i) != ':') return -1;
+        return skipSpace(text, i + 1, end);
+    }
+
+    private static int skipSpace(String text, int i, int end) {
+        while (i < end && Character.isWhitespace(text.charAt(i))) i++;
+        return i;
+    }
+
+    /**
+     * 值的结束位置：JSON 值到下一个引号，URL 参数到 &amp;、空白或引号，Header 值到空白或引号
+     */
+    private static int valueEnd(String text, int i, int end, char stop) {
+        while (i < end) {
+            char c = text.charAt(i);
+            if (c == '"') break;
+            if (stop != '"' && (c == '\'' || Character.isWhitespace(c) || (stop == '&' && c == '&'))) break;
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * 脱敏策略：保留前4位和后4位，中间用 *** 替换；值太短或被截断时完全隐藏
+     */
+    private static void mask(StringBuilder sb, String text, int start, int end, boolean cut) {
+        if (cut || end - start <= 8) {
+            sb.append("******");
+        } else {
+            sb.append(text, start, start + 4).append("***").append(text, end - 4, end);
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.github.catvod.crawler;
+
+import com.github.catvod.utils.Json;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 爬虫运行统计
+ * <p>
+ * 按 siteKey 分组，记录每个方法的调用次数、耗时分布、结果大小、错误次数和空结果次数，
+ * 以及各缓存的命中率。计数器全部是原子变量，记录时不加锁。
+ * 快照通过 {@code action("stats")} 以 JSON 返回，便于找出变慢或出错的站点。
+ * </p>
+ * <p>
+ * 耗时按 {@code histogram} 的区间分桶：&lt;1、&lt;2、&lt;5、&lt;10、&lt;20、&lt;50、&lt;100、&lt;200、&lt;500ms、
+ * &lt;1、&lt;2、&lt;5、&lt;10s 和更慢。百分位取所在区间的上界，是估计值，超过 10s 时为 -1。
+ * </p>
+ *
+ * <h3>使用示例：</h3>
+ * <pre>
+ * SpiderStats stats = SpiderStats.get(siteKey);
+ * long start = System.nanoTime();
+ * try {
+ *     String result = detailContent(ids);
+ *     stats.record("detail", start, result.length());
+ * } catch (Exception e) {
+ *     stats.error("detail", start);
+ *     throw e;
+ * }
+ * </pre>
+ *
+ * @see Spider
+ */
+public final class SpiderStats {
+
+    /**
+     * 耗时分桶上界（毫秒），最后一个桶收录更慢的调用
+     */
+    private static final long[] BOUNDS = {1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000, 10000};
+
+    private static final ConcurrentMap<String, SpiderStats> SITES = new ConcurrentHashMap<>();
+
+    private final String siteKey;
+    private final ConcurrentMap<String, Metric> metrics;
+    private final ConcurrentMap<String, Cache> caches;
+
+    private SpiderStats(String siteKey) {
+        this.siteKey = siteKey;
+        this.metrics = new ConcurrentHashMap<>();
+        this.caches = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * @param siteKey 站点 key，为空时归入 "default"
+     * @return 该站点的统计
+     */
+    public static SpiderStats get(String siteKey) {
+        String key = siteKey == null || siteKey.isEmpty() ? "default" : siteKey;
+        SpiderStats stats = SITES.get(key);
+        if (stats != null) return stats;
+        SpiderStats created = new SpiderStats(key);
+        stats = SITES.putIfAbsent(key, created);
+        return stats == null ? created : stats;
+    }
+
+    /**
+     * 所有站点的快照
+     *
+     * @return JSON 字符串，按 siteKey 排序
+     */
+    public static String snapshot() {
+        JsonObject object = new JsonObject();
+        for (SpiderStats stats : new TreeMap<>(SITES).values()) object.add(stats.siteKey, stats.toJson());
+        return Json.gson().toJson(object);
+    }
+
+    /**
+     * 清空所有站点的统计
+     */
+    public static void reset() {
+        SITES.clear();
+    }
+
+    /**
+     * 记录一次成功调用
+     *
+     * @param method 方法名
+     * @param start  开始时的 {@link System#nanoTime()}
+     * @param size   结果大小（如返回字符串长度），为 0 时计为空结果
+     */
+    public void record(String method, long start, long size) {
+        metric(method).record(System.nanoTime() - start, size, false);
+    }
+
+    /**
+     * 记录一次失败调用
+     *
+     * @param method 方法名
+     * @param start  开始时的 {@link System#nanoTime()}
+     */
+    public void error(String method, long start) {
+        metric(method).record(System.nanoTime() - start, 0, true);
+    }
+
+    /**
+     * 记录一次缓存命中
+     */
+    public void hit(String cache) {
+        cache(cache).hits.incrementAndGet();
+    }
+
+    /**
+     * 记录一次缓存未命中
+     */
+    public void miss(String cache) {
+        cache(cache).misses.incrementAndGet();
+    }
+
+    /**
+     * 本站点的快照
+     *
+     * @return JSON 字符串
+     */
+    public String string() {
+        return Json.gson().toJson(toJson());
+    }
+
+    private JsonObject toJson() {
+        JsonObject object = new JsonObject();
+        JsonObject methods = new JsonObject();
+        for (Map.Entry<String, Metric> entry : new TreeMap<>(metrics).entrySet()) methods.add(entry.getKey(), entry.getValue().toJson());
+        object.add("methods", methods);
+        if (caches.isEmpty()) return object;
+        JsonObject cache = new JsonObject();
+        for (Map.Entry<String, Cache> entry : new TreeMap<>(caches).entrySet()) cache.add(entry.getKey(), entry.getValue().toJson());
+        object.add("caches", cache);
+        return object;
+    }
+
+    private Metric metric(String name) {
+        Metric metric = metrics.get(name);
+        if (metric != null) return metric;
+        Metric created = new Metric();
+        metric = metrics.putIfAbsent(name, created);
+        return metric == null ? created : metric;
+    }
+
+    private Cache cache(String name) {
+        Cache cache = caches.get(name);
+        if (cache != null) return cache;
+        Cache created = new Cache();
+        cache = caches.putIfAbsent(name, created);
+        return cache == null ? created : cache;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    private static final class Metric {
+
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong errors = new AtomicLong();
+        private final AtomicLong empty = new AtomicLong();
+        private final AtomicLong nanos = new AtomicLong();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final AtomicLong size = new AtomicLong();
+        private final AtomicLongArray buckets = new AtomicLongArray(BOUNDS.length + 1);
+
+        void record(long elapsed, long bytes, boolean error) {
+            count.incrementAndGet();
+            nanos.addAndGet(elapsed);
+            if (error) errors.incrementAndGet();
+            else if (bytes <= 0) empty.incrementAndGet();
+            else size.addAndGet(bytes);
+            long max = maxNanos.get();
+            while (elapsed > max && !maxNanos.compareAndSet(max, elapsed)) max = maxNanos.get();
+            buckets.incrementAndGet(bucket(elapsed / 1_000_000));
+        }
+
+        private static int bucket(long millis) {
+            for (int i = 0; i < BOUNDS.length; i++) if (millis < BOUNDS[i]) return i;
+            return BOUNDS.length;
+        }
+
+        JsonObject toJson() {
+            long n = count.get();
+            long[] counts = new long[buckets.length()];
+            for (int i = 0; i < counts.length; i++) counts[i] = buckets.get(i);
+            JsonObject object = new JsonObject();
+            object.addProperty("count", n);
+            object.addProperty("errors", errors.get());
+            object.addProperty("empty", empty.get());
+            object.addProperty("avgMs", n == 0 ? 0 : round(nanos.get() / 1e6 / n));
+            object.addProperty("maxMs", round(maxNanos.get() / 1e6));
+            object.addProperty("p50Ms", percentile(counts, 0.5));
+            object.addProperty("p90Ms", percentile(counts, 0.9));
+            object.addProperty("p99Ms", percentile(counts, 0.99));
+            long ok = n - errors.get() - empty.get();
+            object.addProperty("avgSize", ok <= 0 ? 0 : size.get() / ok);
+            JsonArray histogram = new JsonArray();
+            for (long value : counts) histogram.add(value);
+            object.add("histogram", histogram);
+            return object;
+        }
+
+        /**
+         * 所在桶的上界，落在最后一个桶时为 -1（超过 10s）
+         */
+        private static long percentile(long[] counts, double p) {
+            long total = 0;
+            for (long value : counts) total += value;
+            if (total == 0) return 0;
+            long target = (long) Math.ceil(total * p);
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= target) return i < BOUNDS.length ? BOUNDS[i] : -1;
+            }
+            return -1;
+        }
+    }
+
+    private static final class Cache {
+
+        private final AtomicLong hits = new AtomicLong();
+        private final AtomicLong misses = new AtomicLong();
+
+        JsonObject toJson() {
+            long hit = hits.get();
+            long total = hit + misses.get();
+            JsonObject object = new JsonObject();
+            object.addProperty("hits", hit);
+            object.addProperty("misses", total - hit);
+            object.addProperty("hitRate", total == 0 ? 0 : round((double) hit / total));
+            return object;
+        }
+    }
+}
@@ -1,9 +1,8 @@
 package com.github.catvod.js.utils;
 
-import android.text.TextUtils;
-
 import com.github.catvod.js.bean.Cache;
 import com.github.catvod.js.bean.Info;
+import com.github.catvod.platform.TextUtils;
 import com.github.catvod.utils.UriUtil;
 
 import org.jsoup.nodes.Document;
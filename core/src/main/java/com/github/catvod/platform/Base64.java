@@ -0,0 +1,38 @@
+package com.github.catvod.platform;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Base64 编解码（平台无关）
+ * <p>
+ * 常量和方法签名与 android.util.Base64 相同，迁移时只需替换 import。
+ * minSdk 21 上没有 {@link java.util.Base64}，因此通过 {@link Platform} 转发。
+ * </p>
+ */
+public final class Base64 {
+
+    public static final int DEFAULT = 0;
+    public static final int NO_PADDING = 1;
+    public static final int NO_WRAP = 2;
+    public static final int CRLF = 4;
+    public static final int URL_SAFE = 8;
+
+    private Base64() {
+    }
+
+    public static byte[] decode(String str, int flags) {
+        return decode(str.getBytes(StandardCharsets.US_ASCII), flags);
+    }
+
+    public static byte[] decode(byte[] input, int flags) {
+        return Platform.get().decodeBase64(input, flags);
+    }
+
+    public static byte[] encode(byte[] input, int flags) {
+        return Platform.get().encodeBase64(input, flags);
+    }
+
+    public static String encodeToString(byte[] input, int flags) {
+        return new String(encode(input, flags), StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,79 @@
+package com.github.catvod.platform;
+
+import java.io.PrintStream;
+
+/**
+ * 普通 JVM 上的平台实现
+ * <p>
+ * 日志输出到标准错误，格式为 {@code D/tag: msg}；Base64 使用 {@link java.util.Base64}，
+ * 编码结果与 android.util.Base64 保持一致（默认每 76 字符换行并以换行结尾）。
+ * </p>
+ */
+public class JvmPlatform extends Platform {
+
+    private static final String LEVELS = "??VDIWEA";
+
+    private final PrintStream out;
+    private final int minPriority;
+
+    public JvmPlatform() {
+        this(System.err, Log.DEBUG);
+    }
+
+    public JvmPlatform(PrintStream out, int minPriority) {
+        this.out = out;
+        this.minPriority = minPriority;
+    }
+
+    @Override
+    public void log(int priority, String tag, String msg, Throwable tr) {
+        if (priority < minPriority) return;
+        char level = priority >= 0 && priority < LEVELS.length() ? LEVELS.charAt(priority) : '?';
+        synchronized (out) {
+            out.println(level + "/" + tag + ": " + msg);
+            if (tr != null) tr.printStackTrace(out);
+        }
+    }
+
+    @Override
+    public boolean isLoggable(int priority, String tag) {
+        return priority >= minPriority;
+    }
+
+    @Override
+    public byte[] encodeBase64(byte[] input, int flags) {
+        boolean urlSafe = (flags & Base64.URL_SAFE) != 0;
+        java.util.Base64.Encoder encoder = urlSafe ? java.util.Base64.getUrlEncoder() : java.util.Base64.getEncoder();
+        if ((flags & Base64.NO_PADDING) != 0) encoder = encoder.withoutPadding();
+        byte[] output = encoder.encode(input);
+        if ((flags & Base64.NO_WRAP) != 0 || output.length == 0) return output;
+        return wrap(output, (flags & Base64.CRLF) != 0);
+    }
+
+    @Override
+    public byte[] decodeBase64(byte[] input, int flags) {
+        // 与 Android 一致：忽略换行等空白字符，兼容缺少填充
+        byte[] clean = new byte[input.length];
+        int length = 0;
+        for (byte b : input) if (b != '\n' && b != '\r' && b != ' ' && b != '\t') clean[length++] = b;
+        byte[] data = new byte[length];
+        System.arraycopy(clean, 0, data, 0, length);
+        return ((flags & Base64.URL_SAFE) != 0 ? java.util.Base64.getUrlDecoder() : java.util.Base64.getDecoder()).decode(data);
+    }
+
+    private static byte[] wrap(byte[] output, boolean crlf) {
+        int lineLength = 76;
+        int separator = crlf ? 2 : 1;
+        int lines = (output.length + lineLength - 1) / lineLength;
+        byte[] wrapped = new byte[output.length + lines * separator];
+        int pos = 0;
+        for (int i = 0; i < output.length; i += lineLength) {
+            int count = Math.min(lineLength, output.length - i);
+            System.arraycopy(output, i, wrapped, pos, count);
+            pos += count;
+            if (crlf) wrapped[pos++] = '\r';
+            wrapped[pos++] = '\n';
+        }
+        return wrapped;
+    }
+}
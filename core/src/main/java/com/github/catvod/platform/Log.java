@@ -0,0 +1,55 @@
+package com.github.catvod.platform;
+
+/**
+ * 日志（平台无关）
+ * <p>
+ * 用法与 android.util.Log 相同，实际输出由 {@link Platform} 决定：
+ * Android 上写入 logcat，JVM 上写入标准错误。
+ * </p>
+ */
+public final class Log {
+
+    public static final int VERBOSE = 2;
+    public static final int DEBUG = 3;
+    public static final int INFO = 4;
+    public static final int WARN = 5;
+    public static final int ERROR = 6;
+
+    private Log() {
+    }
+
+    /**
+     * @see Platform#isLoggable(int, String)
+     */
+    public static boolean isLoggable(String tag, int level) {
+        return Platform.get().isLoggable(level, tag);
+    }
+
+    public static void v(String tag, String msg) {
+        Platform.get().log(VERBOSE, tag, msg, null);
+    }
+
+    public static void d(String tag, String msg) {
+        Platform.get().log(DEBUG, tag, msg, null);
+    }
+
+    public static void i(String tag, String msg) {
+        Platform.get().log(INFO, tag, msg, null);
+    }
+
+    public static void w(String tag, String msg) {
+        Platform.get().log(WARN, tag, msg, null);
+    }
+
+    public static void w(String tag, String msg, Throwable tr) {
+        Platform.get().log(WARN, tag, msg, tr);
+    }
+
+    public static void e(String tag, String msg) {
+        Platform.get().log(ERROR, tag, msg, null);
+    }
+
+    public static void e(String tag, String msg, Throwable tr) {
+        Platform.get().log(ERROR, tag, msg, tr);
+    }
+}
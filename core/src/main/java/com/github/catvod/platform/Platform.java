@@ -0,0 +1,90 @@
+package com.github.catvod.platform;
+
+/**
+ * 平台适配层
+ * <p>
+ * core 模块不依赖 Android SDK，需要平台能力（日志、Base64）的地方统一通过本类转发：
+ * <ul>
+ *   <li>Android 上使用 app 模块的 {@code com.github.catvod.spider.AndroidPlatform}，由 {@code Init.init} 安装</li>
+ *   <li>普通 JVM（服务器、JMH、单元测试）上使用 {@link JvmPlatform}</li>
+ * </ul>
+ * 文本和 URI 编码是纯 Java 实现，见 {@link TextUtils} 和 {@link Uri}。
+ * </p>
+ *
+ * @see Log
+ * @see Base64
+ */
+public abstract class Platform {
+
+    private static class Loader {
+        static volatile Platform INSTANCE = detect();
+    }
+
+    public static Platform get() {
+        return Loader.INSTANCE;
+    }
+
+    /**
+     * 替换平台实现（宿主或测试自定义日志输出时使用）
+     *
+     * @param platform 平台实现
+     */
+    public static void set(Platform platform) {
+        Loader.INSTANCE = platform;
+    }
+
+    private static Platform detect() {
+        // ART/Dalvik 的 java.vm.name 均为 Dalvik；普通 JVM 上即使 classpath 中有 app 的类也不使用 Android 实现
+        if (!"Dalvik".equals(System.getProperty("java.vm.name"))) return new JvmPlatform();
+        // Init.init 之前的调用按类名查找 Android 实现；找不到时不能在类初始化中抛出异常，否则之后所有日志和 Base64 调用都会失败。
+        // 退回的 JvmPlatform 不输出日志（System.err 在 logcat 中看不到），Base64 在 API 26 以下不可用
+        try {
+            return (Platform) Class.forName("com.github.catvod.spider.AndroidPlatform").getDeclaredConstructor().newInstance();
+        } catch (Throwable e) {
+            return new JvmPlatform(System.err, Integer.MAX_VALUE);
+        }
+    }
+
+    /**
+     * 输出日志
+     *
+     * @param priority 日志级别，取值同 {@link Log#VERBOSE} ~ {@link Log#ERROR}
+     * @param tag      标签
+     * @param msg      消息
+     * @param tr       异常，可为 null
+     */
+    public abstract void log(int priority, String tag, String msg, Throwable tr);
+
+    /**
+     * 指定级别的日志是否会输出
+     * <p>
+     * 调用方据此跳过拼接、脱敏等只为日志服务的开销。默认全部输出。
+     * </p>
+     *
+     * @param priority 日志级别
+     * @param tag      标签
+     * @return 是否输出
+     */
+    public boolean isLoggable(int priority, String tag) {
+        return true;
+    }
+
+    /**
+     * Base64 编码
+     *
+     * @param input 原始字节
+     * @param flags 编码选项，取值同 {@link Base64#DEFAULT} 等
+     * @return 编码后的 ASCII 字节
+     */
+    public abstract byte[] encodeBase64(byte[] input, int flags);
+
+    /**
+     * Base64 解码
+     *
+     * @param input 编码后的 ASCII 字节
+     * @param flags 解码选项
+     * @return 原始字节
+     * @throws IllegalArgumentException 输入不是合法的 Base64
+     */
+    public abstract byte[] decodeBase64(byte[] input, int flags);
+}
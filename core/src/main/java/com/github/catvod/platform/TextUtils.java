@@ -0,0 +1,44 @@
+package com.github.catvod.platform;
+
+import java.util.Iterator;
+
+/**
+ * 文本工具（平台无关）
+ * <p>
+ * 与 android.text.TextUtils 中常用方法行为一致的纯 Java 实现。
+ * </p>
+ */
+public final class TextUtils {
+
+    private TextUtils() {
+    }
+
+    public static boolean isEmpty(CharSequence str) {
+        return str == null || str.length() == 0;
+    }
+
+    public static boolean equals(CharSequence a, CharSequence b) {
+        if (a == b) return true;
+        if (a == null || b == null) return false;
+        return a.toString().contentEquals(b);
+    }
+
+    public static String join(CharSequence delimiter, Object[] tokens) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < tokens.length; i++) {
+            if (i > 0) sb.append(delimiter);
+            sb.append(tokens[i]);
+        }
+        return sb.toString();
+    }
+
+    public static String join(CharSequence delimiter, Iterable<?> tokens) {
+        StringBuilder sb = new StringBuilder();
+        Iterator<?> it = tokens.iterator();
+        while (it.hasNext()) {
+            sb.append(it.next());
+            if (it.hasNext()) sb.append(delimiter);
+        }
+        return sb.toString();
+    }
+}
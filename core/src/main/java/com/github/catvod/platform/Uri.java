@@ -0,0 +1,115 @@
+package com.github.catvod.platform;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * URI 编解码和路径提取（平台无关）
+ * <p>
+ * {@link #encode(String)} / {@link #decode(String)} 与 android.net.Uri 的同名方法行为一致：
+ * 保留 {@code A-Z a-z 0-9 _-!.~'()*}，空格编码为 {@code %20}，解码时不把 {@code +} 当作空格。
+ * </p>
+ */
+public final class Uri {
+
+    private static final String HEX = "0123456789ABCDEF";
+    private static final String UNRESERVED = "_-!.~'()*";
+
+    private Uri() {
+    }
+
+    public static String encode(String s) {
+        return encode(s, null);
+    }
+
+    /**
+     * 编码字符串
+     *
+     * @param s     原始字符串
+     * @param allow 额外不编码的字符，如 {@code "/"}
+     * @return 编码后的字符串，s 为 null 时返回 null
+     */
+    public static String encode(String s, String allow) {
+        if (s == null) return null;
+        StringBuilder sb = null;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (isAllowed(c, allow)) {
+                if (sb != null) sb.append(c);
+                continue;
+            }
+            if (sb == null) sb = new StringBuilder(s.length() + 16).append(s, 0, i);
+            int end = i + 1;
+            if (Character.isHighSurrogate(c) && end < s.length()) end++;
+            for (byte b : s.substring(i, end).getBytes(StandardCharsets.UTF_8)) {
+                sb.append('%').append(HEX.charAt((b >> 4) & 0xF)).append(HEX.charAt(b & 0xF));
+            }
+            i = end - 1;
+        }
+        return sb == null ? s : sb.toString();
+    }
+
+    public static String decode(String s) {
+        if (s == null || s.indexOf('%') < 0) return s;
+        StringBuilder sb = new StringBuilder(s.length());
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            int hi = c == '%' && i + 2 < s.length() ? Character.digit(s.charAt(i + 1), 16) : -1;
+            int lo = hi >= 0 ? Character.digit(s.charAt(i + 2), 16) : -1;
+            if (lo >= 0) {
+                bytes.write((hi << 4) | lo);
+                i += 2;
+                continue;
+            }
+            flush(bytes, sb);
+            sb.append(c);
+        }
+        flush(bytes, sb);
+        return sb.toString();
+    }
+
+    /**
+     * 获取 URL 的路径部分（不含查询参数和片段）
+     *
+     * @param url 完整 URL，如 {@code http://host:5244/dav/movies?x=1}
+     * @return 解码后的路径，如 {@code /dav/movies}；没有路径时返回空字符串
+     */
+    public static String getPath(String url) {
+        if (url == null) return "";
+        int start = url.indexOf("://");
+        start = start < 0 ? 0 : url.indexOf('/', start + 3);
+        if (start < 0) return "";
+        int end = url.length();
+        int query = url.indexOf('?', start);
+        int fragment = url.indexOf('#', start);
+        if (query >= 0) end = query;
+        if (fragment >= 0 && fragment < end) end = fragment;
+        return decode(url.substring(start, end));
+    }
+
+    /**
+     * 获取 URL 路径的最后一段
+     *
+     * @param url 完整 URL
+     * @return 最后一段（忽略末尾的 /），没有时返回 null（与 android.net.Uri 一致）
+     */
+    public static String getLastPathSegment(String url) {
+        String path = getPath(url);
+        int end = path.length();
+        while (end > 0 && path.charAt(end - 1) == '/') end--;
+        if (end == 0) return null;
+        return path.substring(path.lastIndexOf('/', end - 1) + 1, end);
+    }
+
+    private static boolean isAllowed(char c, String allow) {
+        if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) return true;
+        return UNRESERVED.indexOf(c) >= 0 || (allow != null && allow.indexOf(c) >= 0);
+    }
+
+    private static void flush(ByteArrayOutputStream bytes, StringBuilder sb) {
+        if (bytes.size() == 0) return;
+        sb.append(new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+        bytes.reset();
+    }
+}
@@ -1,8 +1,7 @@
 package com.github.catvod.utils;
 
-import android.util.Base64;
-
-import com.orhanobut.logger.Logger;
+import com.github.catvod.platform.Base64;
+import com.github.catvod.platform.Log;
 
 import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
@@ -21,6 +20,8 @@ import javax.crypto.spec.SecretKeySpec;
 
 public class Crypto {
 
+    private static final String TAG = Crypto.class.getSimpleName();
+
     public static String md5(String src) {
         return md5(src, "UTF-8");
     }
@@ -34,7 +35,7 @@ public class Crypto {
             while (sb.length() < 32) sb.insert(0, "0");
             return sb.toString().toLowerCase();
         } catch (Exception e) {
-            Logger.e("MD5 calculation failed", e);
+            Log.e(TAG, "MD5 calculation failed", e);
             return "";
         }
     }
@@ -43,13 +44,13 @@ public class Crypto {
         try {
             src = src.replace("\\", "");
             Cipher cipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
-            SecretKeySpec keySpec = new SecretKeySpec(KEY.getBytes(), "AES");
-            AlgorithmParameterSpec paramSpec = new IvParameterSpec(IV.getBytes());
+            SecretKeySpec keySpec = new SecretKeySpec(KEY.getBytes(StandardCharsets.UTF_8), "AES");
+            AlgorithmParameterSpec paramSpec = new IvParameterSpec(IV.getBytes(StandardCharsets.UTF_8));
             cipher.init(Cipher.DECRYPT_MODE, keySpec, paramSpec);
             byte[] decrypted = cipher.doFinal(Base64.decode(src, Base64.DEFAULT));
-            return new String(decrypted);
+            return new String(decrypted, StandardCharsets.UTF_8);
         } catch (Exception e) {
-            Logger.e("AES CBC decryption failed", e);
+            Log.e(TAG, "AES CBC decryption failed", e);
             return "";
         }
     }
@@ -0,0 +1,66 @@
+package com.github.catvod.utils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 字符串去重池
+ * <p>
+ * JSON 解析出的每个字符串都是新对象，同一批数据里重复的分类名、图标、备注会各占一份内存。
+ * 通过本类得到的相同内容字符串共用同一个对象。
+ * </p>
+ * <p>
+ * 与 {@link String#intern()} 不同，池的生命周期随实例结束，不会进入全局常量池；
+ * 条目数达到上限后不再收录新值，避免高基数字段把池撑大。非线程安全。
+ * </p>
+ *
+ * <h3>使用示例：</h3>
+ * <pre>
+ * // VodList 中每个实例一个池，封面常量预先收录
+ * Interner interner = new Interner().add(Image.FOLDER, Image.VIDEO, Image.PUSH);
+ * columns[i][index] = INTERN[i] ? interner.intern(value) : value;
+ * </pre>
+ */
+public class Interner {
+
+    private final Map<String, String> pool;
+    private final int limit;
+
+    public Interner() {
+        this(1024);
+    }
+
+    /**
+     * @param limit 最多收录的字符串数量
+     */
+    public Interner(int limit) {
+        this.pool = new HashMap<>();
+        this.limit = limit;
+    }
+
+    /**
+     * 预先收录常量（如 {@link Image#FOLDER}），之后内容相同的字符串都返回该常量
+     *
+     * @return 当前对象
+     */
+    public Interner add(String... values) {
+        for (String value : values) pool.put(value, value);
+        return this;
+    }
+
+    /**
+     * @param value 字符串，可为 null
+     * @return 池中内容相同的字符串；池中没有时收录并返回 value
+     */
+    public String intern(String value) {
+        if (value == null) return null;
+        String cached = pool.get(value);
+        if (cached != null) return cached;
+        if (pool.size() < limit) pool.put(value, value);
+        return value;
+    }
+
+    public int size() {
+        return pool.size();
+    }
+}
@@ -1,12 +1,17 @@
 package com.github.catvod.utils;
 
-import android.text.TextUtils;
-
+import com.github.catvod.bean.BeanAdapters;
+import com.github.catvod.platform.Log;
+import com.github.catvod.platform.TextUtils;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
-import com.orhanobut.logger.Logger;
+import com.google.gson.stream.JsonReader;
+
+import java.io.StringReader;
 
 /**
  * JSON 解析工具类
@@ -42,6 +47,30 @@ import com.orhanobut.logger.Logger;
  */
 public class Json {
 
+    private static final String TAG = Json.class.getSimpleName();
+
+    private static class Loader {
+        static volatile Gson INSTANCE = new GsonBuilder().disableHtmlEscaping().registerTypeAdapterFactory(new BeanAdapters()).create();
+    }
+
+    /**
+     * 共享的 Gson 实例
+     * <p>
+     * Gson 线程安全，且每个实例各自缓存反射生成的 TypeAdapter，
+     * 每次 {@code new Gson()} 都要重新构建这份缓存。请统一使用此实例。
+     * 通用数据对象（Vod、Result、Class、Filter、Sub、Danmaku）注册了手写的 TypeAdapter，
+     * 其余类型由 Gson 反射生成后缓存复用。
+     * </p>
+     * <p>
+     * 注意：已禁用 HTML 转义，{@code <}、{@code >}、{@code =} 等字符原样输出。
+     * </p>
+     *
+     * @return Gson 实例
+     */
+    public static Gson gson() {
+        return Loader.INSTANCE;
+    }
+
     /**
      * 解析 JSON 字符串为 JsonElement
      * <p>
@@ -113,6 +142,67 @@ public class Json {
         }
     }
 
+    /**
+     * 流式提取多个路径的值
+     * <p>
+     * 只读一遍 JSON：不在任何路径上的子树直接跳过，只为命中的值构建 {@link JsonElement}；
+     * 不含 {@code []} 的路径都取到值后立即停止读取，文档后面的部分不再解析。
+     * 适合只需要大响应中一两个字段的场景，比 {@link #parse(String)} 后逐层获取少建整棵树。
+     * </p>
+     * <p>
+     * 此方法不会抛出异常：路径不存在时对应位置为 null（JSON 中的 null 为 {@link com.google.gson.JsonNull}），
+     * 解析出错时保留出错前已取到的值。含 {@code []} 的路径返回所有匹配值组成的 {@link JsonArray}。
+     * </p>
+     *
+     * @param json  JSON 字符串
+     * @param paths 预编译的路径，最多 64 个
+     * @return 与 paths 一一对应的值
+     *
+     * <h4>使用示例：</h4>
+     * <pre>
+     * private static final JsonPath IS_LOGIN = JsonPath.compile("data.isLogin");
+     * private static final JsonPath WBI = JsonPath.compile("data.wbi_img");
+     *
+     * JsonElement[] values = Json.extract(json, IS_LOGIN, WBI);
+     * boolean login = Json.safeGetBoolean(values[0], false);
+     * </pre>
+     */
+    public static JsonElement[] extract(String json, JsonPath... paths) {
+        if (paths.length > 64) throw new IllegalArgumentException("Too many paths: " + paths.length);
+        JsonElement[] values = new JsonElement[paths.length];
+        if (TextUtils.isEmpty(json) || paths.length == 0) return values;
+        try {
+            new JsonValidator.Walker(paths, new Extractor(paths, values), false, null).read(gson().newJsonReader(new StringReader(json)));
+        } catch (Exception e) {
+            Log.w(TAG, "Failed to extract json paths", e);
+        }
+        return values;
+    }
+
+    /**
+     * 安全获取字符串
+     *
+     * @param element      JsonElement，通常来自 {@link #extract(String, JsonPath...)}
+     * @param defaultValue 默认值
+     * @return 字符串值，为 null 或不是基本类型时返回默认值
+     */
+    public static String safeGetString(JsonElement element, String defaultValue) {
+        if (element == null || !element.isJsonPrimitive()) return defaultValue;
+        return element.getAsString();
+    }
+
+    /**
+     * 安全获取布尔值
+     *
+     * @param element      JsonElement，通常来自 {@link #extract(String, JsonPath...)}
+     * @param defaultValue 默认值
+     * @return 布尔值，为 null 或不是基本类型时返回默认值
+     */
+    public static boolean safeGetBoolean(JsonElement element, boolean defaultValue) {
+        if (element == null || !element.isJsonPrimitive()) return defaultValue;
+        return element.getAsBoolean();
+    }
+
     /**
      * 安全分割字符串
      * <p>
@@ -155,7 +245,7 @@ public class Json {
             }
             return value.split(delimiter);
         } catch (Exception e) {
-            Logger.w("Failed to split string for key: " + key, e);
+            Log.w(TAG, "Failed to split string for key: " + key, e);
             return defaults.length > 0 ? defaults : new String[]{};
         }
     }
@@ -188,7 +278,7 @@ public class Json {
         try {
             return obj.get(key).getAsString();
         } catch (Exception e) {
-            Logger.w("Failed to get string for key: " + key, e);
+            Log.w(TAG, "Failed to get string for key: " + key, e);
             return defaultValue;
         }
     }
@@ -213,7 +303,7 @@ public class Json {
         try {
             return obj.get(key).getAsInt();
         } catch (Exception e) {
-            Logger.w("Failed to get int for key: " + key, e);
+            Log.w(TAG, "Failed to get int for key: " + key, e);
             return defaultValue;
         }
     }
@@ -246,7 +336,7 @@ public class Json {
         try {
             return obj.get(key).getAsJsonObject();
         } catch (Exception e) {
-            Logger.w("Failed to get JsonObject for key: " + key, e);
+            Log.w(TAG, "Failed to get JsonObject for key: " + key, e);
             return new JsonObject();
         }
     }
@@ -281,8 +371,37 @@ public class Json {
         try {
             return obj.get(key).getAsJsonArray();
         } catch (Exception e) {
-            Logger.w("Failed to get JsonArray for key: " + key, e);
+            Log.w(TAG, "Failed to get JsonArray for key: " + key, e);
             return new JsonArray();
         }
     }
+
+    /**
+     * {@link #extract(String, JsonPath...)} 的取值回调：单值路径保留第一个值，多值路径收集为 {@link JsonArray}
+     */
+    private static final class Extractor implements JsonValidator.Visitor {
+
+        private final JsonPath[] paths;
+        private final JsonElement[] values;
+
+        Extractor(JsonPath[] paths, JsonElement[] values) {
+            this.paths = paths;
+            this.values = values;
+        }
+
+        @Override
+        public void visit(int p, JsonReader in) {
+            visit(p, JsonParser.parseReader(in));
+        }
+
+        @Override
+        public void visit(int p, JsonElement element) {
+            if (paths[p].isMulti()) {
+                if (values[p] == null) values[p] = new JsonArray();
+                values[p].getAsJsonArray().add(element);
+            } else if (values[p] == null) {
+                values[p] = element;
+            }
+        }
+    }
 }
@@ -0,0 +1,127 @@
+package com.github.catvod.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 预编译的 JSON 路径
+ * <p>
+ * 支持的语法：
+ * <ul>
+ *   <li>{@code data.content} - 对象字段，以 . 分隔</li>
+ *   <li>{@code data.files[0]} - 数组下标</li>
+ *   <li>{@code data.content[]} - 数组的每个元素</li>
+ *   <li>空字符串 - 根节点</li>
+ * </ul>
+ * 字段名中不能包含 {@code .} 和 {@code [}。编译结果不可变，可作为常量复用。
+ * </p>
+ *
+ * <h3>使用示例：</h3>
+ * <pre>
+ * private static final JsonPath CONTENT = JsonPath.compile("data.content[]");
+ * </pre>
+ *
+ * @see JsonValidator#bindList(String, String, java.lang.Class, int...)
+ */
+public final class JsonPath {
+
+    /**
+     * 对象字段
+     */
+    static final int KEY = -1;
+
+    /**
+     * 数组的每个元素
+     */
+    static final int EACH = -2;
+
+    private final String path;
+    private final String[] names;
+    private final int[] indexes;
+
+    private JsonPath(String path, String[] names, int[] indexes) {
+        this.path = path;
+        this.names = names;
+        this.indexes = indexes;
+    }
+
+    /**
+     * 编译路径
+     *
+     * @param path 路径表达式
+     * @return 编译后的路径
+     * @throws IllegalArgumentException 语法错误
+     */
+    public static JsonPath compile(String path) {
+        List<String> names = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+        int i = 0;
+        int length = path.length();
+        while (i < length) {
+            char c = path.charAt(i);
+            if (c == '[') {
+                int end = path.indexOf(']', i);
+                if (end < 0) throw new IllegalArgumentException("Unclosed '[' in path: " + path);
+                String index = path.substring(i + 1, end);
+                names.add(null);
+                indexes.add(index.isEmpty() ? EACH : parseIndex(index, path));
+                i = end + 1;
+            } else if (c == '.') {
+                if (i == 0 || i + 1 == length || path.charAt(i + 1) == '.') throw new IllegalArgumentException("Empty segment in path: " + path);
+                i++;
+            } else {
+                int end = i;
+                while (end < length && path.charAt(end) != '.' && path.charAt(end) != '[') end++;
+                names.add(path.substring(i, end));
+                indexes.add(KEY);
+                i = end;
+            }
+        }
+        int[] array = new int[indexes.size()];
+        for (int j = 0; j < array.length; j++) array[j] = indexes.get(j);
+        return new JsonPath(path, names.toArray(new String[0]), array);
+    }
+
+    private static int parseIndex(String index, String path) {
+        try {
+            int value = Integer.parseInt(index.trim());
+            if (value >= 0) return value;
+        } catch (NumberFormatException ignored) {
+        }
+        throw new IllegalArgumentException("Invalid index '" + index + "' in path: " + path);
+    }
+
+    /**
+     * 段数，根节点为 0
+     */
+    public int length() {
+        return indexes.length;
+    }
+
+    /**
+     * 第 i 段的字段名，数组段返回 null
+     */
+    String name(int i) {
+        return names[i];
+    }
+
+    /**
+     * 第 i 段的类型：{@link #KEY}、{@link #EACH} 或数组下标
+     */
+    int index(int i) {
+        return indexes[i];
+    }
+
+    /**
+     * 是否匹配多个值（含 {@code []}）
+     */
+    public boolean isMulti() {
+        for (int index : indexes) if (index == EACH) return true;
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return path;
+    }
+}
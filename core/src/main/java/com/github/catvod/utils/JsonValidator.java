@@ -0,0 +1,492 @@
+package com.github.catvod.utils;
+
+import com.github.catvod.platform.Log;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JSON 验证工具类
+ * <p>
+ * 用于安全地验证和解析来自不可信源的 JSON 数据，防止：
+ * <ul>
+ *   <li>JSON 注入攻击</li>
+ *   <li>DoS 攻击（超大 JSON、深度嵌套）</li>
+ *   <li>类型混淆漏洞</li>
+ *   <li>NullPointerException</li>
+ * </ul>
+ * </p>
+ * <p>
+ * 深度限制在解析过程中由 {@link JsonReader#setNestingLimit(int)} 检查，不再额外遍历整棵树。
+ * {@link #bind(String, String, Type, int...)} 和 {@link #bindList(String, String, java.lang.Class, int...)}
+ * 在同一次流式读取中完成验证、按路径定位和绑定到实体类，不构建 {@link JsonElement} 树，
+ * 也不需要先转回字符串再解析一遍。
+ * </p>
+ *
+ * <h3>使用示例：</h3>
+ * <pre>
+ * // {"code":200,"message":"success","data":{"content":[...],"total":3}}
+ * List&lt;Item&gt; items = JsonValidator.bindList(response, "data.content[]", Item.class, 200);
+ * String token = JsonValidator.bind(response, "data.token", String.class, 200);
+ * </pre>
+ *
+ * @author CatVod
+ * @version 1.0
+ */
+public class JsonValidator {
+
+    private static final String TAG = JsonValidator.class.getSimpleName();
+
+    /**
+     * 最大 JSON 大小（10MB）
+     */
+    private static final int MAX_JSON_SIZE = 10 * 1024 * 1024;
+
+    /**
+     * 最大嵌套深度
+     */
+    private static final int MAX_DEPTH = 20;
+
+    /**
+     * 验证并解析 JSON 字符串
+     *
+     * @param json JSON字符串
+     * @param expectedType 期望的数据类型 ("object" 或 "array"，数组会包装为 {"list": [...]})
+     * @param codes 表示成功的 code 值，默认为 0；响应中没有 code 字段时不检查
+     * @return JsonObject 实例
+     * @throws ValidationException 验证失败时抛出
+     */
+    public static JsonObject validateResponse(String json, String expectedType, int... codes) throws ValidationException {
+        checkSize(json);
+
+        JsonObject root;
+        try {
+            JsonReader reader = newReader(json);
+            JsonElement element = JsonParser.parseReader(reader);
+            if (reader.peek() != JsonToken.END_DOCUMENT) throw new ValidationException("Invalid JSON syntax: trailing data");
+            if (element != null && element.isJsonArray() && "array".equals(expectedType)) {
+                // 数组响应包装为 {"list": [...]}，便于统一按对象处理
+                root = new JsonObject();
+                root.add("list", element);
+            } else if (element == null || !element.isJsonObject()) {
+                throw new ValidationException("Expected JSON object, got: " +
+                        (element == null ? "null" : element.getClass().getSimpleName()));
+            } else {
+                root = element.getAsJsonObject();
+            }
+        } catch (IOException | JsonParseException e) {
+            throw invalid(e);
+        }
+
+        checkCode(safeGetString(root, "code", null), safeGetString(root, "message", null), codes);
+
+        return root;
+    }
+
+    /**
+     * 验证响应并把路径指向的值绑定为实体类
+     * <p>
+     * 只读取一遍 JSON：路径以外的子树直接跳过，根对象的 code 与 message 在同一遍中读取；
+     * 目标已绑定且 code 已检查后立即停止。
+     * </p>
+     *
+     * @param json  JSON字符串
+     * @param path  {@link JsonPath} 语法的路径，如 {@code data}、{@code data.files[0]}
+     * @param type  目标类型
+     * @param codes 表示成功的 code 值，默认为 0
+     * @return 绑定结果，路径不存在时返回 null
+     * @throws ValidationException 验证失败时抛出
+     */
+    public static <T> T bind(String json, String path, Type type, int... codes) throws ValidationException {
+        JsonPath compiled = JsonPath.compile(path);
+        if (compiled.isMulti()) throw new IllegalArgumentException("Use bindList for path: " + path);
+        TypeAdapter<T> adapter = adapter(type);
+        List<T> result = new ArrayList<>(1);
+        walk(json, compiled, new Binder<>(adapter, result), codes);
+        return result.isEmpty() ? null : result.get(0);
+    }
+
+    /**
+     * 验证响应并把路径指向的数组元素逐个绑定为实体类
+     *
+     * @param json  JSON字符串
+     * @param path  {@link JsonPath} 语法的路径，如 {@code data.content[]}；不含 {@code []} 时在结尾补上
+     * @param type  元素类型
+     * @param codes 表示成功的 code 值，默认为 0
+     * @return 绑定结果，路径不存在或为 null 时返回空列表
+     * @throws ValidationException 验证失败时抛出
+     */
+    public static <T> List<T> bindList(String json, String path, java.lang.Class<T> type, int... codes) throws ValidationException {
+        JsonPath compiled = JsonPath.compile(path);
+        if (!compiled.isMulti()) compiled = JsonPath.compile(path + "[]");
+        TypeAdapter<T> adapter = adapter(type);
+        List<T> result = new ArrayList<>();
+        walk(json, compiled, new Binder<>(adapter, result), codes);
+        return result;
+    }
+
+    private static <T> TypeAdapter<T> adapter(Type type) {
+        @SuppressWarnings("unchecked")
+        TypeAdapter<T> adapter = (TypeAdapter<T>) Json.gson().getAdapter(TypeToken.get(type));
+        return adapter;
+    }
+
+    private static void walk(String json, JsonPath path, Visitor visitor, int[] codes) throws ValidationException {
+        checkSize(json);
+        Walker walker = new Walker(new JsonPath[]{path}, visitor, true, codes);
+        try {
+            walker.read(newReader(json));
+        } catch (IOException | JsonParseException | IllegalStateException | NumberFormatException e) {
+            throw invalid(e);
+        }
+        checkCode(walker.code, walker.message, codes);
+    }
+
+    /**
+     * 路径命中时的回调
+     */
+    interface Visitor {
+
+        /**
+         * reader 位于第 p 个路径的目标值之前，回调需完整读取该值
+         */
+        void visit(int p, JsonReader in) throws IOException;
+
+        /**
+         * 多个路径在同一节点结束或互为前缀时，该节点已构建为树，在树上取到第 p 个路径的值
+         */
+        void visit(int p, JsonElement element);
+    }
+
+    /**
+     * 绑定为实体类，null 值跳过
+     */
+    private static final class Binder<T> implements Visitor {
+
+        private final TypeAdapter<T> adapter;
+        private final List<T> result;
+
+        Binder(TypeAdapter<T> adapter, List<T> result) {
+            this.adapter = adapter;
+            this.result = result;
+        }
+
+        @Override
+        public void visit(int p, JsonReader in) throws IOException {
+            add(adapter.read(in));
+        }
+
+        @Override
+        public void visit(int p, JsonElement element) {
+            add(adapter.fromJsonTree(element));
+        }
+
+        private void add(T item) {
+            if (item != null) result.add(item);
+        }
+    }
+
+    /**
+     * 按路径流式读取 JSON，{@link #bind}、{@link #bindList} 和 {@link Json#extract(String, JsonPath...)} 共用
+     * <p>
+     * 用位掩码记录每层仍在匹配的路径，不在任何路径上的子树直接跳过；
+     * 单值路径都已取到（且根对象的 code 已确认）后立即停止，文档后面的部分不再解析。
+     * </p>
+     */
+    static final class Walker {
+
+        private final JsonPath[] paths;
+        private final Visitor visitor;
+        private final boolean status;
+        private final int[] codes;
+        private long pending;
+        private boolean codeRead;
+        private String code;
+        private String message;
+
+        /**
+         * @param paths   路径，最多 64 个
+         * @param visitor 命中时的回调
+         * @param status  是否在根对象上读取 code 和 message
+         * @param codes   表示成功的 code 值，只用于判断何时可以停止
+         */
+        Walker(JsonPath[] paths, Visitor visitor, boolean status, int[] codes) {
+            if (paths.length > 64) throw new IllegalArgumentException("Too many paths: " + paths.length);
+            this.paths = paths;
+            this.visitor = visitor;
+            this.status = status;
+            this.codes = codes;
+            this.pending = paths.length == 64 ? -1L : (1L << paths.length) - 1;
+        }
+
+        void read(JsonReader in) throws IOException {
+            walk(in, 0, pending);
+        }
+
+        /**
+         * 单值路径都已取到，code 已读取且成功时可以停止；code 失败时继续读取 message
+         */
+        private boolean done() {
+            return pending == 0 && (!status || codeRead && (message != null || isSuccess(code, codes)));
+        }
+
+        private void walk(JsonReader in, int depth, long mask) throws IOException {
+            long complete = 0;
+            for (int p = 0; p < paths.length; p++) if (has(mask, p) && paths[p].length() == depth) complete |= 1L << p;
+            if (complete == mask && Long.bitCount(mask) == 1) {
+                int p = Long.numberOfTrailingZeros(mask);
+                visitor.visit(p, in);
+                found(p);
+                return;
+            }
+            if (complete != 0) {
+                JsonElement element = JsonParser.parseReader(in);
+                for (int p = 0; p < paths.length; p++) if (has(mask, p)) select(element, p, depth);
+                return;
+            }
+            JsonToken token = in.peek();
+            if (token == JsonToken.BEGIN_OBJECT) {
+                in.beginObject();
+                while (in.hasNext()) {
+                    String name = in.nextName();
+                    long next = 0;
+                    for (int p = 0; p < paths.length; p++) if (has(mask & pending, p) && name.equals(paths[p].name(depth))) next |= 1L << p;
+                    if (next != 0) walk(in, depth + 1, next);
+                    else if (depth != 0 || !readStatus(in, name)) in.skipValue();
+                    if (done()) return;
+                }
+                in.endObject();
+            } else if (token == JsonToken.BEGIN_ARRAY) {
+                in.beginArray();
+                for (int i = 0; in.hasNext(); i++) {
+                    long next = 0;
+                    for (int p = 0; p < paths.length; p++) if (has(mask & pending, p) && matches(paths[p].index(depth), i)) next |= 1L << p;
+                    if (next == 0) in.skipValue();
+                    else walk(in, depth + 1, next);
+                    if (done()) return;
+                }
+                in.endArray();
+            } else {
+                in.skipValue();
+            }
+        }
+
+        private boolean readStatus(JsonReader in, String name) throws IOException {
+            if (!status) return false;
+            if (!codeRead && name.equals("code")) {
+                code = readString(in);
+                codeRead = true;
+                return true;
+            }
+            if (message == null && name.equals("message")) {
+                message = readString(in);
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * 一个路径是另一个的前缀时，较长的路径在已构建的子树上继续查找
+         */
+        private void select(JsonElement element, int p, int depth) {
+            JsonPath path = paths[p];
+            if (depth == path.length()) {
+                visitor.visit(p, element);
+                found(p);
+                return;
+            }
+            int index = path.index(depth);
+            if (index == JsonPath.KEY) {
+                if (!element.isJsonObject()) return;
+                JsonElement child = element.getAsJsonObject().get(path.name(depth));
+                if (child != null) select(child, p, depth + 1);
+            } else if (element.isJsonArray()) {
+                JsonArray array = element.getAsJsonArray();
+                if (index == JsonPath.EACH) for (JsonElement child : array) select(child, p, depth + 1);
+                else if (index < array.size()) select(array.get(index), p, depth + 1);
+            }
+        }
+
+        private void found(int p) {
+            if (!paths[p].isMulti()) pending &= ~(1L << p);
+        }
+
+        private static boolean has(long mask, int p) {
+            return (mask & (1L << p)) != 0;
+        }
+
+        private static boolean matches(int index, int i) {
+            return index == JsonPath.EACH || index == i;
+        }
+    }
+
+    private static String readString(JsonReader in) throws IOException {
+        JsonToken token = in.peek();
+        if (token == JsonToken.STRING || token == JsonToken.NUMBER) return in.nextString();
+        if (token == JsonToken.BOOLEAN) return Boolean.toString(in.nextBoolean());
+        in.skipValue();
+        return null;
+    }
+
+    private static JsonReader newReader(String json) {
+        JsonReader reader = Json.gson().newJsonReader(new StringReader(json));
+        reader.setNestingLimit(MAX_DEPTH);
+        return reader;
+    }
+
+    private static void checkSize(String json) throws ValidationException {
+        if (json == null || json.isEmpty()) {
+            throw new ValidationException("JSON string is null or empty");
+        }
+        if (json.length() > MAX_JSON_SIZE) {
+            throw new ValidationException("JSON too large: " + json.length() + " bytes (max: " + MAX_JSON_SIZE + ")");
+        }
+    }
+
+    private static ValidationException invalid(Exception e) {
+        if (String.valueOf(e.getMessage()).contains("nesting limit")) return new ValidationException("JSON too deeply nested (max: " + MAX_DEPTH + ")", e);
+        return new ValidationException("Invalid JSON syntax", e);
+    }
+
+    /**
+     * code 缺失或为 null 时视为成功
+     */
+    private static boolean isSuccess(String code, int[] codes) {
+        if (code == null) return true;
+        if (codes == null || codes.length == 0) codes = new int[]{0};
+        try {
+            int value = (int) Double.parseDouble(code.trim());
+            for (int ok : codes) if (ok == value) return true;
+        } catch (NumberFormatException ignored) {
+        }
+        return false;
+    }
+
+    private static void checkCode(String code, String message, int[] codes) throws ValidationException {
+        if (isSuccess(code, codes)) return;
+        throw new ValidationException("API returned error code: " + code + ", message: " + (message == null ? "Unknown error" : message));
+    }
+
+    /**
+     * 安全获取字符串字段
+     *
+     * @param obj JSON对象
+     * @param key 字段名
+     * @param defaultValue 默认值
+     * @return 字段值或默认值
+     */
+    public static String safeGetString(JsonObject obj, String key, String defaultValue) {
+        if (obj == null || !obj.has(key)) {
+            return defaultValue;
+        }
+
+        JsonElement element = obj.get(key);
+        if (element == null || !element.isJsonPrimitive()) {
+            return defaultValue;
+        }
+
+        try {
+            return element.getAsString();
+        } catch (Exception e) {
+            Log.w(TAG, "Failed to get string for key: " + key, e);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * 安全获取整数字段
+     *
+     * @param obj JSON对象
+     * @param key 字段名
+     * @param defaultValue 默认值
+     * @return 字段值或默认值
+     */
+    public static int safeGetInt(JsonObject obj, String key, int defaultValue) {
+        if (obj == null || !obj.has(key)) {
+            return defaultValue;
+        }
+
+        JsonElement element = obj.get(key);
+        if (element == null || !element.isJsonPrimitive()) {
+            return defaultValue;
+        }
+
+        try {
+            return element.getAsInt();
+        } catch (Exception e) {
+            Log.w(TAG, "Failed to get int for key: " + key, e);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * 安全获取布尔字段
+     *
+     * @param obj JSON对象
+     * @param key 字段名
+     * @param defaultValue 默认值
+     * @return 字段值或默认值
+     */
+    public static boolean safeGetBoolean(JsonObject obj, String key, boolean defaultValue) {
+        if (obj == null || !obj.has(key)) {
+            return defaultValue;
+        }
+
+        JsonElement element = obj.get(key);
+        if (element == null || !element.isJsonPrimitive()) {
+            return defaultValue;
+        }
+
+        try {
+            return element.getAsBoolean();
+        } catch (Exception e) {
+            Log.w(TAG, "Failed to get boolean for key: " + key, e);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * 安全获取 JsonObject 字段
+     *
+     * @param obj JSON对象
+     * @param key 字段名
+     * @return JsonObject 或 null
+     */
+    public static JsonObject safeGetObject(JsonObject obj, String key) {
+        if (obj == null || !obj.has(key)) {
+            return null;
+        }
+
+        JsonElement element = obj.get(key);
+        if (element == null || !element.isJsonObject()) {
+            return null;
+        }
+
+        return element.getAsJsonObject();
+    }
+
+    /**
+     * JSON 验证异常
+     */
+    public static class ValidationException extends Exception {
+        public ValidationException(String message) {
+            super(message);
+        }
+
+        public ValidationException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+}
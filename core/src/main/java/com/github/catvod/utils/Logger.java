@@ -0,0 +1,231 @@
+package com.github.catvod.utils;
+
+import com.github.catvod.platform.Log;
+import com.github.catvod.platform.Platform;
+
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 日志门面
+ * <p>
+ * 先检查级别再格式化：低于 {@link #setLevel(int)} 的日志直接返回，不拼接字符串。
+ * 消息用 {@code {}} 作占位符，最后一个参数是 {@link Throwable} 时作为异常输出（不占用占位符）。
+ * 0 ~ 2 个参数有单独的重载，级别不满足时不创建参数数组。
+ * </p>
+ * <p>
+ * 输出的日志同时写入内存中的环形缓冲区（最近 {@value #CAPACITY} 条），
+ * 可通过 {@link #dump()} 取出，爬虫中对应 {@code action("log")}。
+ * 频繁出现的警告用 {@link #wThrottled(String, Object...)}，同一条消息每分钟最多输出一次。
+ * </p>
+ *
+ * <h3>使用示例：</h3>
+ * <pre>
+ * Logger.d("Trying domain: {}", url);
+ * Logger.e("Failed to parse detail response for: {}", id, e);
+ * Logger.wThrottled("Response size unknown for URL: {}", request.url());
+ * </pre>
+ *
+ * @see Log
+ */
+public final class Logger {
+
+    private static final String TAG = "CatVod";
+
+    /**
+     * 缓冲区保留的日志条数
+     */
+    public static final int CAPACITY = 200;
+
+    /**
+     * 同一条限流警告的最小间隔
+     */
+    private static final long THROTTLE_MS = 60_000;
+
+    private static final long[] times = new long[CAPACITY];
+    private static final int[] priorities = new int[CAPACITY];
+    private static final String[] messages = new String[CAPACITY];
+    private static final Map<String, long[]> throttles = new ConcurrentHashMap<>();
+    private static volatile int level = Log.INFO;
+    private static int next;
+    private static int count;
+
+    private Logger() {
+    }
+
+    /**
+     * 设置最低输出级别，默认 {@link Log#INFO}
+     *
+     * @param priority {@link Log#VERBOSE} ~ {@link Log#ERROR}
+     */
+    public static void setLevel(int priority) {
+        level = priority;
+    }
+
+    public static boolean isLoggable(int priority) {
+        return priority >= level;
+    }
+
+    public static void d(String msg) {
+        if (level <= Log.DEBUG) log(Log.DEBUG, msg, null);
+    }
+
+    public static void d(String format, Object arg) {
+        if (level <= Log.DEBUG) log(Log.DEBUG, format, new Object[]{arg});
+    }
+
+    public static void d(String format, Object arg1, Object arg2) {
+        if (level <= Log.DEBUG) log(Log.DEBUG, format, new Object[]{arg1, arg2});
+    }
+
+    public static void d(String format, Object... args) {
+        if (level <= Log.DEBUG) log(Log.DEBUG, format, args);
+    }
+
+    public static void i(String msg) {
+        if (level <= Log.INFO) log(Log.INFO, msg, null);
+    }
+
+    public static void i(String format, Object arg) {
+        if (level <= Log.INFO) log(Log.INFO, format, new Object[]{arg});
+    }
+
+    public static void i(String format, Object arg1, Object arg2) {
+        if (level <= Log.INFO) log(Log.INFO, format, new Object[]{arg1, arg2});
+    }
+
+    public static void i(String format, Object... args) {
+        if (level <= Log.INFO) log(Log.INFO, format, args);
+    }
+
+    public static void w(String msg) {
+        if (level <= Log.WARN) log(Log.WARN, msg, null);
+    }
+
+    public static void w(String format, Object arg) {
+        if (level <= Log.WARN) log(Log.WARN, format, new Object[]{arg});
+    }
+
+    public static void w(String format, Object arg1, Object arg2) {
+        if (level <= Log.WARN) log(Log.WARN, format, new Object[]{arg1, arg2});
+    }
+
+    public static void w(String format, Object... args) {
+        if (level <= Log.WARN) log(Log.WARN, format, args);
+    }
+
+    public static void e(String msg) {
+        if (level <= Log.ERROR) log(Log.ERROR, msg, null);
+    }
+
+    public static void e(String format, Object arg) {
+        if (level <= Log.ERROR) log(Log.ERROR, format, new Object[]{arg});
+    }
+
+    public static void e(String format, Object arg1, Object arg2) {
+        if (level <= Log.ERROR) log(Log.ERROR, format, new Object[]{arg1, arg2});
+    }
+
+    public static void e(String format, Object... args) {
+        if (level <= Log.ERROR) log(Log.ERROR, format, args);
+    }
+
+    /**
+     * 限流警告
+     * <p>
+     * 以 format 为键，1 分钟内只输出第一次，期间被丢弃的次数附在下一次输出末尾。
+     * format 应为常量，参数放在占位符中。
+     * </p>
+     *
+     * @param format 消息模板
+     * @param args   参数
+     */
+    public static void wThrottled(String format, Object... args) {
+        if (level > Log.WARN) return;
+        long now = System.currentTimeMillis();
+        if (throttles.size() >= CAPACITY) throttles.clear();
+        long[] state = throttles.get(format);
+        if (state == null) {
+            long[] created = new long[]{Long.MIN_VALUE / 2, 0};
+            state = throttles.putIfAbsent(format, created);
+            if (state == null) state = created;
+        }
+        long suppressed;
+        synchronized (state) {
+            if (now - state[0] < THROTTLE_MS) {
+                state[1]++;
+                return;
+            }
+            suppressed = state[1];
+            state[0] = now;
+            state[1] = 0;
+        }
+        log(Log.WARN, suppressed == 0 ? format : format + " (suppressed " + suppressed + ")", args);
+    }
+
+    /**
+     * 取出缓冲区中的日志，按时间先后每行一条
+     *
+     * @return 日志文本，没有日志时为空字符串
+     */
+    public static synchronized String dump() {
+        SimpleDateFormat format = new SimpleDateFormat("MM-dd HH:mm:ss.SSS", Locale.US);
+        StringBuilder sb = new StringBuilder();
+        int start = (next - count + CAPACITY) % CAPACITY;
+        for (int i = 0; i < count; i++) {
+            int index = (start + i) % CAPACITY;
+            sb.append(format.format(new Date(times[index]))).append(' ').append(level(priorities[index])).append(' ').append(messages[index]).append('\n');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 清空缓冲区和限流状态
+     */
+    public static synchronized void clear() {
+        Arrays.fill(messages, null);
+        throttles.clear();
+        next = 0;
+        count = 0;
+    }
+
+    private static void log(int priority, String format, Object[] args) {
+        Throwable tr = args != null && args.length > 0 && args[args.length - 1] instanceof Throwable ? (Throwable) args[args.length - 1] : null;
+        String msg = format(format, args, tr == null ? (args == null ? 0 : args.length) : args.length - 1);
+        record(priority, tr == null ? msg : msg + " | " + tr);
+        Platform.get().log(priority, TAG, msg, tr);
+    }
+
+    private static synchronized void record(int priority, String msg) {
+        times[next] = System.currentTimeMillis();
+        priorities[next] = priority;
+        messages[next] = msg;
+        next = (next + 1) % CAPACITY;
+        if (count < CAPACITY) count++;
+    }
+
+    /**
+     * 依次用参数替换 {@code {}}，多余的占位符原样保留
+     */
+    static String format(String format, Object[] args, int length) {
+        if (format == null) return "null";
+        if (length == 0) return format;
+        StringBuilder sb = new StringBuilder(format.length() + 16 * length);
+        int start = 0;
+        for (int i = 0; i < length; i++) {
+            int index = format.indexOf("{}", start);
+            if (index < 0) break;
+            sb.append(format, start, index).append(args[i]);
+            start = index + 2;
+        }
+        return sb.append(format, start, format.length()).toString();
+    }
+
+    private static char level(int priority) {
+        return "??VDIWEA".charAt(priority >= 0 && priority < 8 ? priority : 0);
+    }
+}
@@ -0,0 +1,120 @@
+package com.github.catvod.utils;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 带过期时间的 LRU 缓存
+ * <p>
+ * 用于缓存短时间内会重复请求的接口响应（如同一视频的播放地址）。
+ * 条目超过存活时间后视为不存在；条目数超过容量时淘汰最久未访问的条目。线程安全。
+ * </p>
+ *
+ * <h3>使用示例：</h3>
+ * <pre>
+ * private final TtlCache&lt;Data&gt; cache = new TtlCache&lt;&gt;(32, TimeUnit.MINUTES.toMillis(10));
+ *
+ * Data data = cache.get(key);
+ * if (data == null) data = cache.put(key, fetch(key));
+ * </pre>
+ *
+ * @param <V> 值类型
+ */
+public class TtlCache<V> {
+
+    private final Map<String, Entry<V>> cache;
+    private final long ttl;
+
+    /**
+     * @param capacity 最多缓存的条目数
+     * @param ttl      默认存活时间（毫秒）
+     */
+    public TtlCache(int capacity, long ttl) {
+        this.ttl = ttl;
+        this.cache = new LinkedHashMap<String, Entry<V>>(capacity, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry<V>> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * @return 未过期的值，不存在或已过期时返回 null
+     */
+    public synchronized V get(String key) {
+        Entry<V> entry = cache.get(key);
+        if (entry == null) return null;
+        if (entry.expired(now())) {
+            cache.remove(key);
+            return null;
+        }
+        return entry.value;
+    }
+
+    /**
+     * 按默认存活时间缓存
+     *
+     * @return value
+     */
+    public V put(String key, V value) {
+        return put(key, value, ttl);
+    }
+
+    /**
+     * @param ttl 该条目的存活时间（毫秒）
+     * @return value
+     */
+    public synchronized V put(String key, V value, long ttl) {
+        cache.put(key, new Entry<>(value, now() + ttl));
+        return value;
+    }
+
+    public synchronized void remove(String key) {
+        cache.remove(key);
+    }
+
+    /**
+     * 移除 key 以 prefix 开头的全部条目
+     *
+     * @return 移除的条目数
+     */
+    public synchronized int removePrefix(String prefix) {
+        int count = 0;
+        Iterator<String> iterator = cache.keySet().iterator();
+        while (iterator.hasNext()) {
+            if (!iterator.next().startsWith(prefix)) continue;
+            iterator.remove();
+            count++;
+        }
+        return count;
+    }
+
+    public synchronized void clear() {
+        cache.clear();
+    }
+
+    public synchronized int size() {
+        return cache.size();
+    }
+
+    long now() {
+        return System.nanoTime() / 1_000_000;
+    }
+
+    private static final class Entry<V> {
+
+        private final V value;
+        private final long expiry;
+
+        Entry(V value, long expiry) {
+            this.value = value;
+            this.expiry = expiry;
+        }
+
+        boolean expired(long now) {
+            return now >= expiry;
+        }
+    }
+}
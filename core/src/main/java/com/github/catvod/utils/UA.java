@@ -0,0 +1,9 @@
+package com.github.catvod.utils;
+
+/**
+ * 常用 User-Agent
+ */
+public class UA {
+
+    public static final String CHROME = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/140.0.0.0 Safari/537.36";
+}
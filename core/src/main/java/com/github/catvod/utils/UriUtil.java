@@ -1,8 +1,6 @@
 package com.github.catvod.utils;
 
-import android.text.TextUtils;
-
-import androidx.annotation.Nullable;
+import com.github.catvod.platform.TextUtils;
 
 /**
  * Utility methods for manipulating URIs.
@@ -59,7 +57,7 @@ public final class UriUtil {
      * @param baseUri      The base URI.
      * @param referenceUri The reference URI to resolve.
      */
-    public static String resolve(@Nullable String baseUri, @Nullable String referenceUri) {
+    public static String resolve(String baseUri, String referenceUri) {
         StringBuilder uri = new StringBuilder();
 
         // Map null onto empty string, to make the following logic simpler.
@@ -0,0 +1,69 @@
+package com.github.catvod.bean;
+
+import com.github.catvod.utils.Json;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * BeanAdapters 单元测试
+ * <p>
+ * 手写 TypeAdapter 的输出必须与 Gson 反射版本完全一致。
+ * </p>
+ *
+ * @author CatVod Team
+ */
+public class BeanAdaptersTest {
+
+    private final Gson reflect = new GsonBuilder().disableHtmlEscaping().create();
+
+    private Result sample() {
+        Vod vod = new Vod("1", "名称<&>", "https://a.com/1.jpg?a=1&b=2", "HD", Vod.Style.rect(0.5625f));
+        vod.setVodPlayFrom("默认$$$备用");
+        vod.setVodPlayUrl("第1集$http://a.com/1.m3u8$$$01$http://b.com/1.m3u8");
+        vod.setVodContent("line1\nline2 \"quote\"");
+        LinkedHashMap<String, List<Filter>> filters = new LinkedHashMap<>();
+        filters.put("1", Arrays.asList(new Filter("year", "年份", Arrays.asList(new Filter.Value("全部", ""), new Filter.Value("2024")))));
+        Map<String, String> header = new HashMap<>();
+        header.put("Referer", "https://a.com/?x=1&y=2");
+        return Result.get().classes(Arrays.asList(new Class("1", "电影"), new Class("2", "剧集", "1"))).vod(Arrays.asList(vod, new Vod())).filters(filters).header(header).danmaku(Collections.singletonList(Danmaku.create().name("弹幕").url("http://a.com/d.xml"))).subs(Collections.singletonList(Sub.create().name("中文").url("http://a.com/a.srt").ext("srt").forced())).url(Arrays.asList("原画", "http://a.com/1.mp4")).parse().page(2, 5, 20, 100);
+    }
+
+    @Test
+    public void testResultMatchesReflection() {
+        Result result = sample();
+        assertEquals("Result 输出应与反射版本一致", reflect.toJson(result), result.string());
+    }
+
+    @Test
+    public void testEmptyResultMatchesReflection() {
+        assertEquals("空 Result 只输出 int 字段", reflect.toJson(Result.get()), Result.get().string());
+        assertEquals("{\"list\":[],\"msg\":\"err\",\"parse\":0,\"jx\":0}", Result.error("err"));
+    }
+
+    @Test
+    public void testRoundTrip() {
+        String json = sample().string();
+        assertEquals("反序列化后再序列化应不变", json, Result.objectFrom(json).string());
+        assertEquals("读取结果应与反射版本一致", reflect.toJson(reflect.fromJson(json, Result.class)), Result.objectFrom(json).string());
+    }
+
+    @Test
+    public void testLenientValues() {
+        // vod_id 为数字、未知字段、null 字段
+        Vod vod = Vod.objectFrom("{\"vod_id\":123,\"vod_name\":null,\"unknown\":{\"a\":[1,2]},\"style\":{\"type\":\"rect\",\"ratio\":\"0.75\"}}");
+        assertEquals("{\"vod_id\":\"123\",\"style\":{\"type\":\"rect\",\"ratio\":0.75}}", Json.gson().toJson(vod));
+        List<Class> classes = Class.arrayFrom("[{\"type_id\":1,\"type_name\":\"电影\"}]");
+        assertEquals("1", classes.get(0).getTypeId());
+    }
+}
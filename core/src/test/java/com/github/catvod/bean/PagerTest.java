@@ -0,0 +1,59 @@
+package com.github.catvod.bean;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Pager 单元测试
+ *
+ * @author CatVod Team
+ */
+public class PagerTest {
+
+    private List<Vod> items(int size) {
+        List<Vod> items = new ArrayList<>();
+        for (int i = 0; i < size; i++) items.add(new Vod(String.valueOf(i), "名称" + i, ""));
+        return items;
+    }
+
+    @Test
+    public void testPage() {
+        assertEquals(1, Pager.page(null));
+        assertEquals(1, Pager.page(""));
+        assertEquals(1, Pager.page("0"));
+        assertEquals(3, Pager.page(" 3"));
+    }
+
+    @Test
+    public void testSlice() {
+        List<Integer> items = Arrays.asList(1, 2, 3, 4, 5);
+        assertEquals(Arrays.asList(1, 2), Pager.slice(items, 1, 2));
+        assertEquals(Arrays.asList(5), Pager.slice(items, 3, 2));
+        assertTrue("超出范围应返回空列表", Pager.slice(items, 4, 2).isEmpty());
+        assertEquals(3, Pager.count(5, 2));
+        assertEquals("空列表也算 1 页", 1, Pager.count(0, 2));
+    }
+
+    @Test
+    public void testResultSlice() {
+        Result result = Result.objectFrom(Result.get().slice(items(250), 3, 100).string());
+        assertEquals("第 3 页应有 50 条", 50, result.getList().size());
+        assertTrue(Result.get().slice(items(250), 3, 100).string().contains("\"page\":3,\"pagecount\":3,\"limit\":100,\"total\":250"));
+    }
+
+    @Test
+    public void testEviction() {
+        Pager<Vod> pager = new Pager<>(2);
+        pager.put("a", items(1));
+        pager.put("b", items(1));
+        pager.get("a");
+        pager.put("c", items(1));
+        assertNotNull("最近访问的应保留", pager.get("a"));
+        assertNull("最久未访问的应淘汰", pager.get("b"));
+    }
+}
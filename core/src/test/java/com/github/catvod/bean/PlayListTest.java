@@ -0,0 +1,92 @@
+package com.github.catvod.bean;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * PlayList 单元测试
+ *
+ * @author CatVod Team
+ */
+public class PlayListTest {
+
+    @Test
+    public void testBuild() {
+        PlayList playList = PlayList.create().flag("线路1").add("第1集", "http://a.com/1.m3u8").add("第2集", "http://a.com/2.m3u8").flag("线路2").add("01", "id1");
+        assertEquals("线路1$$$线路2", playList.getFrom());
+        assertEquals("第1集$http://a.com/1.m3u8#第2集$http://a.com/2.m3u8$$$01$id1", playList.getUrl());
+        assertEquals(2, playList.size());
+    }
+
+    @Test
+    public void testEmptyFlagDropped() {
+        PlayList playList = PlayList.create().flag("空").flag("线路").add("1", "a").flag("尾部空");
+        assertEquals("没有剧集的线路应被丢弃", "线路", playList.getFrom());
+        assertEquals("1$a", playList.getUrl());
+        assertEquals("", PlayList.create().flag("空").getFrom());
+    }
+
+    @Test
+    public void testAddWithoutName() {
+        PlayList playList = PlayList.create().flag("直連").add("http://a.com/1.mp4").add("第2集", "http://a.com/2.mp4").add("http://a.com/3.mp4#t");
+        assertEquals("没有剧集名时只写播放 ID", "http://a.com/1.mp4#第2集$http://a.com/2.mp4#%!1http://a.com/3.mp4%23t", playList.getUrl());
+        assertEquals("http://a.com/3.mp4#t", PlayList.parse(playList.getFrom(), playList.getUrl()).get(0).getEpisodes().get(2).getId());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testAddWithoutFlag() {
+        PlayList.create().add("1", "a");
+    }
+
+    @Test
+    public void testEscape() {
+        String id = "http://a.com/1.mp4#t=10$x%23";
+        PlayList playList = PlayList.create().flag("线#路").add("第$1#集", id);
+        assertEquals("线＃路", playList.getFrom());
+        assertEquals("第＄1＃集$%!1http://a.com/1.mp4%23t=10%24x%2523", playList.getUrl());
+        assertEquals("转义应可逆", id, PlayList.unescape(PlayList.escape(id)));
+        assertSame("无需转义时返回原字符串", "abc", PlayList.escape("abc"));
+        assertSame("只含 % 的 ID 不转义", "a%20b", PlayList.escape("a%20b"));
+        assertEquals("含 *** 的 ID 需要转义", "a***b", PlayList.unescape(PlayList.escape("a***b")));
+        assertEquals("以前缀开头的 ID 需要转义", "%!1x", PlayList.unescape(PlayList.escape("%!1x")));
+        assertEquals("未知转义保持原样", "%2F%2", PlayList.unescape(PlayList.ESCAPED + "%2F%2"));
+    }
+
+    @Test
+    public void testLegacyId() {
+        assertEquals("旧 ID 中的 URL 编码不应被解码", "http://a.com/a%25b%23c%24.mp4", PlayList.unescape("http://a.com/a%25b%23c%24.mp4"));
+        assertEquals("旧 ID 中的 *** 还原为 #", "http://a.com/1.mp4#t=10", PlayList.unescape("http://a.com/1.mp4***t=10"));
+    }
+
+    @Test
+    public void testParseRoundTrip() {
+        PlayList playList = PlayList.create().flag("B站").add("P1", "1+2#3").add("P2", "a$b").flag("相关").add("R", "%");
+        List<PlayList.Flag> flags = PlayList.parse(playList.getFrom(), playList.getUrl());
+        assertEquals(2, flags.size());
+        assertEquals("B站", flags.get(0).getName());
+        assertEquals(2, flags.get(0).getEpisodes().size());
+        assertEquals("1+2#3", flags.get(0).getEpisodes().get(0).getId());
+        assertEquals("a$b", flags.get(0).getEpisodes().get(1).getId());
+        assertEquals("P2", flags.get(0).getEpisodes().get(1).getName());
+        assertEquals("%", flags.get(1).getEpisodes().get(0).getId());
+    }
+
+    @Test
+    public void testParseLenient() {
+        List<PlayList.Flag> flags = PlayList.parse("直連", "http://a.com/1.mp4##第2集$http://a.com/2.mp4");
+        assertEquals("无名称的剧集以地址作为名称，空段跳过", 2, flags.get(0).getEpisodes().size());
+        assertEquals("http://a.com/1.mp4", flags.get(0).getEpisodes().get(0).getName());
+        assertTrue(PlayList.parse("", "").isEmpty());
+    }
+
+    @Test
+    public void testSplit() {
+        assertEquals(Arrays.asList("a", "", "b", ""), PlayList.split("a~~~~~~b~~~", "~~~"));
+        assertEquals(Arrays.asList("1", "2", "16:80", "高清 1080P+:4K"), PlayList.split("1+2+16:80+高清 1080P+:4K", "+", 4));
+        assertEquals(Arrays.asList("abc"), PlayList.split("abc", "+", 4));
+    }
+}
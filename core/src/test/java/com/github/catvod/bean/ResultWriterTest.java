@@ -0,0 +1,70 @@
+package com.github.catvod.bean;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * ResultWriter 单元测试
+ * <p>
+ * 流式输出与 {@link Result} 的内容必须一致。
+ * </p>
+ *
+ * @author CatVod Team
+ */
+public class ResultWriterTest {
+
+    private List<Vod> items() {
+        List<Vod> items = new ArrayList<>();
+        for (int i = 0; i < 5; i++) items.add(new Vod(String.valueOf(i), "名称<" + i + ">", "", "备注", i % 2 == 0));
+        return items;
+    }
+
+    @Test
+    public void testPageMatchesResult() throws Exception {
+        ResultWriter writer = ResultWriter.create().list();
+        for (Vod item : items()) writer.vod(item);
+        String expected = Result.get().vod(items()).page().string();
+        String actual = writer.page().string();
+        assertEquals("字段集合应与 Result 一致", Result.objectFrom(expected).string(), Result.objectFrom(actual).string());
+        assertTrue("list 应连续写出", actual.startsWith("{\"list\":[{\"vod_id\":\"0\""));
+    }
+
+    @Test
+    public void testEmptyFolderTotal() throws Exception {
+        String expected = Result.get().slice(new ArrayList<>(), 1, 100).string();
+        String actual = ResultWriter.create().list().page(1, 100, 0).string();
+        assertEquals(Result.objectFrom(expected).string(), Result.objectFrom(actual).string());
+        assertTrue("空目录的 total 应为 0", actual.contains("\"total\":0"));
+        assertTrue(actual.contains("\"pagecount\":1"));
+    }
+
+    @Test
+    public void testEmptyList() throws Exception {
+        assertEquals("{\"list\":[],\"parse\":0,\"jx\":0}", ResultWriter.create().list().string());
+        assertEquals("{\"parse\":0,\"jx\":0}", ResultWriter.create().string());
+    }
+
+    @Test
+    public void testOutputStream() throws Exception {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        try (ResultWriter writer = ResultWriter.create(os)) {
+            writer.classes(Arrays.asList(new Class("1", "电影"))).vod(items()).msg("ok");
+        }
+        String json = new String(os.toByteArray(), StandardCharsets.UTF_8);
+        assertEquals(Result.get().classes(Arrays.asList(new Class("1", "电影"))).vod(items()).msg("ok").string(), json);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testClosed() throws Exception {
+        ResultWriter writer = ResultWriter.create();
+        writer.string();
+        writer.msg("late");
+    }
+}
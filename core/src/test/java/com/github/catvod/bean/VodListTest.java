@@ -0,0 +1,73 @@
+package com.github.catvod.bean;
+
+import com.github.catvod.utils.Image;
+import com.github.catvod.utils.Json;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * VodList 单元测试
+ *
+ * @author CatVod Team
+ */
+public class VodListTest {
+
+    private List<Vod> sample() {
+        List<Vod> items = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            Vod vod = new Vod(String.valueOf(i), "视频" + i, i % 2 == 0 ? Image.FOLDER : Image.VIDEO, "", i % 2 == 0);
+            if (i % 7 == 0) vod.setVodContent("简介" + i);
+            if (i == 3) vod.setStyle(Vod.Style.rect(0.5625f));
+            items.add(vod);
+        }
+        return items;
+    }
+
+    @Test
+    public void testSerializesLikeList() {
+        List<Vod> items = sample();
+        VodList list = new VodList(items);
+        assertEquals(items.size(), list.size());
+        assertEquals("序列化结果应与 ArrayList 相同", Json.gson().toJson(items), Json.gson().toJson(list));
+        assertEquals(Result.get().vod(items).page().string(), Result.get().vod(list).page().string());
+        assertEquals(Result.get().slice(items, 2, 20).string(), Result.get().slice(list, 2, 20).string());
+        assertEquals(Json.gson().toJson(items.get(3)), Json.gson().toJson(list.get(3)));
+    }
+
+    @Test
+    public void testStreamWriter() throws Exception {
+        List<Vod> items = sample();
+        assertEquals(Result.get().vod(items).string(), ResultWriter.create().vod(new VodList(items)).string());
+    }
+
+    @Test
+    public void testInterning() {
+        String json = Json.gson().toJson(sample());
+        VodList list = VodList.arrayFrom(json);
+        assertEquals(json, Json.gson().toJson(list));
+        assertSame("解析出的内置图片应指回常量", Image.FOLDER, list.get(0).get(3));
+        assertSame(Image.VIDEO, list.get(1).get(3));
+        assertSame("低基数字段应去重", list.get(0).get(12), list.get(2).get(12));
+        assertNotSame("vod_id 不去重", list.get(0).get(1), list.get(2).get(1));
+    }
+
+    @Test
+    public void testSetAndClear() {
+        VodList list = new VodList(sample());
+        Vod vod = new Vod("x", "新", Image.VIDEO);
+        list.set(5, vod);
+        assertEquals(Json.gson().toJson(vod), Json.gson().toJson(list.get(5)));
+        list.trimToSize();
+        list.add(new Vod("y", "追加", ""));
+        assertEquals(51, list.size());
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertEquals("[]", Json.gson().toJson(list));
+        assertTrue(VodList.arrayFrom("not json").isEmpty());
+    }
+}
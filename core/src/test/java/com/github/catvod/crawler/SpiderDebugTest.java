@@ -0,0 +1,36 @@
+package com.github.catvod.crawler;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * SpiderDebug 脱敏单元测试
+ *
+ * @author CatVod Team
+ */
+public class SpiderDebugTest {
+
+    @Test
+    public void testSanitize() {
+        assertEquals("{\"token\":\"abc1***z789\",\"data\":{}}", SpiderDebug.sanitize("{\"token\":\"abc123xyz789\",\"data\":{}}"));
+        assertEquals("{\"Password\" : \"******\"}", SpiderDebug.sanitize("{\"Password\" : \"12345678\"}"));
+        assertEquals("不足8位不脱敏", "{\"token\":\"short\"}", SpiderDebug.sanitize("{\"token\":\"short\"}"));
+        assertEquals("url?access_token=abcd***ijkl&x=1", SpiderDebug.sanitize("url?access_token=abcdefghijkl&x=1"));
+        assertEquals("Cookie: SESS***def; bili_jct=1", SpiderDebug.sanitize("Cookie: SESSDATA=0123456789abcdef; bili_jct=1"));
+        assertEquals("{\"u\":\"http://a?token=0123***6789&b=2\"}", SpiderDebug.sanitize("{\"u\":\"http://a?token=0123456789&b=2\"}"));
+    }
+
+    @Test
+    public void testSanitize_unchanged() {
+        String text = "{\"code\":200,\"data\":{\"content\":[{\"name\":\"a.mkv\"}]}}";
+        assertSame("没有敏感字段时返回原字符串", text, SpiderDebug.sanitize(text));
+    }
+
+    @Test
+    public void testSanitize_truncated() {
+        String text = "{\"token\":\"abcdefghijklmnop\"}";
+        assertEquals("截断处的值完全隐藏", "{\"token\":\"******...(28 chars)", SpiderDebug.sanitize(text, 14));
+        assertEquals("{\"tok...(28 chars)", SpiderDebug.sanitize(text, 5));
+    }
+}
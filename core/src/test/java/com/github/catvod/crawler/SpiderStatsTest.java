@@ -0,0 +1,50 @@
+package com.github.catvod.crawler;
+
+import com.github.catvod.utils.Json;
+import com.google.gson.JsonObject;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * SpiderStats 单元测试
+ *
+ * @author CatVod Team
+ */
+public class SpiderStatsTest {
+
+    @After
+    public void tearDown() {
+        SpiderStats.reset();
+    }
+
+    @Test
+    public void testSnapshot() {
+        SpiderStats stats = SpiderStats.get("bili");
+        assertSame(stats, SpiderStats.get("bili"));
+        long start = System.nanoTime();
+        stats.record("detail", start, 100);
+        stats.record("detail", start, 300);
+        stats.record("detail", start, 0);
+        stats.error("detail", start - 3_000_000_000L);
+        stats.hit("playurl");
+        stats.hit("playurl");
+        stats.miss("playurl");
+        SpiderStats.get(null).record("home", start, 1);
+
+        JsonObject root = Json.parse(SpiderStats.snapshot()).getAsJsonObject();
+        assertTrue("siteKey 为空时归入 default", root.has("default"));
+        JsonObject detail = root.getAsJsonObject("bili").getAsJsonObject("methods").getAsJsonObject("detail");
+        assertEquals(4, detail.get("count").getAsInt());
+        assertEquals(1, detail.get("errors").getAsInt());
+        assertEquals(1, detail.get("empty").getAsInt());
+        assertEquals("只统计成功且非空的结果", 200, detail.get("avgSize").getAsInt());
+        assertEquals("最慢的一次落在 <5s 的桶", 5000, detail.get("p99Ms").getAsInt());
+        assertTrue(detail.get("maxMs").getAsDouble() >= 3000);
+        assertEquals(14, detail.getAsJsonArray("histogram").size());
+        JsonObject cache = root.getAsJsonObject("bili").getAsJsonObject("caches").getAsJsonObject("playurl");
+        assertEquals(0.67, cache.get("hitRate").getAsDouble(), 0.001);
+    }
+}
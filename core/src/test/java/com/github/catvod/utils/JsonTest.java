@@ -0,0 +1,46 @@
+package com.github.catvod.utils;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Json 单元测试
+ *
+ * @author CatVod Team
+ */
+public class JsonTest {
+
+    private static final String NAV = "{\"code\":0,\"data\":{\"isLogin\":true,\"face\":{\"url\":\"x\"},\"wbi_img\":{\"img_url\":\"a.png\",\"sub_url\":\"b.png\"},\"list\":[{\"id\":1},{\"id\":2},{\"id\":3}]}}";
+
+    @Test
+    public void testExtract() {
+        JsonElement[] values = Json.extract(NAV, JsonPath.compile("data.isLogin"), JsonPath.compile("data.wbi_img"), JsonPath.compile("data.list[1].id"), JsonPath.compile("data.missing"));
+        assertTrue(Json.safeGetBoolean(values[0], false));
+        assertEquals("a.png", values[1].getAsJsonObject().get("img_url").getAsString());
+        assertEquals(2, values[2].getAsInt());
+        assertNull("路径不存在时为 null", values[3]);
+    }
+
+    @Test
+    public void testExtract_multiAndPrefix() {
+        JsonElement[] values = Json.extract(NAV, JsonPath.compile("data.list[].id"), JsonPath.compile("data.list"), JsonPath.compile("data.list[0].id"));
+        JsonArray ids = values[0].getAsJsonArray();
+        assertEquals(3, ids.size());
+        assertEquals(3, ids.get(2).getAsInt());
+        assertEquals(3, values[1].getAsJsonArray().size());
+        assertEquals("前缀路径的子路径应从已构建的子树中取值", 1, values[2].getAsInt());
+    }
+
+    @Test
+    public void testExtract_stopsEarly() {
+        // 取到值后不再读取后面的内容，即使后面不是合法 JSON
+        String json = "{\"data\":\"ok\",\"rest\":[1,2,}";
+        assertEquals("ok", Json.safeGetString(Json.extract(json, JsonPath.compile("data"))[0], ""));
+        assertNull(Json.extract(json, JsonPath.compile("rest[2]"))[0]);
+        assertNull(Json.extract("", JsonPath.compile("data"))[0]);
+    }
+}
@@ -5,6 +5,9 @@ import com.google.gson.JsonObject;
 
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.List;
+
 import static org.junit.Assert.*;
 
 /**
@@ -176,4 +179,64 @@ public class JsonValidatorTest {
         assertTrue("应该包含中文字符", result.contains("测试中文"));
         assertTrue("应该包含换行符", result.contains("\n"));
     }
+
+    @Test
+    public void testValidateResponse_successCodes() throws Exception {
+        String json = "{\"code\":200,\"message\":\"success\",\"data\":{}}";
+        assertNotNull("200 在成功列表中时应通过", JsonValidator.validateResponse(json, "object", 200));
+        try {
+            JsonValidator.validateResponse(json, "object");
+            fail("默认只接受 code 0");
+        } catch (JsonValidator.ValidationException e) {
+            assertTrue(e.getMessage().contains("success"));
+        }
+    }
+
+    @Test(expected = JsonValidator.ValidationException.class)
+    public void testValidateResponse_tooDeep() throws Exception {
+        JsonValidator.validateResponse("[".repeat(50) + "]".repeat(50), "array");
+    }
+
+    @Test
+    public void testBindList() throws Exception {
+        String json = "{\"code\":200,\"message\":\"success\",\"data\":{\"skip\":{\"a\":[1,2]},\"content\":[{\"name\":\"a\",\"size\":1},{\"name\":\"b\",\"size\":2}],\"total\":2}}";
+        List<Item> items = JsonValidator.bindList(json, "data.content[]", Item.class, 200);
+        assertEquals(2, items.size());
+        assertEquals("b", items.get(1).name);
+        assertEquals("省略 [] 时自动补上", 2, JsonValidator.bindList(json, "data.content", Item.class, 200).size());
+        assertTrue("路径不存在时返回空列表", JsonValidator.bindList(json, "data.files[]", Item.class, 200).isEmpty());
+        assertEquals(Arrays.asList("a", "b"), JsonValidator.bindList(json, "data.content[].name", String.class, 200));
+    }
+
+    @Test
+    public void testBind() throws Exception {
+        String json = "{\"Status\":0,\"Answer\":[{\"data\":\"x\"},{\"data\":\"y\"}]}";
+        assertEquals("y", JsonValidator.bind(json, "Answer[1].data", String.class));
+        assertNull("路径不存在时返回 null", JsonValidator.bind(json, "Answer[5].data", String.class));
+        assertEquals(Integer.valueOf(3), JsonValidator.bind("{\"data\":{\"total\":3},\"code\":0}", "data.total", Integer.class));
+        assertEquals("x", JsonValidator.bind("[{\"data\":\"x\"}]", "[0].data", String.class));
+    }
+
+    @Test
+    public void testBind_errorCode() {
+        // code 在 data 之后，也应在同一遍中检查
+        String json = "{\"data\":{\"token\":\"t\"},\"code\":401,\"message\":\"token is expired\"}";
+        try {
+            JsonValidator.bind(json, "data.token", String.class, 200);
+            fail("code 401 应验证失败");
+        } catch (JsonValidator.ValidationException e) {
+            assertTrue(e.getMessage().contains("401"));
+            assertTrue(e.getMessage().contains("token is expired"));
+        }
+    }
+
+    @Test(expected = JsonValidator.ValidationException.class)
+    public void testBind_invalidJson() throws Exception {
+        JsonValidator.bindList("{\"data\":{\"content\":[{\"name\":}", "data.content[]", Item.class);
+    }
+
+    static class Item {
+        String name;
+        long size;
+    }
 }
@@ -0,0 +1,64 @@
+package com.github.catvod.utils;
+
+import com.github.catvod.platform.Log;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Logger 单元测试
+ *
+ * @author CatVod Team
+ */
+public class LoggerTest {
+
+    @After
+    public void tearDown() {
+        Logger.setLevel(Log.INFO);
+        Logger.clear();
+    }
+
+    @Test
+    public void testFormat() {
+        assertEquals("a=1, b=2", Logger.format("a={}, b={}", new Object[]{1, 2}, 2));
+        assertEquals("多余的占位符原样保留", "a=1, b={}", Logger.format("a={}, b={}", new Object[]{1}, 1));
+        assertEquals("a=null", Logger.format("a={}", new Object[]{null}, 1));
+        assertEquals("plain", Logger.format("plain", new Object[]{1}, 1));
+    }
+
+    @Test
+    public void testLevelAndDump() {
+        Logger.clear();
+        Logger.d("hidden {}", 1);
+        Logger.i("shown {}", 2);
+        Logger.e("failed {}", "x", new IllegalStateException("boom"));
+        String dump = Logger.dump();
+        assertFalse("低于级别的日志不记录", dump.contains("hidden"));
+        assertTrue(dump.contains(" I shown 2\n"));
+        assertTrue("最后一个参数为异常时不占用占位符", dump.contains(" E failed x | java.lang.IllegalStateException: boom\n"));
+        Logger.setLevel(Log.DEBUG);
+        Logger.d("now {}", 3);
+        assertTrue(Logger.dump().contains(" D now 3\n"));
+    }
+
+    @Test
+    public void testRingBuffer() {
+        Logger.clear();
+        for (int i = 0; i < Logger.CAPACITY + 5; i++) Logger.i("line {}", i);
+        String[] lines = Logger.dump().split("\n");
+        assertEquals(Logger.CAPACITY, lines.length);
+        assertTrue("只保留最近的日志", lines[0].endsWith("line 5"));
+        assertTrue(lines[lines.length - 1].endsWith("line " + (Logger.CAPACITY + 4)));
+    }
+
+    @Test
+    public void testThrottled() {
+        Logger.clear();
+        for (int i = 0; i < 10; i++) Logger.wThrottled("unknown size {}", i);
+        String dump = Logger.dump();
+        assertTrue(dump.contains("unknown size 0"));
+        assertFalse("间隔内的重复警告被丢弃", dump.contains("unknown size 1"));
+    }
+}
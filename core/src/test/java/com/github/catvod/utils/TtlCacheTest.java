@@ -0,0 +1,47 @@
+package com.github.catvod.utils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * TtlCache 单元测试
+ *
+ * @author CatVod Team
+ */
+public class TtlCacheTest {
+
+    @Test
+    public void testExpiry() {
+        TtlCache<String> cache = new TtlCache<>(4, 60_000);
+        assertEquals("v", cache.put("a", "v"));
+        assertEquals("v", cache.get("a"));
+        cache.put("b", "v", 0);
+        assertNull("过期后视为不存在", cache.get("b"));
+        assertEquals("过期条目在读取时移除", 1, cache.size());
+        assertNull(cache.get("missing"));
+    }
+
+    @Test
+    public void testLru() {
+        TtlCache<Integer> cache = new TtlCache<>(2, 60_000);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a");
+        cache.put("c", 3);
+        assertNull("淘汰最久未访问的条目", cache.get("b"));
+        assertEquals(Integer.valueOf(1), cache.get("a"));
+        assertEquals(Integer.valueOf(3), cache.get("c"));
+    }
+
+    @Test
+    public void testRemovePrefix() {
+        TtlCache<Integer> cache = new TtlCache<>(8, 60_000);
+        cache.put("drive\n/a\n", 1);
+        cache.put("drive\n/a/b\n", 2);
+        cache.put("drive\n/ab\n", 3);
+        assertEquals(2, cache.removePrefix("drive\n/a/") + cache.removePrefix("drive\n/a\n"));
+        assertNull(cache.get("drive\n/a/b\n"));
+        assertEquals(Integer.valueOf(3), cache.get("drive\n/ab\n"));
+    }
+}